@@ -6,10 +6,8 @@ import com.blamejared.crafttweaker_annotation_processors.processors.document.con
 import com.blamejared.crafttweaker_annotation_processors.processors.document.conversion.mods.KnownModList;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.file.DocsJsonWriter;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.file.PageWriter;
+import com.blamejared.crafttweaker_annotation_processors.processors.util.classpath.KnownTypeIndex;
 import com.sun.source.util.Trees;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -64,7 +62,7 @@ public class DocumentProcessor extends AbstractCraftTweakerProcessor {
         
         super.setupDependencyContainer();
         setupTrees(processingEnv);
-        setupReflections();
+        setupKnownTypeIndex();
     }
     
     @Override
@@ -91,16 +89,10 @@ public class DocumentProcessor extends AbstractCraftTweakerProcessor {
         return false;
     }
     
-    private void setupReflections() {
+    private void setupKnownTypeIndex() {
         
-        final ConfigurationBuilder configuration = new ConfigurationBuilder().addUrls(ClasspathHelper
-                        .forJavaClassPath())
-                .addClassLoaders(ClasspathHelper.contextClassLoader(), ClasspathHelper.staticClassLoader(), getClass()
-                        .getClassLoader())
-                .addUrls(ClasspathHelper.forClassLoader());
-        
-        final Reflections reflections = new Reflections(configuration);
-        dependencyContainer.addInstanceAs(reflections, Reflections.class);
+        final KnownTypeIndex knownTypeIndex = KnownTypeIndex.forClasspath(getClass().getClassLoader());
+        dependencyContainer.addInstanceAs(knownTypeIndex, KnownTypeIndex.class);
     }
     
     private void setupTrees(ProcessingEnvironment processingEnv) {
@@ -6,10 +6,12 @@ import com.blamejared.crafttweaker_annotation_processors.processors.util.files.D
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 
 public class PageWriter {
@@ -50,11 +52,25 @@ public class PageWriter {
         }
     }
     
+    /**
+     * Pages are written in parallel, since they are fully converted by now and each one is written to its own files.
+     */
     private void writePages() throws IOException {
         
-        for(DocumentationPage page : documentRegistry.getAllPages()) {
+        try {
+            documentRegistry.getAllPages().parallelStream().forEach(this::writePageAndMeta);
+        } catch(UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+    
+    private void writePageAndMeta(DocumentationPage page) {
+        
+        try {
             writePage(page);
             writeMeta(page);
+        } catch(IOException exception) {
+            throw new UncheckedIOException(exception);
         }
     }
     
@@ -82,21 +98,22 @@ public class PageWriter {
     private void ensureDirectoryExistsFor(File file) {
         
         final File parentFile = file.getParentFile();
-        if(!parentFile.exists() && !parentFile.mkdirs()) {
+        //Checked after mkdirs, since other pages may create the same directory at the same time
+        if(!parentFile.mkdirs() && !parentFile.isDirectory()) {
             throw new IllegalArgumentException("Could not create parent file for " + file);
         }
     }
     
     private void writePageInfoAt(DocumentationPage page, File file) throws IOException {
         
-        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(new FileWriter(file)))) {
+        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(new BufferedWriter(new FileWriter(file))))) {
             page.write(writer);
         }
     }
     
     private void writePageMetaAt(DocumentationPage page, File file) throws IOException {
         
-        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(new FileWriter(file)))) {
+        try(final PageOutputWriter writer = new PageOutputWriter(new PrintWriter(new BufferedWriter(new FileWriter(file))))) {
             page.writeMeta(writer, GSON);
         }
     }
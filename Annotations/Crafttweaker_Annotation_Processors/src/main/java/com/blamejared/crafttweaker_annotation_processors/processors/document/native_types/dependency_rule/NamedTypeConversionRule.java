@@ -4,10 +4,10 @@ import com.blamejared.crafttweaker_annotation_processors.processors.document.pag
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.info.TypePageInfo;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.type.AbstractTypeInfo;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.type.TypePageTypeInfo;
+import com.blamejared.crafttweaker_annotation_processors.processors.util.classpath.KnownTypeIndex;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import org.jetbrains.annotations.NotNull;
 import org.openzen.zencode.java.ZenCodeType;
-import org.reflections.Reflections;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
@@ -19,12 +19,12 @@ import java.util.stream.Collectors;
 
 public class NamedTypeConversionRule implements ModDependencyConversionRule {
     
-    private final Reflections reflections;
+    private final KnownTypeIndex knownTypeIndex;
     private final Elements elements;
     
-    public NamedTypeConversionRule(Reflections reflections, Elements elements) {
+    public NamedTypeConversionRule(KnownTypeIndex knownTypeIndex, Elements elements) {
         
-        this.reflections = reflections;
+        this.knownTypeIndex = knownTypeIndex;
         this.elements = elements;
     }
     
@@ -81,7 +81,7 @@ public class NamedTypeConversionRule implements ModDependencyConversionRule {
     
     private Set<Class<?>> getClasses() {
         
-        return reflections.getTypesAnnotatedWith(ZenCodeType.Name.class, true);
+        return knownTypeIndex.getTypesAnnotatedWith(ZenCodeType.Name.class);
     }
     
 }
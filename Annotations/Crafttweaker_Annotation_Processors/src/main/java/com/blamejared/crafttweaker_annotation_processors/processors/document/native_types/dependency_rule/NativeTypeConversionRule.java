@@ -5,10 +5,10 @@ import com.blamejared.crafttweaker_annotation_processors.processors.document.pag
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.info.TypePageInfo;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.type.AbstractTypeInfo;
 import com.blamejared.crafttweaker_annotation_processors.processors.document.page.type.TypePageTypeInfo;
+import com.blamejared.crafttweaker_annotation_processors.processors.util.classpath.KnownTypeIndex;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import org.jetbrains.annotations.NotNull;
-import org.reflections.Reflections;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
@@ -21,13 +21,13 @@ import java.util.stream.Collectors;
 
 public class NativeTypeConversionRule implements ModDependencyConversionRule {
     
-    private final Reflections reflections;
+    private final KnownTypeIndex knownTypeIndex;
     private final Types typeUtils;
     private final ClassTypeConverter classTypeConverter;
     
-    public NativeTypeConversionRule(Reflections reflections, Types typeUtils, ClassTypeConverter classTypeConverter) {
+    public NativeTypeConversionRule(KnownTypeIndex knownTypeIndex, Types typeUtils, ClassTypeConverter classTypeConverter) {
         
-        this.reflections = reflections;
+        this.knownTypeIndex = knownTypeIndex;
         this.typeUtils = typeUtils;
         this.classTypeConverter = classTypeConverter;
     }
@@ -89,7 +89,7 @@ public class NativeTypeConversionRule implements ModDependencyConversionRule {
     
     private Set<Class<?>> getNativeExpansionClasses() {
         
-        return reflections.getTypesAnnotatedWith(NativeTypeRegistration.class);
+        return knownTypeIndex.getTypesAnnotatedWith(NativeTypeRegistration.class);
     }
     
     private boolean isDocumented(Class<?> nativeRegistrationClass) {
@@ -0,0 +1,166 @@
+package com.blamejared.crafttweaker_annotation_processors.processors.util.classpath;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Knows which types on the classpath are annotated with which annotations.
+ *
+ * Each jar on the classpath is only scanned once per JVM, as long as it does not change, and the result is shared
+ * between all processors and all compilations that run in that JVM (e.g. in the Gradle daemon). Directories are scanned
+ * again for each index, since they are usually the outputs of other projects in the same build that change often.
+ */
+public class KnownTypeIndex {
+    
+    private static final Map<File, CachedEntry> CACHE = new ConcurrentHashMap<>();
+    
+    private final ClassLoader[] classLoaders;
+    private final Map<String, Set<String>> typesByAnnotation;
+    private final Map<Class<? extends Annotation>, Set<Class<?>>> loadedTypes = new HashMap<>();
+    
+    private KnownTypeIndex(ClassLoader[] classLoaders, Map<String, Set<String>> typesByAnnotation) {
+        
+        this.classLoaders = classLoaders;
+        this.typesByAnnotation = typesByAnnotation;
+    }
+    
+    /**
+     * Creates an index of the same classpath that was scanned before, the java classpath and the given class loaders.
+     */
+    public static KnownTypeIndex forClasspath(ClassLoader... additionalClassLoaders) {
+        
+        final ClassLoader[] classLoaders = getClassLoaders(additionalClassLoaders);
+        final Map<String, Set<String>> typesByAnnotation = new HashMap<>();
+        for(File entry : getClasspathEntries(classLoaders)) {
+            getTypesByAnnotation(entry).forEach((annotation, types) -> typesByAnnotation.computeIfAbsent(annotation, it -> new LinkedHashSet<>())
+                    .addAll(types));
+        }
+        return new KnownTypeIndex(classLoaders, typesByAnnotation);
+    }
+    
+    /**
+     * Gets all types on the classpath that are directly annotated with the given annotation.
+     * Types that cannot be loaded are skipped.
+     */
+    public synchronized Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        
+        return loadedTypes.computeIfAbsent(annotationClass, this::loadTypesAnnotatedWith);
+    }
+    
+    private Set<Class<?>> loadTypesAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        
+        final Set<String> typeNames = typesByAnnotation.getOrDefault(annotationClass.getName(), Collections.emptySet());
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        for(String typeName : typeNames) {
+            final Class<?> type = loadClass(typeName);
+            if(type != null && type.isAnnotationPresent(annotationClass)) {
+                result.add(type);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private Class<?> loadClass(String typeName) {
+        
+        for(ClassLoader classLoader : classLoaders) {
+            try {
+                return Class.forName(typeName, false, classLoader);
+            } catch(ClassNotFoundException | LinkageError ignored) {
+            }
+        }
+        return null;
+    }
+    
+    private static ClassLoader[] getClassLoaders(ClassLoader... additionalClassLoaders) {
+        
+        final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+        classLoaders.add(ClasspathHelper.contextClassLoader());
+        classLoaders.add(ClasspathHelper.staticClassLoader());
+        classLoaders.addAll(List.of(additionalClassLoaders));
+        classLoaders.remove(null);
+        return classLoaders.toArray(ClassLoader[]::new);
+    }
+    
+    private static Set<File> getClasspathEntries(ClassLoader[] classLoaders) {
+        
+        final Set<File> entries = new LinkedHashSet<>();
+        addClasspathEntries(ClasspathHelper.forJavaClassPath(), entries);
+        addClasspathEntries(ClasspathHelper.forClassLoader(classLoaders), entries);
+        return entries;
+    }
+    
+    private static void addClasspathEntries(Collection<URL> urls, Set<File> entries) {
+        
+        for(URL url : urls) {
+            if(!"file".equals(url.getProtocol())) {
+                continue;
+            }
+            try {
+                final File file = new File(url.toURI()).getAbsoluteFile();
+                if(file.exists()) {
+                    entries.add(file);
+                }
+            } catch(URISyntaxException | IllegalArgumentException ignored) {
+            }
+        }
+    }
+    
+    private static Map<String, Set<String>> getTypesByAnnotation(File entry) {
+        
+        if(entry.isDirectory()) {
+            return scan(entry);
+        }
+        
+        final CachedEntry cached = CACHE.get(entry);
+        if(cached != null && cached.isUpToDate(entry)) {
+            return cached.typesByAnnotation();
+        }
+        
+        final CachedEntry scanned = new CachedEntry(entry.lastModified(), entry.length(), scan(entry));
+        CACHE.put(entry, scanned);
+        return scanned.typesByAnnotation();
+    }
+    
+    private static Map<String, Set<String>> scan(File entry) {
+        
+        try {
+            final ConfigurationBuilder configuration = new ConfigurationBuilder().addUrls(entry.toURI().toURL())
+                    .setScanners(Scanners.TypesAnnotated)
+                    .setParallel(false);
+            final Reflections reflections = new Reflections(configuration);
+            final Map<String, Set<String>> scanned = reflections.getStore()
+                    .getOrDefault(Scanners.TypesAnnotated.index(), Collections.emptyMap());
+            final Map<String, Set<String>> result = new HashMap<>();
+            scanned.forEach((annotation, types) -> result.put(annotation, Set.copyOf(types)));
+            return Collections.unmodifiableMap(result);
+        } catch(Exception exception) {
+            // A single broken entry should not break the whole index
+            return Collections.emptyMap();
+        }
+    }
+    
+    private record CachedEntry(long lastModified, long length, Map<String, Set<String>> typesByAnnotation) {
+        
+        boolean isUpToDate(File entry) {
+            
+            return lastModified == entry.lastModified() && length == entry.length();
+        }
+        
+    }
+    
+}
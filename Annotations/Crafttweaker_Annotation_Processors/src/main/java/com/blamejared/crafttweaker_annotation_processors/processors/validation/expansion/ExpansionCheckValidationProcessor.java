@@ -1,14 +1,12 @@
 package com.blamejared.crafttweaker_annotation_processors.processors.validation.expansion;
 
 import com.blamejared.crafttweaker_annotation_processors.processors.AbstractCraftTweakerProcessor;
+import com.blamejared.crafttweaker_annotation_processors.processors.util.classpath.KnownTypeIndex;
 import com.blamejared.crafttweaker_annotation_processors.processors.validation.expansion.info.KnownTypeRegistry;
 import com.blamejared.crafttweaker_annotation_processors.processors.validation.expansion.validator.ExpansionInfoValidator;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import com.blamejared.crafttweaker_annotations.annotations.TypedExpansion;
 import org.openzen.zencode.java.ZenCodeType;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.TypeElement;
@@ -31,19 +29,13 @@ public class ExpansionCheckValidationProcessor extends AbstractCraftTweakerProce
     protected void setupDependencyContainer() {
         
         super.setupDependencyContainer();
-        setupReflections();
+        setupKnownTypeIndex();
     }
     
-    private void setupReflections() {
+    private void setupKnownTypeIndex() {
         
-        final ConfigurationBuilder configuration = new ConfigurationBuilder().addUrls(ClasspathHelper
-                        .forJavaClassPath())
-                .addClassLoaders(ClasspathHelper.contextClassLoader(), ClasspathHelper.staticClassLoader(), getClass()
-                        .getClassLoader())
-                .addUrls(ClasspathHelper.forClassLoader());
-        
-        final Reflections reflections = new Reflections(configuration);
-        dependencyContainer.addInstanceAs(reflections, Reflections.class);
+        final KnownTypeIndex knownTypeIndex = KnownTypeIndex.forClasspath(getClass().getClassLoader());
+        dependencyContainer.addInstanceAs(knownTypeIndex, KnownTypeIndex.class);
     }
     
     @Override
@@ -1,9 +1,9 @@
 package com.blamejared.crafttweaker_annotation_processors.processors.validation.expansion.info;
 
+import com.blamejared.crafttweaker_annotation_processors.processors.util.classpath.KnownTypeIndex;
 import com.blamejared.crafttweaker_annotation_processors.processors.util.dependencies.IHasPostCreationCall;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import org.openzen.zencode.java.ZenCodeType;
-import org.reflections.Reflections;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
@@ -19,7 +19,7 @@ import java.util.stream.Stream;
 public class KnownTypeRegistry implements IHasPostCreationCall {
     
     private final Elements elementUtils;
-    private final Reflections reflections;
+    private final KnownTypeIndex knownTypeIndex;
     
     private final Collection<TypeElement> namedTypes = new HashSet<>();
     private final Collection<TypeElement> nativeTypes = new HashSet<>();
@@ -29,10 +29,10 @@ public class KnownTypeRegistry implements IHasPostCreationCall {
     private final Collection<TypeElement> nativeTypesFromDependencies = new HashSet<>();
     private final Collection<TypeElement> namedTypesFromDependencies = new HashSet<>();
     
-    public KnownTypeRegistry(Elements elementUtils, Reflections reflections) {
+    public KnownTypeRegistry(Elements elementUtils, KnownTypeIndex knownTypeIndex) {
         
         this.elementUtils = elementUtils;
-        this.reflections = reflections;
+        this.knownTypeIndex = knownTypeIndex;
     }
     
     
@@ -133,7 +133,7 @@ public class KnownTypeRegistry implements IHasPostCreationCall {
     
     private void initTypesFromDependencies(Class<? extends Annotation> annotationClass, Collection<TypeElement> resultCollection) {
         
-        final List<TypeElement> result = reflections.getTypesAnnotatedWith(annotationClass, true)
+        final List<TypeElement> result = knownTypeIndex.getTypesAnnotatedWith(annotationClass)
                 .stream()
                 .map(Class::getCanonicalName)
                 .map(elementUtils::getTypeElement)
@@ -4,6 +4,7 @@ plugins {
     `maven-publish`
     id("com.blamejared.modtemplate")
     id("org.spongepowered.gradle.vanilla") version "0.2.1-SNAPSHOT"
+    id("me.champeau.jmh") version "0.6.6"
 }
 val modVersion: String by project
 val minecraftVersion: String by project
@@ -51,6 +52,21 @@ dependencies {
     }
 }
 
+sourceSets {
+    named("jmh") {
+        compileClasspath += sourceSets.main.get().runtimeClasspath
+        runtimeClasspath += sourceSets.main.get().runtimeClasspath
+    }
+}
+
+jmh {
+    jmhVersion.set("1.34")
+    // Allows running a subset, e.g. `gradlew :Common:jmh -PjmhIncludes=ShapelessRecipeBenchmark`
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes").toString())
+    }
+}
+
 tasks.processResources {
     outputs.upToDateWhen { false }
     dependsOn(":StdLibs:zipItUp")
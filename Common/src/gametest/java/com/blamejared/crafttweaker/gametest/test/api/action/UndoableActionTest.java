@@ -0,0 +1,40 @@
+package com.blamejared.crafttweaker.gametest.test.api.action;
+
+import com.blamejared.crafttweaker.api.action.base.IUndoableAction;
+import com.blamejared.crafttweaker.api.action.villager.ActionRemoveWanderingTrade;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.npc.VillagerTrades;
+
+@CraftTweakerGameTestHolder
+public class UndoableActionTest implements CraftTweakerGameTest {
+    
+    private static final int LEVEL = 1000;
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void removedTradesAreRestoredOnceAfterReloadingTwice(GameTestHelper helper) {
+        //Arrange
+        final VillagerTrades.ItemListing trade = (trader, random) -> null;
+        VillagerTrades.WANDERING_TRADER_TRADES.put(LEVEL, new VillagerTrades.ItemListing[] {trade});
+        final IUndoableAction action = new ActionRemoveWanderingTrade(LEVEL, it -> it == trade);
+        
+        try {
+            //Act
+            for(int reload = 0; reload < 2; reload++) {
+                action.apply();
+                assertThat(VillagerTrades.WANDERING_TRADER_TRADES.get(LEVEL)).isEmpty();
+                action.undo();
+            }
+            
+            //Assert
+            assertThat(VillagerTrades.WANDERING_TRADER_TRADES.get(LEVEL)).asList().containsExactly(trade);
+        } finally {
+            VillagerTrades.WANDERING_TRADER_TRADES.remove(LEVEL);
+        }
+    }
+    
+}
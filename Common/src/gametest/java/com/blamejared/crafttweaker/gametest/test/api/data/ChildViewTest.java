@@ -0,0 +1,180 @@
+package com.blamejared.crafttweaker.gametest.test.api.data;
+
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+
+import java.util.Map;
+
+@CraftTweakerGameTestHolder
+public class ChildViewTest implements CraftTweakerGameTest {
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapReusesViewOfUnchangedEntry(GameTestHelper helper) {
+        //Arrange
+        final MapData data = new MapData(Map.of("child", new MapData(Map.of("value", new IntData(1)))));
+        
+        //Act
+        final IData first = data.getAt("child");
+        final IData second = data.getAt("child");
+        
+        //Assert
+        assertThat(second).isSameInstanceAs(first);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapViewIsReplacedAfterPut(GameTestHelper helper) {
+        //Arrange
+        final MapData data = new MapData(Map.of("value", new IntData(1)));
+        final IData before = data.getAt("value");
+        
+        //Act
+        data.put("value", new IntData(2));
+        final IData after = data.getAt("value");
+        
+        //Assert
+        assertThat(asInt(before)).isEqualTo(1);
+        assertThat(asInt(after)).isEqualTo(2);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapViewIsReplacedAfterWriteThroughInternal(GameTestHelper helper) {
+        //Arrange
+        final MapData data = new MapData(Map.of("child", new MapData(Map.of("value", new IntData(1)))));
+        final IData before = data.getAt("child");
+        
+        //Act
+        final CompoundTag replacement = new CompoundTag();
+        replacement.putInt("value", 2);
+        data.getInternal().put("child", replacement);
+        final IData after = data.getAt("child");
+        
+        //Assert
+        assertThat(after).isNotSameInstanceAs(before);
+        assertThat(after.getInternal()).isSameInstanceAs(replacement);
+        assertThat(asInt(((MapData) after).getAt("value"))).isEqualTo(2);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapViewIsDroppedAfterRemove(GameTestHelper helper) {
+        //Arrange
+        final MapData data = new MapData(Map.of("value", new IntData(1)));
+        data.getAt("value");
+        
+        //Act
+        data.remove("value");
+        
+        //Assert
+        assertThat(data.getAt("value")).isNull();
+        assertThat(data.contains("value")).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void writeThroughMapViewIsVisibleInParent(GameTestHelper helper) {
+        //Arrange
+        final MapData data = new MapData(Map.of("child", new MapData()));
+        final MapData child = (MapData) data.getAt("child");
+        
+        //Act
+        child.putInt("value", 3);
+        
+        //Assert
+        assertThat(data.getInternal().getCompound("child").getInt("value")).isEqualTo(3);
+        assertThat(asInt(((MapData) data.getAt("child")).getAt("value"))).isEqualTo(3);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void writeThroughViewOfCopyOnWriteMapDoesNotChangeOriginal(GameTestHelper helper) {
+        //Arrange
+        final MapData original = new MapData(Map.of("child", new MapData(Map.of("value", new IntData(1)))));
+        final MapData copy = original.copyOnWrite();
+        
+        //Act
+        ((MapData) copy.getAt("child")).putInt("value", 2);
+        
+        //Assert
+        assertThat(original.getInternal().getCompound("child").getInt("value")).isEqualTo(1);
+        assertThat(asInt(((MapData) copy.getAt("child")).getAt("value"))).isEqualTo(2);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listViewIsReplacedAfterSet(GameTestHelper helper) {
+        //Arrange
+        final ListData data = new ListData(new IntData(1), new IntData(2));
+        final IData before = data.getAt(0);
+        
+        //Act
+        data.setAt(0, new IntData(5));
+        final IData after = data.getAt(0);
+        
+        //Assert
+        assertThat(asInt(before)).isEqualTo(1);
+        assertThat(asInt(after)).isEqualTo(5);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listViewFollowsShiftedElementsAfterRemove(GameTestHelper helper) {
+        //Arrange
+        final ListData data = new ListData(new IntData(1), new IntData(2), new IntData(3));
+        data.getAt(0);
+        data.getAt(1);
+        
+        //Act
+        data.remove(0);
+        
+        //Assert
+        assertThat(asInt(data.getAt(0))).isEqualTo(2);
+        assertThat(asInt(data.getAt(1))).isEqualTo(3);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listViewIsReplacedAfterWriteThroughInternal(GameTestHelper helper) {
+        //Arrange
+        final ListData data = new ListData(new IntData(1), new IntData(2));
+        data.getAt(1);
+        
+        //Act
+        data.getInternal().set(1, IntTag.valueOf(7));
+        
+        //Assert
+        assertThat(asInt(data.getAt(1))).isEqualTo(7);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listReusesViewOfUnchangedElement(GameTestHelper helper) {
+        //Arrange
+        final ListData data = new ListData(new MapData(), new MapData());
+        
+        //Act
+        final IData first = data.getAt(1);
+        data.add(new MapData());
+        final IData second = data.getAt(1);
+        
+        //Assert
+        assertThat(second).isSameInstanceAs(first);
+    }
+    
+    private int asInt(IData data) {
+        
+        return data.asNumber().getInternal().getAsInt();
+    }
+    
+}
@@ -0,0 +1,83 @@
+package com.blamejared.crafttweaker.gametest.test.api.data;
+
+import com.blamejared.crafttweaker.api.data.BoolData;
+import com.blamejared.crafttweaker.api.data.DoubleData;
+import com.blamejared.crafttweaker.api.data.FloatData;
+import com.blamejared.crafttweaker.api.data.IntArrayData;
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.LongData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.StringData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonStringVisitor;
+import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonVisitor;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+import java.util.Map;
+
+@CraftTweakerGameTestHolder
+public class DataToJsonVisitorTest implements CraftTweakerGameTest {
+    
+    private static final Gson GSON = new GsonBuilder().create();
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void boolInMapStaysBool(GameTestHelper helper) {
+        
+        final MapData data = new MapData(Map.of("enabled", new BoolData(true), "disabled", new BoolData(false)));
+        
+        final JsonElement json = data.accept(DataToJsonVisitor.INSTANCE);
+        
+        assertThat(json.getAsJsonObject().get("enabled").getAsJsonPrimitive().isBoolean()).isTrue();
+        assertThat(json.getAsJsonObject().get("disabled").getAsBoolean()).isFalse();
+        assertThat(json).isEqualTo(viaString(data));
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void floatKeepsShortDecimalForm(GameTestHelper helper) {
+        
+        final MapData data = new MapData(Map.of("experience", new FloatData(0.35F)));
+        
+        final JsonElement json = data.accept(DataToJsonVisitor.INSTANCE);
+        
+        assertThat(json.getAsJsonObject().get("experience").toString()).isEqualTo("0.35");
+        assertThat(json).isEqualTo(viaString(data));
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void nestedDataMatchesStringRoundTrip(GameTestHelper helper) {
+        
+        final MapData inner = new MapData(Map.of("item", new StringData("minecraft:gold_ore"), "strict", new BoolData(true)));
+        final MapData data = new MapData(Map.of(
+                "type", new StringData("minecraft:smoking"),
+                "ingredient", inner,
+                "cookingtime", new IntData(100),
+                "experience", new FloatData(0.1F),
+                "chance", new DoubleData(0.25),
+                "seed", new LongData(123456789L),
+                "list", new ListData(new IntData(1), new IntData(2)),
+                "maps", new ListData(new MapData(Map.of("flag", new BoolData(false)))),
+                "array", new IntArrayData(new int[] {3, 4})
+        ));
+        
+        final JsonElement json = data.accept(DataToJsonVisitor.INSTANCE);
+        
+        assertThat(json).isEqualTo(viaString(data));
+    }
+    
+    private JsonElement viaString(IData data) {
+        
+        return GSON.fromJson(data.accept(DataToJsonStringVisitor.INSTANCE), JsonElement.class);
+    }
+    
+}
@@ -0,0 +1,116 @@
+package com.blamejared.crafttweaker.gametest.test.api.data;
+
+import com.blamejared.crafttweaker.api.data.BoolData;
+import com.blamejared.crafttweaker.api.data.DoubleData;
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.StringData;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+import java.util.Map;
+
+@CraftTweakerGameTestHolder
+public class TypedGetterTest implements CraftTweakerGameTest {
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapGettersReturnDefaultForMissingKey(GameTestHelper helper) {
+        
+        final MapData data = new MapData();
+        
+        assertThat(data.getInt("missing", 5)).isEqualTo(5);
+        assertThat(data.getLong("missing", 6L)).isEqualTo(6L);
+        assertThat(data.getFloat("missing", 0.5F)).isEqualTo(0.5F);
+        assertThat(data.getDouble("missing", 0.25)).isEqualTo(0.25);
+        assertThat(data.getBool("missing", true)).isTrue();
+        assertThat(data.getString("missing", "fallback")).isEqualTo("fallback");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapGettersReturnDefaultForMistypedKey(GameTestHelper helper) {
+        
+        final MapData data = new MapData(Map.of("text", new StringData("Hello"), "number", new IntData(3), "map", new MapData()));
+        
+        assertThat(data.getInt("text", 5)).isEqualTo(5);
+        assertThat(data.getDouble("map", 0.25)).isEqualTo(0.25);
+        assertThat(data.getBool("text", true)).isTrue();
+        assertThat(data.getString("number", "fallback")).isEqualTo("fallback");
+        assertThat(data.getString("map", "fallback")).isEqualTo("fallback");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapGettersConvertBetweenNumbers(GameTestHelper helper) {
+        
+        final MapData data = new MapData(Map.of("double", new DoubleData(2.75), "int", new IntData(2), "zero", new IntData(0)));
+        
+        assertThat(data.getInt("double", 5)).isEqualTo(2);
+        assertThat(data.getDouble("int", 0.25)).isEqualTo(2.0);
+        assertThat(data.getBool("int", false)).isTrue();
+        assertThat(data.getBool("zero", true)).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void mapSettersKeepBoolKeysInSync(GameTestHelper helper) {
+        
+        final MapData data = new MapData();
+        
+        data.putBool("flag", true);
+        assertThat(data.getAt("flag")).isInstanceOf(BoolData.class);
+        assertThat(data.getBool("flag", false)).isTrue();
+        
+        data.putInt("flag", 1);
+        assertThat(data.getAt("flag")).isInstanceOf(IntData.class);
+        assertThat(data.getInt("flag", 5)).isEqualTo(1);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listGettersReturnDefaultForMissingIndex(GameTestHelper helper) {
+        
+        final ListData data = new ListData(new IntData(1));
+        
+        assertThat(data.getInt(-1, 5)).isEqualTo(5);
+        assertThat(data.getInt(1, 5)).isEqualTo(5);
+        assertThat(data.getLong(3, 6L)).isEqualTo(6L);
+        assertThat(data.getFloat(1, 0.5F)).isEqualTo(0.5F);
+        assertThat(data.getDouble(1, 0.25)).isEqualTo(0.25);
+        assertThat(data.getBool(1, true)).isTrue();
+        assertThat(data.getString(1, "fallback")).isEqualTo("fallback");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listGettersReturnDefaultForMistypedElement(GameTestHelper helper) {
+        
+        final ListData strings = new ListData(new StringData("Hello"));
+        final ListData numbers = new ListData(new IntData(3));
+        
+        assertThat(strings.getInt(0, 5)).isEqualTo(5);
+        assertThat(strings.getBool(0, true)).isTrue();
+        assertThat(numbers.getString(0, "fallback")).isEqualTo("fallback");
+        assertThat(numbers.getInt(0, 5)).isEqualTo(3);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listSetterRejectsMistypedElement(GameTestHelper helper) {
+        
+        final ListData data = new ListData(new IntData(1));
+        
+        try {
+            data.setString(0, "Hello");
+            fail("Setting a string in a list of ints should fail");
+        } catch(UnsupportedOperationException ignored) {
+        }
+        assertThat(data.getInt(0, 5)).isEqualTo(1);
+    }
+    
+}
@@ -0,0 +1,95 @@
+package com.blamejared.crafttweaker.gametest.test.api.ingredient;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientList;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapelessRecipeBase;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.core.NonNullList;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+
+@CraftTweakerGameTestHolder
+public class VanillaIngredientCacheTest implements CraftTweakerGameTest {
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void unchangedStackReusesIngredient(GameTestHelper helper) {
+        //Arrange
+        final IItemStack stack = immutableStack(Items.DIRT);
+        
+        //Act
+        final Ingredient first = stack.asVanillaIngredient();
+        final Ingredient second = stack.asVanillaIngredient();
+        
+        //Assert
+        assertThat(second).isSameInstanceAs(first);
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void changedWrappedStackRebuildsIngredient(GameTestHelper helper) {
+        //Arrange
+        final ItemStack internal = new ItemStack(Items.DIRT);
+        final IItemStack stack = immutableStack(internal);
+        final Ingredient before = stack.asVanillaIngredient();
+        
+        //Act
+        internal.setHoverName(new TextComponent("Named"));
+        final Ingredient after = stack.asVanillaIngredient();
+        
+        //Assert
+        assertThat(after).isNotSameInstanceAs(before);
+        assertThat(before.test(new ItemStack(Items.DIRT))).isTrue();
+        assertThat(after.test(new ItemStack(Items.DIRT))).isFalse();
+        assertThat(after.test(internal.copy())).isTrue();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void listRebuildsIngredientWhenPartChanges(GameTestHelper helper) {
+        //Arrange
+        final ItemStack internal = new ItemStack(Items.DIRT);
+        final IIngredientList list = new IIngredientList(new IIngredient[] {immutableStack(internal), immutableStack(Items.STONE)});
+        final Ingredient before = list.asVanillaIngredient();
+        
+        //Act
+        final Ingredient unchanged = list.asVanillaIngredient();
+        internal.setHoverName(new TextComponent("Named"));
+        final Ingredient after = list.asVanillaIngredient();
+        
+        //Assert
+        assertThat(unchanged).isSameInstanceAs(before);
+        assertThat(after).isNotSameInstanceAs(before);
+        assertThat(after.test(new ItemStack(Items.DIRT))).isFalse();
+        assertThat(after.test(new ItemStack(Items.STONE))).isTrue();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void recipeRebuildsIngredientsWhenPartChanges(GameTestHelper helper) {
+        //Arrange
+        final ItemStack internal = new ItemStack(Items.DIRT);
+        final CTShapelessRecipeBase recipe = Services.REGISTRY.createCTShapelessRecipe("vanilla_ingredient_cache", immutableStack(Items.DIAMOND), new IIngredient[] {immutableStack(Items.STONE), immutableStack(internal)}, null);
+        final NonNullList<Ingredient> before = recipe.getIngredients();
+        
+        //Act
+        final NonNullList<Ingredient> unchanged = recipe.getIngredients();
+        internal.setHoverName(new TextComponent("Named"));
+        final NonNullList<Ingredient> after = recipe.getIngredients();
+        
+        //Assert
+        assertThat(unchanged).isSameInstanceAs(before);
+        assertThat(after).isNotSameInstanceAs(before);
+        assertThat(after.get(0)).isSameInstanceAs(before.get(0));
+        assertThat(after.get(1).test(new ItemStack(Items.DIRT))).isFalse();
+    }
+    
+}
@@ -0,0 +1,136 @@
+package com.blamejared.crafttweaker.gametest.test.api.recipe;
+
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalPlanner;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.core.NonNullList;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@CraftTweakerGameTestHolder
+public class RecipeRemovalPlannerTest implements CraftTweakerGameTest {
+    
+    private static final ResourceLocation FIRST = new ResourceLocation("crafttweaker", "first");
+    private static final ResourceLocation SECOND = new ResourceLocation("crafttweaker", "second");
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void readingRecipesAppliesQueuedRemovals(GameTestHelper helper) {
+        //Arrange
+        final RecipeList<CraftingRecipe> list = createList();
+        final RecipeRemovalPlanner planner = new RecipeRemovalPlanner();
+        planner.start();
+        try {
+            //Act
+            planner.enqueue(new RemoveById(list, FIRST));
+            
+            //Assert
+            assertThat(list.has(FIRST)).isFalse();
+            assertThat(list.get(FIRST)).isNull();
+            assertThat(list.getSize()).isEqualTo(1);
+            assertThat(list.getByName().containsKey(FIRST)).isFalse();
+            assertThat(planner.isEmpty()).isTrue();
+        } finally {
+            planner.finish();
+        }
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void removalsQueuedAfterReadAreAppliedOnFinish(GameTestHelper helper) {
+        //Arrange
+        final RecipeList<CraftingRecipe> list = createList();
+        final RecipeRemovalPlanner planner = new RecipeRemovalPlanner();
+        planner.start();
+        
+        //Act
+        try {
+            planner.enqueue(new RemoveById(list, FIRST));
+            assertThat(list.getAllRecipes()).hasSize(1);
+            planner.enqueue(new RemoveById(list, SECOND));
+        } finally {
+            planner.finish();
+        }
+        
+        //Assert
+        assertThat(list.getAllRecipes()).isEmpty();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void readingRecipesDoesNotFlushFinishedPlanner(GameTestHelper helper) {
+        //Arrange
+        final RecipeList<CraftingRecipe> list = createList();
+        final RecipeRemovalPlanner planner = new RecipeRemovalPlanner();
+        planner.start();
+        planner.finish();
+        
+        //Act
+        planner.enqueue(new RemoveById(list, FIRST));
+        
+        //Assert
+        assertThat(list.has(FIRST)).isTrue();
+        assertThat(planner.isEmpty()).isFalse();
+    }
+    
+    private RecipeList<CraftingRecipe> createList() {
+        
+        final Map<ResourceLocation, CraftingRecipe> recipes = new HashMap<>();
+        final Map<ResourceLocation, Recipe<?>> byName = new HashMap<>();
+        final RecipeList<CraftingRecipe> list = new RecipeList<>(RecipeType.CRAFTING, recipes, byName);
+        list.add(FIRST, createRecipe(FIRST));
+        list.add(SECOND, createRecipe(SECOND));
+        return list;
+    }
+    
+    private CraftingRecipe createRecipe(ResourceLocation id) {
+        
+        return new ShapelessRecipe(id, "", new ItemStack(Items.DIAMOND), NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.DIRT)));
+    }
+    
+    private record RemoveById(RecipeList<?> list, ResourceLocation id) implements IRecipeRemovalAction {
+        
+        @Override
+        public void apply() {
+            
+            list.remove(id);
+        }
+        
+        @Override
+        public String describe() {
+            
+            return "Removing recipe with name: \"" + id + "\"";
+        }
+        
+        @Override
+        public Collection<RecipeList<?>> getTargetLists() {
+            
+            return List.of(list);
+        }
+        
+        @Override
+        public RecipeRemovalCriterion getCriterion() {
+            
+            return RecipeRemovalCriterion.byId(id);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,141 @@
+package com.blamejared.crafttweaker.gametest.test.api.recipe.type;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientList;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapelessRecipeBase;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+@CraftTweakerGameTestHolder
+public class ShapelessMatcherTest implements CraftTweakerGameTest {
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void matchesRegardlessOfOrder(GameTestHelper helper) {
+        //Arrange
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_order", immutableStack(Items.DIRT), immutableStack(Items.STONE));
+        final CraftingContainer container = createContainer(new ItemStack(Items.STONE), new ItemStack(Items.DIRT));
+        
+        //Act
+        final boolean matches = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(matches).isTrue();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void matchesWhenFirstAssignmentIsWrong(GameTestHelper helper) {
+        //Arrange
+        // Giving the dirt to the first ingredient leaves nothing for the second one, so it has to take the stone instead
+        final IIngredient dirtOrStone = new IIngredientList(new IIngredient[] {immutableStack(Items.DIRT), immutableStack(Items.STONE)});
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_ambiguous", dirtOrStone, immutableStack(Items.DIRT));
+        final CraftingContainer container = createContainer(new ItemStack(Items.DIRT), new ItemStack(Items.STONE));
+        
+        //Act
+        final boolean matches = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(matches).isTrue();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void doesNotMatchWhenIngredientsCompeteForOneSlot(GameTestHelper helper) {
+        //Arrange
+        final IIngredient dirtOrStone = new IIngredientList(new IIngredient[] {immutableStack(Items.DIRT), immutableStack(Items.STONE)});
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_competing", dirtOrStone, immutableStack(Items.DIRT));
+        final CraftingContainer container = createContainer(new ItemStack(Items.DIRT), new ItemStack(Items.GRAVEL));
+        
+        //Act
+        final boolean matches = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(matches).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void doesNotMatchExtraItems(GameTestHelper helper) {
+        //Arrange
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_extra", immutableStack(Items.DIRT));
+        final CraftingContainer container = createContainer(new ItemStack(Items.DIRT), new ItemStack(Items.DIRT));
+        
+        //Act
+        final boolean matches = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(matches).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void replacedStackIsMatchedAgain(GameTestHelper helper) {
+        //Arrange
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_replaced", immutableStack(Items.DIRT));
+        final CraftingContainer container = createContainer(new ItemStack(Items.DIRT));
+        final boolean before = recipe.matches(container, helper.getLevel());
+        
+        //Act
+        container.setItem(0, new ItemStack(Items.STONE));
+        final boolean after = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(before).isTrue();
+        assertThat(after).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void stackChangedInPlaceIsMatchedAgain(GameTestHelper helper) {
+        //Arrange
+        final ItemStack named = new ItemStack(Items.DIRT);
+        named.setHoverName(new TextComponent("Named"));
+        final CTShapelessRecipeBase recipe = createRecipe("shapeless_matcher_changed_in_place", immutableStack(named));
+        final ItemStack stack = new ItemStack(Items.DIRT);
+        final CraftingContainer container = createContainer(stack);
+        final boolean before = recipe.matches(container, helper.getLevel());
+        
+        //Act
+        stack.setHoverName(new TextComponent("Named"));
+        final boolean after = recipe.matches(container, helper.getLevel());
+        
+        //Assert
+        assertThat(before).isFalse();
+        assertThat(after).isTrue();
+    }
+    
+    private CTShapelessRecipeBase createRecipe(String name, IIngredient... ingredients) {
+        
+        final IItemStack output = immutableStack(Items.DIAMOND);
+        return Services.REGISTRY.createCTShapelessRecipe(name, output, ingredients, null);
+    }
+    
+    private CraftingContainer createContainer(ItemStack... stacks) {
+        
+        final AbstractContainerMenu menu = new AbstractContainerMenu(null, -1) {
+            @Override
+            public boolean stillValid(Player player) {
+                
+                return false;
+            }
+        };
+        final CraftingContainer container = new CraftingContainer(menu, 3, 3);
+        for(int slot = 0; slot < stacks.length; slot++) {
+            container.setItem(slot, stacks[slot]);
+        }
+        return container;
+    }
+    
+}
@@ -0,0 +1,101 @@
+package com.blamejared.crafttweaker.gametest.test.api.util;
+
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import com.blamejared.crafttweaker.api.util.PartialNbtPredicate;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.datafixers.util.Pair;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.TagParser;
+
+import java.util.stream.Stream;
+
+@CraftTweakerGameTestHolder
+public class PartialNbtPredicateTest implements CraftTweakerGameTest {
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void nullAcceptsEverything(GameTestHelper helper) {
+        //Arrange
+        final PartialNbtPredicate predicate = PartialNbtPredicate.of(null);
+        
+        //Act - none
+        
+        //Assert
+        assertThat(predicate.acceptsAny()).isTrue();
+        assertThat(predicate.test(null)).isTrue();
+        assertThat(predicate.test(parse("{a: 1}"))).isTrue();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void missingTagIsRejected(GameTestHelper helper) {
+        //Arrange
+        final PartialNbtPredicate predicate = PartialNbtPredicate.of(parse("{}"));
+        
+        //Act - none
+        
+        //Assert
+        assertThat(predicate.acceptsAny()).isFalse();
+        assertThat(predicate.test(null)).isFalse();
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void matchesTheSameAsMapDataContains(GameTestHelper helper) {
+        
+        getRequiredAndActual().forEach(pair -> doTheTest(pair.getFirst(), pair.getSecond()));
+    }
+    
+    private Stream<Pair<String, String>> getRequiredAndActual() {
+        
+        return Stream.<Pair<String, String>> builder()
+                .add(new Pair<>("{}", "{}"))
+                .add(new Pair<>("{}", "{a: 1}"))
+                .add(new Pair<>("{a: 1}", "{a: 1, b: 2}"))
+                .add(new Pair<>("{a: 1}", "{a: 2}"))
+                .add(new Pair<>("{a: 1}", "{a: 1b}"))
+                .add(new Pair<>("{a: 1}", "{b: 1}"))
+                .add(new Pair<>("{a: \"text\"}", "{a: \"text\"}"))
+                .add(new Pair<>("{a: \"text\"}", "{a: \"other\"}"))
+                .add(new Pair<>("{a: 1}", "{a: \"1\"}"))
+                .add(new Pair<>("{display: {Name: \"x\"}}", "{display: {Name: \"x\", Lore: [\"y\"]}}"))
+                .add(new Pair<>("{display: {Name: \"x\"}}", "{display: {Lore: [\"y\"]}}"))
+                .add(new Pair<>("{l: [1, 2]}", "{l: [3, 2, 1]}"))
+                .add(new Pair<>("{l: [1, 4]}", "{l: [3, 2, 1]}"))
+                .add(new Pair<>("{l: 2}", "{l: [3, 2, 1]}"))
+                .add(new Pair<>("{l: [{id: 1}]}", "{l: [{id: 1, lvl: 2}, {id: 3}]}"))
+                .add(new Pair<>("{l: [{id: 2}]}", "{l: [{id: 1, lvl: 2}, {id: 3}]}"))
+                .add(new Pair<>("{arr: [I; 1, 2]}", "{arr: [I; 1, 2]}"))
+                .add(new Pair<>("{arr: [I; 1, 2]}", "{arr: [I; 2, 1]}"))
+                .add(new Pair<>("{arr: [I; 1]}", "{arr: [1, 2]}"))
+                .build();
+    }
+    
+    private void doTheTest(String required, String actual) {
+        
+        final CompoundTag requiredTag = parse(required);
+        final CompoundTag actualTag = parse(actual);
+        final MapData requiredData = TagToDataConverter.convertCompound(requiredTag);
+        final MapData actualData = TagToDataConverter.convertCompound(actualTag);
+        
+        assertWithMessage("Predicate for %s must agree with MapData#contains on %s", required, actual)
+                .that(PartialNbtPredicate.of(requiredTag).test(actualTag))
+                .isEqualTo(actualData.contains(requiredData));
+    }
+    
+    private static CompoundTag parse(String snbt) {
+        
+        try {
+            return TagParser.parseTag(snbt);
+        } catch(CommandSyntaxException e) {
+            throw new IllegalArgumentException("Invalid test data: " + snbt, e);
+        }
+    }
+    
+}
@@ -0,0 +1,80 @@
+package com.blamejared.crafttweaker.gametest.test.zencode.impl.preprocessor;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.ProfileEventsPreprocessor;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+import java.io.StringReader;
+import java.util.List;
+
+@CraftTweakerGameTestHolder
+public class ProfileEventsPreprocessorTest implements CraftTweakerGameTest {
+    
+    public final ProfileEventsPreprocessor preprocessorUnderTest = new ProfileEventsPreprocessor();
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void budgetAndDisableAreRead(GameTestHelper helper) {
+        
+        try {
+            getFile("#profileevents 50 disable");
+            
+            assertThat(CraftTweakerAPI.PROFILE_EVENT_HANDLERS).isTrue();
+            assertThat(CraftTweakerAPI.EVENT_HANDLER_BUDGET).isEqualTo(50_000L);
+            assertThat(CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS).isTrue();
+        } finally {
+            reset();
+        }
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void disableIsReadWithoutBudget(GameTestHelper helper) {
+        
+        try {
+            getFile("#profileevents disable");
+            
+            assertThat(CraftTweakerAPI.PROFILE_EVENT_HANDLERS).isTrue();
+            assertThat(CraftTweakerAPI.EVENT_HANDLER_BUDGET).isEqualTo(0L);
+            assertThat(CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS).isTrue();
+        } finally {
+            reset();
+        }
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void noArgumentsOnlyEnablesProfiling(GameTestHelper helper) {
+        
+        try {
+            getFile("#profileevents");
+            
+            assertThat(CraftTweakerAPI.PROFILE_EVENT_HANDLERS).isTrue();
+            assertThat(CraftTweakerAPI.EVENT_HANDLER_BUDGET).isEqualTo(0L);
+            assertThat(CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS).isFalse();
+        } finally {
+            reset();
+        }
+    }
+    
+    private FileAccessSingle getFile(String content) {
+        
+        return new FileAccessSingle("test.zs", new StringReader(content), new ScriptLoadingOptions()
+                .execute()
+                .setLoaderName("crafttweaker"), List.of(preprocessorUnderTest));
+    }
+    
+    private void reset() {
+        
+        CraftTweakerAPI.PROFILE_EVENT_HANDLERS = false;
+        CraftTweakerAPI.EVENT_HANDLER_BUDGET = 0;
+        CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS = false;
+    }
+    
+}
@@ -0,0 +1,113 @@
+package com.blamejared.crafttweaker.gametest.test.zencode.impl.preprocessor;
+
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.ReplacePreprocessor;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTest;
+import com.blamejared.crafttweaker.gametest.CraftTweakerGameTestHolder;
+import com.blamejared.crafttweaker.gametest.TestModifier;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.StringJoiner;
+
+@CraftTweakerGameTestHolder
+public class ReplacePreprocessorTest implements CraftTweakerGameTest {
+    
+    public final ReplacePreprocessor preprocessorUnderTest = new ReplacePreprocessor();
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void nameIsReplace(GameTestHelper helper) {
+        
+        assertThat(preprocessorUnderTest.getName()).isEqualTo("replace");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void plainTextIsReplaced(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace OLD NEW", "var OLD = OLD + 1;");
+        final List<String> fileContents = file.getFileContents();
+        
+        assertWithMessage("File must remain the same structure").that(fileContents.size()).isEqualTo(2);
+        assertThat(fileContents.get(1)).isEqualTo("var NEW = NEW + 1;");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void laterReplacementSeesResultOfEarlierOne(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace FIRST SECOND", "#replace SECOND THIRD", "FIRST SECOND");
+        
+        assertThat(file.getFileContents().get(2)).isEqualTo("THIRD THIRD");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void earlierReplacementDoesNotSeeResultOfLaterOne(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace SECOND THIRD", "#replace FIRST SECOND", "FIRST SECOND");
+        
+        assertThat(file.getFileContents().get(2)).isEqualTo("SECOND THIRD");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void firstDeclaredOverlappingReplacementWins(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace AB X", "#replace ABC Y", "ABC ABD");
+        
+        assertThat(file.getFileContents().get(2)).isEqualTo("XC XD");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void longerOverlappingReplacementWinsWhenDeclaredFirst(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace ABC Y", "#replace AB X", "ABC ABD");
+        
+        assertThat(file.getFileContents().get(2)).isEqualTo("Y XD");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void regexIsReplacedWithGroups(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace (\\w+)_old $1_new", "item_old block_old");
+        
+        assertThat(file.getFileContents().get(1)).isEqualTo("item_new block_new");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void regexCharactersAreNotTreatedAsPlainText(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace a.c X", "a.c abc");
+        
+        assertThat(file.getFileContents().get(1)).isEqualTo("X X");
+    }
+    
+    @GameTest(template = "crafttweaker:empty")
+    @TestModifier(implicitSuccession = true)
+    public void lineWithoutReplacementIsIgnored(GameTestHelper helper) {
+        
+        final FileAccessSingle file = getFile("#replace LONELY", "#replace OLD NEW", "LONELY OLD");
+        
+        assertThat(file.getFileContents().get(2)).isEqualTo("LONELY NEW");
+    }
+    
+    private FileAccessSingle getFile(String... lines) {
+        
+        final StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
+        for(String line : lines) {
+            stringJoiner.add(line);
+        }
+        return new FileAccessSingle("test.zs", new StringReader(stringJoiner.toString()), new ScriptLoadingOptions()
+                .execute()
+                .setLoaderName("crafttweaker"), List.of(preprocessorUnderTest));
+    }
+    
+}
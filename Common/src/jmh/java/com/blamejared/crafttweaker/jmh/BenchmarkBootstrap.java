@@ -0,0 +1,25 @@
+package com.blamejared.crafttweaker.jmh;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Bootstraps the vanilla registries so benchmarks can run without a game instance.
+ */
+public final class BenchmarkBootstrap {
+    
+    private static boolean bootstrapped;
+    
+    private BenchmarkBootstrap() {}
+    
+    public static synchronized void bootstrap() {
+        
+        if(bootstrapped) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+    
+}
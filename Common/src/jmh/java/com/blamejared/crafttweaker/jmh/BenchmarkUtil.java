@@ -0,0 +1,31 @@
+package com.blamejared.crafttweaker.jmh;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.ItemStack;
+
+public final class BenchmarkUtil {
+    
+    private BenchmarkUtil() {}
+    
+    /**
+     * Creates a crafting grid that is not attached to any real menu.
+     */
+    public static CraftingContainer craftingGrid(int width, int height, ItemStack... stacks) {
+        
+        final AbstractContainerMenu menu = new AbstractContainerMenu(null, -1) {
+            @Override
+            public boolean stillValid(Player player) {
+                
+                return true;
+            }
+        };
+        final CraftingContainer container = new CraftingContainer(menu, width, height);
+        for(int slot = 0; slot < stacks.length; slot++) {
+            container.setItem(slot, stacks[slot]);
+        }
+        return container;
+    }
+    
+}
@@ -0,0 +1,49 @@
+package com.blamejared.crafttweaker.jmh.benchmark.bracket;
+
+import com.blamejared.crafttweaker.api.bracket.BracketHandlers;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves {@code <item>} brackets, which scripts do for nearly every line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BracketHandlersBenchmark {
+    
+    private static final String[] ITEMS = {
+            "minecraft:diamond", "minecraft:iron_ingot", "minecraft:oak_planks", "minecraft:redstone",
+            "minecraft:stick", "minecraft:diamond_sword", "minecraft:crafting_table", "minecraft:furnace"
+    };
+    
+    private int invocation;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+    }
+    
+    @Benchmark
+    public IItemStack getItem() {
+        
+        return BracketHandlers.getItem(ITEMS[invocation++ & (ITEMS.length - 1)]);
+    }
+    
+}
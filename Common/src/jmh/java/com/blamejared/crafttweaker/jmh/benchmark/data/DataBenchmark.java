@@ -0,0 +1,105 @@
+package com.blamejared.crafttweaker.jmh.benchmark.data;
+
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.StringData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works on maps shaped like item tags, with a few nested maps and lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataBenchmark {
+    
+    @Param({"4", "64"})
+    public int entries;
+    
+    private CompoundTag tag;
+    private MapData map;
+    private MapData partialMap;
+    private MapData missingMap;
+    private MapData otherMap;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        tag = createTag(entries, "value");
+        map = new MapData(tag);
+        partialMap = new MapData(Map.of("entry0", new StringData("value0"), "display", new MapData(Map.of("Name", new StringData("name")))));
+        missingMap = new MapData(Map.of("entry0", new StringData("value0"), "display", new MapData(Map.of("Name", new StringData("other")))));
+        otherMap = new MapData(createTag(entries, "other"));
+        otherMap.put("extra", new IntData(1));
+    }
+    
+    @Benchmark
+    public boolean containsPartial() {
+        
+        return map.contains(partialMap);
+    }
+    
+    @Benchmark
+    public boolean containsMissing() {
+        
+        return map.contains(missingMap);
+    }
+    
+    @Benchmark
+    public MapData merge() {
+        
+        // Merging writes to the map, so a copy of it is merged
+        return map.copyInternal().merge(otherMap);
+    }
+    
+    @Benchmark
+    public IData convert() {
+        
+        return TagToDataConverter.convert(tag);
+    }
+    
+    private static CompoundTag createTag(int entries, String prefix) {
+        
+        final CompoundTag tag = new CompoundTag();
+        for(int i = 0; i < entries; i++) {
+            tag.putString("entry" + i, prefix + i);
+        }
+        
+        final CompoundTag display = new CompoundTag();
+        display.putString("Name", "name");
+        final ListTag lore = new ListTag();
+        for(int i = 0; i < 4; i++) {
+            lore.add(StringTag.valueOf(prefix + " lore " + i));
+        }
+        display.put("Lore", lore);
+        tag.put("display", display);
+        tag.put("numbers", new IntArrayTag(new int[] {1, 2, 3, 4}));
+        return tag;
+    }
+    
+}
@@ -0,0 +1,111 @@
+package com.blamejared.crafttweaker.jmh.benchmark.item;
+
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches item stacks against stack ingredients, the check every recipe does for each slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemStackMatchBenchmark {
+    
+    private IItemStack plainIngredient;
+    private IItemStack taggedIngredient;
+    
+    private IItemStack plainStack;
+    private ItemStack vanillaPlainStack;
+    private IItemStack taggedStack;
+    private ItemStack vanillaTaggedStack;
+    private IItemStack otherTagStack;
+    private IItemStack otherItemStack;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        plainIngredient = Services.PLATFORM.createMCItemStack(new ItemStack(Items.DIAMOND_SWORD));
+        taggedIngredient = Services.PLATFORM.createMCItemStack(tagged("Excalibur"));
+        
+        vanillaPlainStack = new ItemStack(Items.DIAMOND_SWORD);
+        plainStack = Services.PLATFORM.createMCItemStack(vanillaPlainStack);
+        // The stack has more data than the ingredient asks for, which still matches
+        vanillaTaggedStack = tagged("Excalibur");
+        vanillaTaggedStack.getOrCreateTag().putInt("Damage", 12);
+        taggedStack = Services.PLATFORM.createMCItemStack(vanillaTaggedStack);
+        otherTagStack = Services.PLATFORM.createMCItemStack(tagged("Glamdring"));
+        otherItemStack = Services.PLATFORM.createMCItemStack(new ItemStack(Items.IRON_SWORD));
+    }
+    
+    @Benchmark
+    public boolean matchWithoutTag() {
+        
+        return plainIngredient.matches(plainStack);
+    }
+    
+    @Benchmark
+    public boolean matchVanillaWithoutTag() {
+        
+        return plainIngredient.matches(vanillaPlainStack);
+    }
+    
+    @Benchmark
+    public boolean matchOtherItem() {
+        
+        return plainIngredient.matches(otherItemStack);
+    }
+    
+    @Benchmark
+    public boolean matchWithTag() {
+        
+        return taggedIngredient.matches(taggedStack);
+    }
+    
+    @Benchmark
+    public boolean matchVanillaWithTag() {
+        
+        return taggedIngredient.matches(vanillaTaggedStack);
+    }
+    
+    @Benchmark
+    public boolean matchOtherTag() {
+        
+        return taggedIngredient.matches(otherTagStack);
+    }
+    
+    private static ItemStack tagged(String name) {
+        
+        final ItemStack stack = new ItemStack(Items.DIAMOND_SWORD);
+        final CompoundTag display = new CompoundTag();
+        display.putString("Name", "{\"text\":\"" + name + "\"}");
+        final ListTag lore = new ListTag();
+        lore.add(StringTag.valueOf("{\"text\":\"A sword\"}"));
+        display.put("Lore", lore);
+        stack.getOrCreateTag().put("display", display);
+        return stack;
+    }
+    
+}
@@ -0,0 +1,108 @@
+package com.blamejared.crafttweaker.jmh.benchmark.recipe;
+
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.handler.IReplacementRule;
+import com.blamejared.crafttweaker.api.recipe.replacement.rule.IngredientReplacementRule;
+import com.blamejared.crafttweaker.impl.recipe.handler.type.vanilla.ShapedRecipeHandler;
+import com.blamejared.crafttweaker.impl.recipe.handler.type.vanilla.ShapelessRecipeHandler;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Replaces an ingredient in a set of generated crafting table recipes, which is the work {@code ReplacerAction} does
+ * for every recipe it targets.
+ *
+ * The recipe handlers are created directly, since the benchmarks do not scan for them, and the replaced recipes are
+ * built but not added to a recipe manager.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplacerBenchmark {
+    
+    private static final Item[] ITEMS = {
+            Items.IRON_INGOT, Items.GOLD_INGOT, Items.DIAMOND, Items.EMERALD, Items.REDSTONE,
+            Items.LAPIS_LAZULI, Items.COAL, Items.QUARTZ, Items.COPPER_INGOT, Items.STICK
+    };
+    
+    @Param({"100", "1000"})
+    public int recipeCount;
+    
+    private final ShapedRecipeHandler shapedHandler = new ShapedRecipeHandler();
+    private final ShapelessRecipeHandler shapelessHandler = new ShapelessRecipeHandler();
+    
+    private List<Recipe<?>> recipes;
+    private List<IReplacementRule> rules;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        // Fixed seed, so every run replaces in the same recipes
+        final Random random = new Random(42);
+        recipes = new ArrayList<>(recipeCount);
+        for(int i = 0; i < recipeCount; i++) {
+            final NonNullList<Ingredient> ingredients = NonNullList.withSize(9, Ingredient.EMPTY);
+            for(int slot = 0; slot < ingredients.size(); slot++) {
+                ingredients.set(slot, Ingredient.of(ITEMS[random.nextInt(ITEMS.length)]));
+            }
+            final ResourceLocation id = new ResourceLocation("benchmark", "recipe_" + i);
+            final ItemStack result = new ItemStack(Items.DIAMOND_BLOCK);
+            recipes.add(i % 2 == 0 ? new ShapedRecipe(id, "", 3, 3, ingredients, result) : new ShapelessRecipe(id, "", result, ingredients));
+        }
+        
+        rules = List.of(IngredientReplacementRule.create(stack(Items.STICK), stack(Items.BLAZE_ROD)));
+    }
+    
+    @Benchmark
+    public void replace(Blackhole blackhole) {
+        
+        for(Recipe<?> recipe : recipes) {
+            final Optional<? extends Function<ResourceLocation, ? extends Recipe<?>>> replaced;
+            if(recipe instanceof ShapedRecipe shaped) {
+                replaced = shapedHandler.replaceIngredients(null, shaped, rules);
+            } else {
+                replaced = shapelessHandler.replaceIngredients(null, (ShapelessRecipe) recipe, rules);
+            }
+            replaced.ifPresent(function -> blackhole.consume(function.apply(recipe.getId())));
+        }
+    }
+    
+    private static IItemStack stack(Item item) {
+        
+        return Services.PLATFORM.createMCItemStack(new ItemStack(item));
+    }
+    
+}
@@ -0,0 +1,117 @@
+package com.blamejared.crafttweaker.jmh.benchmark.recipe;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.MirrorAxis;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapedRecipeBase;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import com.blamejared.crafttweaker.jmh.BenchmarkUtil;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches 3x3 shaped recipes against full 3x3 grids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapedRecipeBenchmark {
+    
+    private CTShapedRecipeBase recipe;
+    private CTShapedRecipeBase mirroredRecipe;
+    
+    // Recipes cache their last match, two equal grids are alternated to measure actual matching.
+    private CraftingContainer[] matchingGrids;
+    private CraftingContainer[] mirroredGrids;
+    private CraftingContainer[] mismatchedGrids;
+    private int invocation;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        final Item[] items = {
+                Items.IRON_INGOT, Items.GOLD_INGOT, Items.DIAMOND,
+                Items.EMERALD, Items.REDSTONE, Items.LAPIS_LAZULI,
+                Items.COAL, Items.QUARTZ, Items.COPPER_INGOT
+        };
+        
+        final IIngredient[][] ingredients = new IIngredient[3][3];
+        for(int i = 0; i < items.length; i++) {
+            ingredients[i / 3][i % 3] = stack(items[i]);
+        }
+        recipe = new CTShapedRecipeBase("benchmark_shaped", stack(Items.DIAMOND_BLOCK), ingredients, MirrorAxis.NONE, null);
+        mirroredRecipe = new CTShapedRecipeBase("benchmark_shaped_mirrored", stack(Items.DIAMOND_BLOCK), ingredients, MirrorAxis.ALL, null);
+        
+        final ItemStack[] matching = new ItemStack[items.length];
+        final ItemStack[] mirrored = new ItemStack[items.length];
+        for(int i = 0; i < items.length; i++) {
+            matching[i] = new ItemStack(items[i]);
+            // Flipped on both axes, which is the last orientation that is tried
+            mirrored[i] = new ItemStack(items[items.length - 1 - i]);
+        }
+        matchingGrids = grids(matching);
+        mirroredGrids = grids(mirrored);
+        
+        final ItemStack[] mismatched = matching.clone();
+        mismatched[8] = new ItemStack(Items.STICK);
+        mismatchedGrids = grids(mismatched);
+    }
+    
+    @Benchmark
+    public boolean match() {
+        
+        return recipe.matches(next(matchingGrids), null);
+    }
+    
+    @Benchmark
+    public boolean matchMismatched() {
+        
+        return recipe.matches(next(mismatchedGrids), null);
+    }
+    
+    @Benchmark
+    public boolean matchMirrored() {
+        
+        return mirroredRecipe.matches(next(mirroredGrids), null);
+    }
+    
+    private CraftingContainer next(CraftingContainer[] grids) {
+        
+        return grids[invocation++ & 1];
+    }
+    
+    private static CraftingContainer[] grids(ItemStack[] stacks) {
+        
+        final ItemStack[] copies = new ItemStack[stacks.length];
+        for(int i = 0; i < stacks.length; i++) {
+            copies[i] = stacks[i].copy();
+        }
+        return new CraftingContainer[] {BenchmarkUtil.craftingGrid(3, 3, stacks), BenchmarkUtil.craftingGrid(3, 3, copies)};
+    }
+    
+    private static IItemStack stack(Item item) {
+        
+        return Services.PLATFORM.createMCItemStack(new ItemStack(item));
+    }
+    
+}
@@ -0,0 +1,143 @@
+package com.blamejared.crafttweaker.jmh.benchmark.recipe;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.WrappingIIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapelessRecipeBase;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import com.blamejared.crafttweaker.jmh.BenchmarkUtil;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches 9 ingredient shapeless recipes against full 3x3 grids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapelessRecipeBenchmark {
+    
+    private Item[] items;
+    
+    private CTShapelessRecipeBase distinctRecipe;
+    private CTShapelessRecipeBase overlappingRecipe;
+    
+    // Recipes cache their last match, two equal grids are alternated to measure actual matching.
+    private CraftingContainer[] reversedGrids;
+    private CraftingContainer[] overlappingGrids;
+    private CraftingContainer[] mismatchedGrids;
+    private int invocation;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        items = new Item[] {
+                Items.IRON_INGOT, Items.GOLD_INGOT, Items.DIAMOND,
+                Items.EMERALD, Items.REDSTONE, Items.LAPIS_LAZULI,
+                Items.COAL, Items.QUARTZ, Items.COPPER_INGOT
+        };
+        
+        final IIngredient[] distinct = new IIngredient[items.length];
+        for(int i = 0; i < items.length; i++) {
+            distinct[i] = stack(items[i]);
+        }
+        distinctRecipe = new CTShapelessRecipeBase("benchmark_distinct", stack(Items.DIAMOND_BLOCK), distinct, null);
+        
+        // A "tag" that accepts every item of the grid first, followed by the specific items.
+        // A greedy matcher hands the wildcard the first slot and has to recover from it.
+        final IIngredient[] overlapping = new IIngredient[items.length];
+        overlapping[0] = new WrappingIIngredient(Ingredient.of(items), "<tag:items:benchmark:everything>");
+        for(int i = 1; i < items.length; i++) {
+            overlapping[i] = stack(items[i]);
+        }
+        overlappingRecipe = new CTShapelessRecipeBase("benchmark_overlapping", stack(Items.DIAMOND_BLOCK), overlapping, null);
+        
+        final ItemStack[] reversed = new ItemStack[items.length];
+        for(int i = 0; i < items.length; i++) {
+            reversed[i] = new ItemStack(items[items.length - 1 - i]);
+        }
+        reversedGrids = grids(reversed);
+        
+        final ItemStack[] overlappingStacks = new ItemStack[items.length];
+        for(int i = 0; i < items.length; i++) {
+            overlappingStacks[i] = new ItemStack(items[(i + 1) % items.length]);
+        }
+        overlappingGrids = grids(overlappingStacks);
+        
+        final ItemStack[] mismatched = reversed.clone();
+        mismatched[8] = new ItemStack(Items.STICK);
+        mismatchedGrids = grids(mismatched);
+    }
+    
+    @Benchmark
+    public boolean matchDistinct() {
+        
+        return distinctRecipe.matches(next(reversedGrids), null);
+    }
+    
+    @Benchmark
+    public boolean matchOverlapping() {
+        
+        return overlappingRecipe.matches(next(overlappingGrids), null);
+    }
+    
+    @Benchmark
+    public boolean matchMismatched() {
+        
+        return distinctRecipe.matches(next(mismatchedGrids), null);
+    }
+    
+    /**
+     * What the crafting table does when a result is taken: match, assemble and compute the remaining items.
+     */
+    @Benchmark
+    public void craftOverlapping(Blackhole blackhole) {
+        
+        final CraftingContainer overlappingGrid = next(overlappingGrids);
+        blackhole.consume(overlappingRecipe.matches(overlappingGrid, null));
+        blackhole.consume(overlappingRecipe.assemble(overlappingGrid));
+        blackhole.consume(overlappingRecipe.getRemainingItems(overlappingGrid));
+    }
+    
+    private CraftingContainer next(CraftingContainer[] grids) {
+        
+        return grids[invocation++ & 1];
+    }
+    
+    private static CraftingContainer[] grids(ItemStack[] stacks) {
+        
+        final ItemStack[] copies = new ItemStack[stacks.length];
+        for(int i = 0; i < stacks.length; i++) {
+            copies[i] = stacks[i].copy();
+        }
+        return new CraftingContainer[] {BenchmarkUtil.craftingGrid(3, 3, stacks), BenchmarkUtil.craftingGrid(3, 3, copies)};
+    }
+    
+    private static IItemStack stack(Item item) {
+        
+        return Services.PLATFORM.createMCItemStack(new ItemStack(item));
+    }
+    
+}
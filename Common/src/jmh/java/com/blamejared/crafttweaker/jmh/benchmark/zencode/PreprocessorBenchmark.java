@@ -0,0 +1,86 @@
+package com.blamejared.crafttweaker.jmh.benchmark.zencode;
+
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.zencode.IPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.LoadFirstPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.LoadLastPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.PriorityPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.ReplacePreprocessor;
+import com.blamejared.crafttweaker.jmh.BenchmarkBootstrap;
+import com.google.common.io.CharStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and preprocesses a generated script, and reads the result back like the parser does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreprocessorBenchmark {
+    
+    @Param({"100", "5000"})
+    public int lines;
+    
+    private List<IPreprocessor> preprocessors;
+    private ScriptLoadingOptions options;
+    private String script;
+    
+    @Setup
+    public void setup() {
+        
+        BenchmarkBootstrap.bootstrap();
+        
+        preprocessors = List.of(new ReplacePreprocessor(), PriorityPreprocessor.INSTANCE, LoadFirstPreprocessor.INSTANCE, LoadLastPreprocessor.INSTANCE);
+        options = new ScriptLoadingOptions().execute();
+        
+        final StringBuilder builder = new StringBuilder();
+        builder.append("#priority 10\n");
+        builder.append("#replace CT craftingTable\n");
+        builder.append("#replace <item:minecraft:(\\w+)_ingot> <item:minecraft:$1_nugget>\n");
+        for(int i = 0; i < lines; i++) {
+            if(i % 10 == 0) {
+                builder.append("// Recipe number ").append(i).append('\n');
+            }
+            builder.append("CT.addShapeless(\"recipe_")
+                    .append(i)
+                    .append("\", <item:minecraft:diamond>, [<item:minecraft:iron_ingot>, <item:minecraft:stick>]);\n");
+        }
+        script = builder.toString();
+    }
+    
+    @Benchmark
+    public FileAccessSingle preprocess() {
+        
+        return new FileAccessSingle("benchmark.zs", new StringReader(script), options, preprocessors);
+    }
+    
+    @Benchmark
+    public String preprocessAndRead() throws IOException {
+        
+        final FileAccessSingle file = new FileAccessSingle("benchmark.zs", new StringReader(script), options, preprocessors);
+        try(final Reader reader = file.getSourceFile().open()) {
+            return CharStreams.toString(reader);
+        }
+    }
+    
+}
@@ -0,0 +1,20 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.platform.services.IClientHelper;
+import net.minecraft.client.KeyMapping;
+
+public class BenchmarkClientHelper implements IClientHelper {
+    
+    @Override
+    public boolean isKeyDown(KeyMapping keyBinding) {
+        
+        return false;
+    }
+    
+    @Override
+    public boolean isKeyDownExtra(KeyMapping keyBinding) {
+        
+        return false;
+    }
+    
+}
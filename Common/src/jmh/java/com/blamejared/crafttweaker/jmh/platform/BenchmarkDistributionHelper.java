@@ -0,0 +1,14 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.platform.services.IDistributionHelper;
+import com.blamejared.crafttweaker.platform.sides.DistributionType;
+
+public class BenchmarkDistributionHelper implements IDistributionHelper {
+    
+    @Override
+    public DistributionType getDistributionType() {
+        
+        return DistributionType.SERVER;
+    }
+    
+}
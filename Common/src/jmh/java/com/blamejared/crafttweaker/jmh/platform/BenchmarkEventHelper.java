@@ -0,0 +1,40 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
+import com.blamejared.crafttweaker.api.recipe.replacement.event.IGatherReplacementExclusionEvent;
+import com.blamejared.crafttweaker.api.zencode.bracket.IgnorePrefixCasingBracketParser;
+import com.blamejared.crafttweaker.platform.services.IEventHelper;
+
+public class BenchmarkEventHelper implements IEventHelper {
+    
+    @Override
+    public void fireRegisterBEPEvent(IgnorePrefixCasingBracketParser bep) {
+    
+    }
+    
+    @Override
+    public void fireCTCommandRegisterEvent() {
+    
+    }
+    
+    @Override
+    public IGatherReplacementExclusionEvent fireGatherReplacementExclusionEvent(IRecipeManager manager) {
+        
+        throw BenchmarkPlatformHelper.unsupported();
+    }
+    
+    @Override
+    public void setBurnTime(IIngredient ingredient, int burnTime) {
+        
+        getBurnTimes().put(ingredient, burnTime);
+    }
+    
+    @Override
+    public int getBurnTime(IItemStack stack) {
+        
+        return 0;
+    }
+    
+}
@@ -0,0 +1,77 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.function.Consumer;
+
+/**
+ * Minimal {@link IItemStack} used when no mod loader is present, mirrors the loader specific MCItemStack classes.
+ */
+public class BenchmarkItemStack implements IItemStack {
+    
+    private final ItemStack internal;
+    private final boolean immutable;
+    
+    public BenchmarkItemStack(ItemStack internal, boolean immutable) {
+        
+        this.internal = internal;
+        this.immutable = immutable;
+    }
+    
+    @Override
+    public String getCommandString() {
+        
+        return "<item:" + Services.REGISTRY.getRegistryKey(internal.getItem()) + ">";
+    }
+    
+    @Override
+    public IItemStack[] getItems() {
+        
+        return new IItemStack[] {this.copy()};
+    }
+    
+    @Override
+    public IItemStack copy() {
+        
+        return new BenchmarkItemStack(internal.copy(), immutable);
+    }
+    
+    @Override
+    public IItemStack asMutable() {
+        
+        return new BenchmarkItemStack(internal, false);
+    }
+    
+    @Override
+    public IItemStack asImmutable() {
+        
+        return new BenchmarkItemStack(internal, true);
+    }
+    
+    @Override
+    public boolean isImmutable() {
+        
+        return immutable;
+    }
+    
+    @Override
+    public ItemStack getInternal() {
+        
+        return internal;
+    }
+    
+    @Override
+    public IItemStack modify(Consumer<ItemStack> stackModifier) {
+        
+        if(isMutable()) {
+            stackModifier.accept(internal);
+            return this;
+        }
+        final ItemStack newStack = internal.copy();
+        stackModifier.accept(newStack);
+        return new BenchmarkItemStack(newStack, true);
+    }
+    
+}
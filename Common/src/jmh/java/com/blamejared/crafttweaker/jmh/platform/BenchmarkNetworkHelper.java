@@ -0,0 +1,32 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.impl.network.message.MessageCopy;
+import com.blamejared.crafttweaker.impl.network.message.MessageOpen;
+import com.blamejared.crafttweaker.impl.network.message.MessageRecipeDelta;
+import com.blamejared.crafttweaker.platform.services.INetworkHelper;
+import net.minecraft.server.level.ServerPlayer;
+
+public class BenchmarkNetworkHelper implements INetworkHelper {
+    
+    @Override
+    public void sendCopyMessage(ServerPlayer target, MessageCopy message) {
+    
+    }
+    
+    @Override
+    public void sendOpenMessage(ServerPlayer target, MessageOpen message) {
+    
+    }
+    
+    @Override
+    public void sendRecipeDeltaMessage(ServerPlayer target, MessageRecipeDelta message) {
+    
+    }
+    
+    @Override
+    public boolean canSendMessages(ServerPlayer target) {
+        
+        return false;
+    }
+    
+}
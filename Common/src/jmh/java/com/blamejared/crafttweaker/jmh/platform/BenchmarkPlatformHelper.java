@@ -0,0 +1,156 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.loot.modifier.ILootModifier;
+import com.blamejared.crafttweaker.api.mod.Mod;
+import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
+import com.blamejared.crafttweaker.impl.script.ScriptRecipe;
+import com.blamejared.crafttweaker.platform.helper.inventory.IInventoryWrapper;
+import com.blamejared.crafttweaker.platform.services.IPlatformHelper;
+import com.mojang.datafixers.util.Either;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.StaticTagHelper;
+import net.minecraft.tags.TagCollection;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.BucketItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.level.material.Fluid;
+
+import javax.annotation.Nonnull;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Platform helper used by the benchmarks, only the item stack related methods are functional.
+ */
+public class BenchmarkPlatformHelper implements IPlatformHelper {
+    
+    @Override
+    public String getPlatformName() {
+        
+        return "Benchmark";
+    }
+    
+    @Override
+    public boolean isModLoaded(String modId) {
+        
+        return false;
+    }
+    
+    @Override
+    public boolean isDevelopmentEnvironment() {
+        
+        return true;
+    }
+    
+    @Override
+    public List<Mod> getMods() {
+        
+        return List.of();
+    }
+    
+    @Override
+    public Optional<Mod> getMod(String modid) {
+        
+        return Optional.empty();
+    }
+    
+    @Override
+    public IItemStack createMCItemStack(ItemStack stack) {
+        
+        return new BenchmarkItemStack(stack, true);
+    }
+    
+    @Override
+    public IItemStack createMCItemStackMutable(ItemStack stack) {
+        
+        return new BenchmarkItemStack(stack, false);
+    }
+    
+    @Override
+    public IItemStack getEmptyIItemStack() {
+        
+        return new BenchmarkItemStack(ItemStack.EMPTY, true);
+    }
+    
+    @Override
+    public RecipeSerializer<ScriptRecipe> getScriptSerializer() {
+        
+        throw unsupported();
+    }
+    
+    @Override
+    public Fluid getBucketContent(BucketItem item) {
+        
+        throw unsupported();
+    }
+    
+    @Override
+    public <T extends Annotation> Stream<? extends Class<?>> findClassesWithAnnotation(Class<T> annotationCls, Consumer<Mod> consumer, Predicate<Either<T, Map<String, Object>>> annotationFilter) {
+        
+        return Stream.empty();
+    }
+    
+    @Override
+    public Method findMethod(@Nonnull Class<?> clazz, @Nonnull String methodName, @Nonnull Class<?> returnType, @Nonnull Class<?>... parameterTypes) {
+        
+        throw unsupported();
+    }
+    
+    @Override
+    public <T> Field findField(@Nonnull Class<? super T> clazz, @Nonnull String fieldName, @Nonnull String fieldDescription) {
+        
+        throw unsupported();
+    }
+    
+    @Override
+    public Map<ResourceLocation, TagCollection<?>> getCustomTags() {
+        
+        return Map.of();
+    }
+    
+    @Override
+    public Collection<StaticTagHelper<?>> getStaticTagHelpers() {
+        
+        return List.of();
+    }
+    
+    @Override
+    public void registerCustomTags() {
+    
+    }
+    
+    @Override
+    public Map<ResourceLocation, ILootModifier> getLootModifiersMap() {
+        
+        return Map.of();
+    }
+    
+    @Override
+    public IInventoryWrapper getPlayerInventory(Player player) {
+        
+        throw unsupported();
+    }
+    
+    @Override
+    public boolean doCraftingTableRecipesConflict(IRecipeManager manager, Recipe<?> first, Recipe<?> second) {
+        
+        throw unsupported();
+    }
+    
+    static UnsupportedOperationException unsupported() {
+        
+        return new UnsupportedOperationException("Not available in benchmarks");
+    }
+    
+}
@@ -0,0 +1,67 @@
+package com.blamejared.crafttweaker.jmh.platform;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientConditioned;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientTransformed;
+import com.blamejared.crafttweaker.api.recipe.serializer.ICTShapedRecipeBaseSerializer;
+import com.blamejared.crafttweaker.api.recipe.serializer.ICTShapelessRecipeBaseSerializer;
+import com.blamejared.crafttweaker.platform.services.IRegistryHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registry helper used by the benchmarks, CraftTweaker specific ingredients and serializers are not available.
+ */
+public class BenchmarkRegistryHelper implements IRegistryHelper {
+    
+    @Override
+    public void initRegistries() {
+    
+    }
+    
+    @Override
+    public ICTShapedRecipeBaseSerializer getCTShapedRecipeSerializer() {
+        
+        throw BenchmarkPlatformHelper.unsupported();
+    }
+    
+    @Override
+    public ICTShapelessRecipeBaseSerializer getCTShapelessRecipeSerializer() {
+        
+        throw BenchmarkPlatformHelper.unsupported();
+    }
+    
+    @Override
+    public Ingredient getIngredientAny() {
+        
+        throw BenchmarkPlatformHelper.unsupported();
+    }
+    
+    @Override
+    public Ingredient getIngredientList(List<Ingredient> children) {
+        
+        return Ingredient.of(children.stream().flatMap(child -> Arrays.stream(child.getItems())));
+    }
+    
+    @Override
+    public <T extends IIngredient> Ingredient getIngredientConditioned(IIngredientConditioned<T> conditioned) {
+        
+        return conditioned.getBaseIngredient().asVanillaIngredient();
+    }
+    
+    @Override
+    public <T extends IIngredient> Ingredient getIngredientTransformed(IIngredientTransformed<T> transformed) {
+        
+        return transformed.getBaseIngredient().asVanillaIngredient();
+    }
+    
+    @Override
+    public Ingredient getIngredientPartialTag(ItemStack stack) {
+        
+        return Ingredient.of(stack);
+    }
+    
+}
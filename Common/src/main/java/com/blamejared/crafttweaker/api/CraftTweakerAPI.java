@@ -4,6 +4,10 @@ import com.blamejared.crafttweaker.CraftTweakerRegistries;
 import com.blamejared.crafttweaker.api.action.base.ActionApplier;
 import com.blamejared.crafttweaker.api.action.base.IAction;
 import com.blamejared.crafttweaker.api.action.base.IRuntimeAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalPlanner;
+import com.blamejared.crafttweaker.api.action.tag.ActionTagModify;
+import com.blamejared.crafttweaker.api.action.tag.StagedTagChanges;
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.game.Game;
 import com.blamejared.crafttweaker.api.logger.CraftTweakerLogger;
@@ -12,6 +16,7 @@ import com.blamejared.crafttweaker.api.zencode.expand.IDataRewrites;
 import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
 import com.blamejared.crafttweaker.api.zencode.impl.loader.LoaderActions;
 import com.blamejared.crafttweaker.api.zencode.impl.loader.ScriptRun;
+import com.blamejared.crafttweaker.impl.recipe.lookup.CraftingRecipeIndex;
 import com.blamejared.crafttweaker.impl.script.ScriptRecipe;
 import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
 import com.google.common.annotations.VisibleForTesting;
@@ -50,6 +55,41 @@ public class CraftTweakerAPI {
     public static boolean DEBUG_MODE = false;
     public static boolean NO_BRAND = false;
     
+    /**
+     * Whether crafting table recipes should be looked up through a {@link CraftingRecipeIndex}, set by the
+     * {@code #indexrecipes} preprocessor.
+     */
+    public static boolean INDEX_CRAFTING_RECIPES = false;
+    
+    /**
+     * Whether only the native classes and expansions that scripts can reach should be added to the scripting engine,
+     * set by the {@code #lazynatives} preprocessor.
+     */
+    public static boolean LAZY_NATIVE_TYPES = false;
+    
+    /**
+     * Whether a reload may only run the scripts that changed and replay the actions of the others, set by the
+     * {@code #incremental} preprocessor.
+     */
+    public static boolean INCREMENTAL_RELOAD = false;
+    
+    /**
+     * Whether the time script event handlers take should be measured, set by the {@code #profileevents} preprocessor.
+     */
+    public static boolean PROFILE_EVENT_HANDLERS = false;
+    
+    /**
+     * How many nanoseconds per tick a profiled event handler may take on average before it is reported, or 0 if there
+     * is no budget. Set by the {@code #profileevents} preprocessor.
+     */
+    public static long EVENT_HANDLER_BUDGET = 0;
+    
+    /**
+     * Whether event handlers that go over {@link #EVENT_HANDLER_BUDGET} should be disabled instead of only reported,
+     * set by the {@code #profileevents} preprocessor.
+     */
+    public static boolean DISABLE_SLOW_EVENT_HANDLERS = false;
+    
     private static RecipeManager recipeManager;
     
     @ZenCodeGlobals.Global("game")
@@ -83,6 +123,12 @@ public class CraftTweakerAPI {
     public static void loadScripts(ScriptLoadingOptions scriptLoadingOptions) {
         
         NO_BRAND = false;
+        INDEX_CRAFTING_RECIPES = false;
+        LAZY_NATIVE_TYPES = false;
+        INCREMENTAL_RELOAD = false;
+        PROFILE_EVENT_HANDLERS = false;
+        EVENT_HANDLER_BUDGET = 0;
+        DISABLE_SLOW_EVENT_HANDLERS = false;
         final List<File> fileList = getScriptFiles();
         
         final Comparator<FileAccessSingle> comparator = FileAccessSingle.createComparator(CraftTweakerRegistry.getPreprocessors());
@@ -159,12 +205,24 @@ public class CraftTweakerAPI {
     private static void applyActionInternal(IAction action) {
         
         final ScriptRun currentRun = getCurrentRun();
+        currentRun.journal(action);
         if(!(action instanceof IRuntimeAction) && !currentRun.isFirstRun()) {
             return;
         }
         
         final LoaderActions currentLoaderActions = currentRun.getLoaderActions();
+        final RecipeRemovalPlanner removalPlanner = currentRun.getRemovalPlanner();
+        final boolean deferred = removalPlanner != null && action instanceof IRecipeRemovalAction removal && RecipeRemovalPlanner.canDefer(removal);
         try {
+            if(removalPlanner != null && !deferred) {
+                // Any other action has to see the recipes as if the removals had been applied already
+                removalPlanner.flush();
+            }
+            if(!(action instanceof ActionTagModify)) {
+                // Tag changes are staged as well, anything else has to see the tags as if they had been applied already
+                StagedTagChanges.INSTANCE.flush();
+            }
+            
             if(!action.shouldApplyOn(currentRun.getScriptLoadSource())) {
                 return;
             }
@@ -178,7 +236,11 @@ public class CraftTweakerAPI {
             if(describe != null && !describe.isEmpty()) {
                 LOGGER.info(describe);
             }
-            action.apply();
+            if(deferred) {
+                removalPlanner.enqueue((IRecipeRemovalAction) action);
+            } else {
+                action.apply();
+            }
             currentLoaderActions.addValidAction(action);
         } catch(Exception e) {
             LOGGER.error("Error running action", e);
@@ -229,6 +291,11 @@ public class CraftTweakerAPI {
         return recipeManager;
     }
     
+    public static boolean hasRecipeManager() {
+        
+        return recipeManager != null;
+    }
+    
     public static AccessRecipeManager getAccessibleRecipeManager() {
         
         Preconditions.checkNotNull(recipeManager, "Cannot get the recipe manager before it has been set!");
@@ -248,6 +315,9 @@ public class CraftTweakerAPI {
                 .getOrDefault(CraftTweakerRegistries.RECIPE_TYPE_SCRIPTS, new HashMap<>());
         Collection<Recipe<?>> recipes = map.values();
         CraftTweakerAPI.NO_BRAND = false;
+        CraftTweakerAPI.INDEX_CRAFTING_RECIPES = false;
+        CraftTweakerAPI.LAZY_NATIVE_TYPES = false;
+        CraftTweakerAPI.INCREMENTAL_RELOAD = false;
         
         final Comparator<FileAccessSingle> comparator = FileAccessSingle.createComparator(CraftTweakerRegistry.getPreprocessors());
         final SourceFile[] sourceFiles = recipes.stream()
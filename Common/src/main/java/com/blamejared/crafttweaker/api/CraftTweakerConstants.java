@@ -18,7 +18,7 @@ public class CraftTweakerConstants {
     /**
      * This is not the mod version, this is specifically for the network!!
      */
-    public static final String NETWORK_VERSION = "1.0.0";
+    public static final String NETWORK_VERSION = "1.1.0";
     
     
     public static ResourceLocation rl(String path) {
@@ -25,8 +25,11 @@ import org.objectweb.asm.Type;
 import org.openzen.zencode.java.ScriptingEngine;
 import org.openzen.zencode.java.module.JavaNativeModule;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -233,6 +236,16 @@ public class CraftTweakerRegistry {
         
         return BRACKET_RESOLVER_REGISTRY.getBracketResolvers(name, scriptingEngine, crafttweakerModule);
     }
+    
+    /**
+     * Gets all methods that are registered as Bracket Resolvers
+     *
+     * @return Unmodifiable Collection of the Bracket Resolver methods
+     */
+    public static Collection<Method> getBracketResolverMethods() {
+        
+        return BRACKET_RESOLVER_REGISTRY.getBracketResolverMethods();
+    }
     //</editor-fold>
     
     
@@ -287,6 +300,16 @@ public class CraftTweakerRegistry {
         return BRACKET_ENUM_REGISTRY.getEnums().containsKey(type);
     }
     
+    /**
+     * Gets all enums that can be referenced with the constant Bracket Handler
+     *
+     * @return Unmodifiable Collection of the enum classes
+     */
+    public static Collection<Class<Enum<?>>> getBracketEnumClasses() {
+        
+        return Collections.unmodifiableCollection(BRACKET_ENUM_REGISTRY.getEnums().values());
+    }
+    
     // To keep the encapsulation on getEnums
     public static Set<String> collectBracketEnums() {
         
@@ -2,6 +2,9 @@ package com.blamejared.crafttweaker.api.action.base;
 
 /**
  * Used to signify that an action should be undone, before being redone when the /reload command is ran.
+ *
+ * The same action can be applied and undone more than once, for example when an incremental reload replays it, so
+ * {@link #undo()} has to forget everything {@link #apply()} recorded.
  */
 public interface IUndoableAction extends IRuntimeAction {
     
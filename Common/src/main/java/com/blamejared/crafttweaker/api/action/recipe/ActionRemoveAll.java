@@ -1,9 +1,15 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.world.item.crafting.Recipe;
 
-public class ActionRemoveAll<T extends Recipe<?>> extends ActionRecipeBase<T> {
+import java.util.Collection;
+import java.util.List;
+
+public class ActionRemoveAll<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
     
     
     public ActionRemoveAll(IRecipeManager<T> manager) {
@@ -17,6 +23,18 @@ public class ActionRemoveAll<T extends Recipe<?>> extends ActionRecipeBase<T> {
         getRecipeMutator().removeAll();
     }
     
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.all();
+    }
+    
     @Override
     public String describe() {
         
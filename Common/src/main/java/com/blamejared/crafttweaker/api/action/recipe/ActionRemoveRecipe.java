@@ -1,13 +1,18 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import com.blamejared.crafttweaker.api.bracket.CommandStringDisplayable;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.world.item.crafting.Recipe;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-public class ActionRemoveRecipe<T extends Recipe<?>> extends ActionRecipeBase<T> {
+public class ActionRemoveRecipe<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
     
     protected final Predicate<T> removePredicate;
     protected Function<ActionRecipeBase<T>, String> describeFunction;
@@ -32,6 +37,18 @@ public class ActionRemoveRecipe<T extends Recipe<?>> extends ActionRecipeBase<T>
         getRecipeMutator().removeByRecipeTest(removePredicate);
     }
     
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.matching(removePredicate);
+    }
+    
     @Override
     public String describe() {
         
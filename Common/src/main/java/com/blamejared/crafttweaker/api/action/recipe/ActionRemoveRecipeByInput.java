@@ -0,0 +1,60 @@
+package com.blamejared.crafttweaker.api.action.recipe;
+
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
+import net.minecraft.world.item.crafting.Recipe;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collection;
+import java.util.List;
+
+public class ActionRemoveRecipeByInput<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
+    
+    private final IItemStack input;
+    
+    public ActionRemoveRecipeByInput(IRecipeManager<T> manager, IItemStack input) {
+        
+        super(manager);
+        this.input = input;
+    }
+    
+    @Override
+    public void apply() {
+        
+        getRecipeMutator().removeByRecipeTest(recipe -> recipe.getIngredients()
+                .stream()
+                .anyMatch(ingredient -> ingredient.test(input.getInternal())));
+    }
+    
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byInput(input);
+    }
+    
+    @Override
+    public String describe() {
+        
+        return "Removing \"" + getRecipeTypeName() + "\" recipes with input: " + input.getCommandString();
+    }
+    
+    @Override
+    public boolean validate(Logger logger) {
+        
+        if(input == null) {
+            logger.warn("Input cannot be null!", new IllegalArgumentException("input IItemStack cannot be null!"));
+            return false;
+        }
+        return true;
+    }
+    
+}
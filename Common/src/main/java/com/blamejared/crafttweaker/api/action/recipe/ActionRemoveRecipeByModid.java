@@ -1,11 +1,16 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.world.item.crafting.Recipe;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
-public class ActionRemoveRecipeByModid<T extends Recipe<?>> extends ActionRecipeBase<T> {
+public class ActionRemoveRecipeByModid<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
     
     private final String modid;
     private final Predicate<String> exclude;
@@ -23,6 +28,18 @@ public class ActionRemoveRecipeByModid<T extends Recipe<?>> extends ActionRecipe
         getRecipeMutator().removeByIdTest(resourceLocation -> resourceLocation.getNamespace().equals(modid), exclude);
     }
     
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byModid(modid, exclude);
+    }
+    
     @Override
     public String describe() {
         
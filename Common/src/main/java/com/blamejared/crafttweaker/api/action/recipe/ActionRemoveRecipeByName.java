@@ -1,12 +1,20 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
 
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
 import org.apache.logging.log4j.Logger;
 
-public class ActionRemoveRecipeByName<T extends Recipe<?>> extends ActionRecipeBase<T> {
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class ActionRemoveRecipeByName<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
     
     private final ResourceLocation name;
     
@@ -23,6 +31,18 @@ public class ActionRemoveRecipeByName<T extends Recipe<?>> extends ActionRecipeB
         
     }
     
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byId(name);
+    }
+    
     @Override
     public String describe() {
         
@@ -32,8 +52,11 @@ public class ActionRemoveRecipeByName<T extends Recipe<?>> extends ActionRecipeB
     @Override
     public boolean validate(Logger logger) {
         
-        
-        boolean containsKey = getRecipeMutator().has(name);
+        // Reading through the manager would apply the queued removals, which would stop removals by name from being batched
+        boolean containsKey = CraftTweakerAPI.getAccessibleRecipeManager()
+                .getRecipes()
+                .getOrDefault(getRecipeType(), Collections.emptyMap())
+                .containsKey(name);
         if(!containsKey) {
             logger.warn("No recipe with type: '{}' and name: '{}'", getRecipeTypeName(), name);
         }
@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import com.blamejared.crafttweaker.platform.Services;
@@ -18,6 +19,12 @@ public class ActionRemoveRecipeByOutput<T extends Recipe<?>> extends ActionRemov
         describeDefaultRemoval(output);
     }
     
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byOutput(output);
+    }
+    
     @Override
     public boolean validate(Logger logger) {
         
@@ -1,12 +1,17 @@
 package com.blamejared.crafttweaker.api.action.recipe;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.world.item.crafting.Recipe;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-public class ActionRemoveRecipeByRegex<T extends Recipe<?>> extends ActionRecipeBase<T> {
+public class ActionRemoveRecipeByRegex<T extends Recipe<?>> extends ActionRecipeBase<T> implements IRecipeRemovalAction {
     
     private final Pattern compiledPat;
     private final Predicate<String> exclude;
@@ -26,6 +31,18 @@ public class ActionRemoveRecipeByRegex<T extends Recipe<?>> extends ActionRecipe
                 .matches(), exclude);
     }
     
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return List.of(getRecipeMutator());
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byRegex(compiledPat, exclude);
+    }
+    
     @Override
     public String describe() {
         
@@ -1,32 +1,47 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import com.blamejared.crafttweaker.api.recipe.RecipeList;
-import com.blamejared.crafttweaker.api.recipe.manager.RecipeManagerWrapper;
 import net.minecraft.world.item.crafting.RecipeType;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
-public class ActionRemoveAllGenericRecipes extends ActionWholeRegistryBase {
+public class ActionRemoveAllGenericRecipes extends ActionWholeRegistryBase implements IRecipeRemovalAction {
     
     @Override
     public void apply() {
         
-        Map<RecipeType<?>, RecipeList<?>> recipeLists = getRecipeLists();
-        
-        final Map<String, Integer> numberOfRemovedRecipesByType = new TreeMap<>();
-        int totalRemoved = 0;
-        
-        for(RecipeType recipeType : recipeLists.keySet()) {
-            final int removedRecipes = remove(recipeLists.get(recipeType));
+        final Map<RecipeType<?>, Integer> removed = new HashMap<>();
+        getRecipeLists().forEach((recipeType, list) -> {
+            final int removedRecipes = remove(list);
             if(removedRecipes > 0) {
-                totalRemoved += removedRecipes;
-                final String commandString = new RecipeManagerWrapper(recipeType).getCommandString();
-                numberOfRemovedRecipesByType.put(commandString, removedRecipes);
+                removed.put(recipeType, removedRecipes);
             }
-        }
+        });
+        reportRemovals(removed);
+    }
+    
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return getRecipeLists().values();
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.all();
+    }
+    
+    @Override
+    public void reportRemovals(Map<RecipeType<?>, Integer> removed) {
         
+        final Map<String, Integer> numberOfRemovedRecipesByType = byCommandString(removed);
+        final int totalRemoved = numberOfRemovedRecipesByType.values().stream().mapToInt(Integer::intValue).sum();
         final int managerCount = numberOfRemovedRecipesByType.size();
         final String recipeTypeList = makeRecipeList(numberOfRemovedRecipesByType);
         CraftTweakerAPI.LOGGER.info("Removed {} recipes across these {} managers: {}", totalRemoved, managerCount, recipeTypeList);
@@ -1,31 +1,48 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.action.recipe.removal.IRecipeRemovalAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import com.blamejared.crafttweaker.api.recipe.RecipeList;
-import com.blamejared.crafttweaker.api.recipe.manager.RecipeManagerWrapper;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeType;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
-public abstract class ActionRemoveGenericRecipeBase extends ActionWholeRegistryBase {
+public abstract class ActionRemoveGenericRecipeBase extends ActionWholeRegistryBase implements IRecipeRemovalAction {
     
     @Override
     public void apply() {
         
-        final Map<String, Integer> numberOfRemovedRecipesByType = new TreeMap<>();
-        int numberOfRemovedRecipes = 0;
-    
-        Map<RecipeType<?>, RecipeList<?>> recipeLists = getRecipeLists();
-        for(RecipeType recipeType : recipeLists.keySet()) {
-            int removedRecipes = applyToRegistry(recipeLists.get(recipeType));
+        final Map<RecipeType<?>, Integer> removed = new HashMap<>();
+        getRecipeLists().forEach((recipeType, list) -> {
+            int removedRecipes = applyToRegistry(list);
             if(removedRecipes > 0) {
-                final String commandString = new RecipeManagerWrapper(recipeType).getCommandString();
-                numberOfRemovedRecipesByType.put(commandString, removedRecipes);
-                numberOfRemovedRecipes += removedRecipes;
+                removed.put(recipeType, removedRecipes);
             }
-        }
+        });
+        reportRemovals(removed);
+    }
+    
+    @Override
+    public Collection<RecipeList<?>> getTargetLists() {
+        
+        return getRecipeLists().values();
+    }
+    
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.matching(this::shouldRemove);
+    }
+    
+    @Override
+    public void reportRemovals(Map<RecipeType<?>, Integer> removed) {
+        
+        final Map<String, Integer> numberOfRemovedRecipesByType = byCommandString(removed);
+        final int numberOfRemovedRecipes = numberOfRemovedRecipesByType.values().stream().mapToInt(Integer::intValue).sum();
         final int numberOfRecipeTypes = numberOfRemovedRecipesByType.size();
         final String recipeTypeList = makeRecipeList(numberOfRemovedRecipesByType);
         CraftTweakerAPI.LOGGER.info("Removed {} recipes registered in these {} recipe managers: {}", numberOfRemovedRecipes, numberOfRecipeTypes, recipeTypeList);
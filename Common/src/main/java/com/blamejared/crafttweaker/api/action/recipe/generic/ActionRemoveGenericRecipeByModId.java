@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
 
@@ -17,6 +18,12 @@ public class ActionRemoveGenericRecipeByModId extends ActionRemoveGenericRecipeB
         this.exclude = exclude;
     }
     
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byModid(modId, exclude);
+    }
+    
     @Override
     public String describe() {
         
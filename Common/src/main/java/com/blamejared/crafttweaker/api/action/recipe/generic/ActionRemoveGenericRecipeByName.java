@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +26,12 @@ public class ActionRemoveGenericRecipeByName extends ActionRemoveGenericRecipeBa
         return false;
     }
     
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byId(new ResourceLocation(name));
+    }
+    
     @Override
     public String describe() {
         
@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
@@ -15,6 +16,12 @@ public class ActionRemoveGenericRecipeByOutput extends ActionRemoveGenericRecipe
         this.output = output;
     }
     
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byOutput(output);
+    }
+    
     @Override
     public String describe() {
         
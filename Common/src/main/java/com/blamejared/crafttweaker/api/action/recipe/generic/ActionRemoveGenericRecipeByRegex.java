@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.api.action.recipe.generic;
 
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalCriterion;
 import net.minecraft.world.item.crafting.Recipe;
 
 import java.util.regex.Pattern;
@@ -13,6 +14,12 @@ public class ActionRemoveGenericRecipeByRegex extends ActionRemoveGenericRecipeB
         pattern = Pattern.compile(regex);
     }
     
+    @Override
+    public RecipeRemovalCriterion getCriterion() {
+        
+        return RecipeRemovalCriterion.byRegex(pattern, null);
+    }
+    
     @Override
     public String describe() {
         
@@ -5,6 +5,7 @@ import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.action.base.IRuntimeAction;
 import com.blamejared.crafttweaker.api.bracket.custom.RecipeTypeBracketHandler;
 import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import com.blamejared.crafttweaker.api.recipe.manager.RecipeManagerWrapper;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
@@ -13,6 +14,7 @@ import net.minecraft.world.item.crafting.RecipeType;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,6 +38,14 @@ public abstract class ActionWholeRegistryBase implements IRuntimeAction {
         return result;
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected Map<String, Integer> byCommandString(Map<RecipeType<?>, Integer> removedByType) {
+        
+        final Map<String, Integer> result = new TreeMap<>();
+        removedByType.forEach((recipeType, removed) -> result.put(new RecipeManagerWrapper((RecipeType) recipeType).getCommandString(), removed));
+        return result;
+    }
+    
     protected String makeRecipeList(Map<String, Integer> recipeTypes) {
         
         return recipeTypes.entrySet().stream()
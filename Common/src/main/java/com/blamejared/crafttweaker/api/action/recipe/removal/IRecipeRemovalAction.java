@@ -0,0 +1,41 @@
+package com.blamejared.crafttweaker.api.action.recipe.removal;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.action.base.IRuntimeAction;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import net.minecraft.world.item.crafting.RecipeType;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * An action that removes recipes and can be batched with other removals by a {@link RecipeRemovalPlanner}.
+ *
+ * While scripts are running, these actions are not applied one by one: they are collected and applied in a single pass
+ * over each recipe type once a different action is applied or the scripts finish. {@link #apply()} must still work on
+ * its own, as actions can be applied outside of a script run.
+ */
+public interface IRecipeRemovalAction extends IRuntimeAction {
+    
+    /**
+     * Gets the recipe lists this action removes from.
+     */
+    Collection<RecipeList<?>> getTargetLists();
+    
+    /**
+     * Gets the criterion that decides which recipes are removed.
+     */
+    RecipeRemovalCriterion getCriterion();
+    
+    /**
+     * Called once the action has been applied as part of a plan.
+     *
+     * @param removed The amount of removed recipes for each type this action removed recipes from.
+     */
+    default void reportRemovals(Map<RecipeType<?>, Integer> removed) {
+        
+        final int total = removed.values().stream().mapToInt(Integer::intValue).sum();
+        CraftTweakerAPI.LOGGER.info("Removed {} recipe(s) for: {}", total, describe());
+    }
+    
+}
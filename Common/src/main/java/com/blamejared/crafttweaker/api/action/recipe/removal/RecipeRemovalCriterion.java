@@ -0,0 +1,185 @@
+package com.blamejared.crafttweaker.api.action.recipe.removal;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Describes which recipes a {@link IRecipeRemovalAction} removes, in a way that lets a {@link RecipeRemovalPlan}
+ * index it instead of testing it against every recipe.
+ */
+public final class RecipeRemovalCriterion {
+    
+    enum Kind {
+        ALL, ID, MODID, REGEX, OUTPUT, INPUT, PREDICATE
+    }
+    
+    private final Kind kind;
+    @Nullable
+    private final ResourceLocation id;
+    @Nullable
+    private final String modid;
+    @Nullable
+    private final Pattern regex;
+    @Nullable
+    private final Predicate<String> exclude;
+    @Nullable
+    private final IIngredient output;
+    @Nullable
+    private final IItemStack input;
+    @Nullable
+    private final Predicate<Recipe<?>> predicate;
+    
+    private RecipeRemovalCriterion(Kind kind, @Nullable ResourceLocation id, @Nullable String modid, @Nullable Pattern regex, @Nullable Predicate<String> exclude, @Nullable IIngredient output, @Nullable IItemStack input, @Nullable Predicate<Recipe<?>> predicate) {
+        
+        this.kind = kind;
+        this.id = id;
+        this.modid = modid;
+        this.regex = regex;
+        this.exclude = exclude;
+        this.output = output;
+        this.input = input;
+        this.predicate = predicate;
+    }
+    
+    public static RecipeRemovalCriterion all() {
+        
+        return new RecipeRemovalCriterion(Kind.ALL, null, null, null, null, null, null, null);
+    }
+    
+    public static RecipeRemovalCriterion byId(ResourceLocation id) {
+        
+        return new RecipeRemovalCriterion(Kind.ID, id, null, null, null, null, null, null);
+    }
+    
+    /**
+     * @param exclude Recipes whose id path passes this predicate are kept, may be null.
+     */
+    public static RecipeRemovalCriterion byModid(String modid, @Nullable Predicate<String> exclude) {
+        
+        return new RecipeRemovalCriterion(Kind.MODID, null, modid, null, exclude, null, null, null);
+    }
+    
+    /**
+     * @param exclude Recipes whose id path passes this predicate are kept, may be null.
+     */
+    public static RecipeRemovalCriterion byRegex(Pattern regex, @Nullable Predicate<String> exclude) {
+        
+        return new RecipeRemovalCriterion(Kind.REGEX, null, null, regex, exclude, null, null, null);
+    }
+    
+    public static RecipeRemovalCriterion byOutput(IIngredient output) {
+        
+        return new RecipeRemovalCriterion(Kind.OUTPUT, null, null, null, null, output, null, null);
+    }
+    
+    /**
+     * Matches recipes that have at least one ingredient accepting the given stack.
+     */
+    public static RecipeRemovalCriterion byInput(IItemStack input) {
+        
+        return new RecipeRemovalCriterion(Kind.INPUT, null, null, null, null, null, input, null);
+    }
+    
+    /**
+     * A criterion that cannot be indexed, it is tested against every recipe.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Recipe<?>> RecipeRemovalCriterion matching(Predicate<T> predicate) {
+        
+        return new RecipeRemovalCriterion(Kind.PREDICATE, null, null, null, null, null, null, (Predicate<Recipe<?>>) (Predicate<?>) predicate);
+    }
+    
+    Kind kind() {
+        
+        return kind;
+    }
+    
+    @Nullable
+    ResourceLocation id() {
+        
+        return id;
+    }
+    
+    @Nullable
+    String modid() {
+        
+        return modid;
+    }
+    
+    @Nullable
+    Pattern regex() {
+        
+        return regex;
+    }
+    
+    @Nullable
+    IIngredient output() {
+        
+        return output;
+    }
+    
+    @Nullable
+    IItemStack input() {
+        
+        return input;
+    }
+    
+    /**
+     * Performs the exact test, the index of a plan only narrows down the criteria that have to be tested.
+     */
+    boolean test(ResourceLocation recipeId, Recipe<?> recipe, RecipeRemovalPlan.RecipeView view) {
+        
+        return switch(kind) {
+            case ALL -> true;
+            case ID -> recipeId.equals(id);
+            case MODID -> recipeId.getNamespace().equals(modid) && isNotExcluded(recipeId);
+            case REGEX -> regex.matcher(view.idString()).matches() && isNotExcluded(recipeId);
+            case OUTPUT -> output.matches(view.output());
+            case INPUT -> testInput(recipe);
+            case PREDICATE -> predicate.test(recipe);
+        };
+    }
+    
+    private boolean isNotExcluded(ResourceLocation recipeId) {
+        
+        return exclude == null || !exclude.test(recipeId.getPath());
+    }
+    
+    private boolean testInput(Recipe<?> recipe) {
+        
+        for(Ingredient ingredient : recipe.getIngredients()) {
+            if(ingredient.test(input.getInternal())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        
+        return switch(kind) {
+            case ALL -> "all";
+            case ID -> "id " + id;
+            case MODID -> "modid " + modid;
+            case REGEX -> "regex " + regex.pattern();
+            case OUTPUT -> "output " + output.getCommandString();
+            case INPUT -> "input " + input.getCommandString();
+            case PREDICATE -> "custom predicate";
+        };
+    }
+    
+    static IItemStack wrapOutput(Recipe<?> recipe) {
+        
+        return Services.PLATFORM.createMCItemStackMutable(recipe.getResultItem());
+    }
+    
+}
@@ -0,0 +1,268 @@
+package com.blamejared.crafttweaker.api.action.recipe.removal;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import com.blamejared.crafttweaker.api.util.IngredientUtil;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * The removals of a single recipe type, indexed so that each recipe only has to be tested against the removals that
+ * could possibly match it.
+ *
+ * Every recipe is removed by the first removal (in the order the removals were made) that matches it, which gives the
+ * same result and the same per-removal counts as applying the removals one after another.
+ */
+final class RecipeRemovalPlan {
+    
+    private static final Comparator<Entry> BY_ORDER = Comparator.comparingInt(entry -> entry.order);
+    
+    /**
+     * Back-references and named groups cannot be safely combined into a single pattern.
+     */
+    private static final Pattern UNCOMBINABLE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]");
+    
+    private final RecipeList<?> list;
+    
+    private final List<Entry> always = new ArrayList<>();
+    private final Map<ResourceLocation, List<Entry>> byId = new HashMap<>();
+    private final Map<String, List<Entry>> byModid = new HashMap<>();
+    private final List<Entry> regexes = new ArrayList<>();
+    private final Map<Item, List<Entry>> byOutputItem = new HashMap<>();
+    private final Map<Item, List<Entry>> byInputItem = new HashMap<>();
+    private final List<Entry> inputs = new ArrayList<>();
+    
+    @Nullable
+    private Pattern combinedRegex;
+    
+    RecipeRemovalPlan(RecipeList<?> list) {
+        
+        this.list = list;
+    }
+    
+    void add(Entry entry) {
+        
+        final RecipeRemovalCriterion criterion = entry.criterion;
+        switch(criterion.kind()) {
+            case ID -> byId.computeIfAbsent(criterion.id(), it -> new ArrayList<>()).add(entry);
+            case MODID -> byModid.computeIfAbsent(criterion.modid(), it -> new ArrayList<>()).add(entry);
+            case REGEX -> regexes.add(entry);
+            case OUTPUT -> {
+                final Set<Item> items = IngredientUtil.getMatchableItems(criterion.output());
+                if(items == null) {
+                    always.add(entry);
+                } else {
+                    items.forEach(item -> byOutputItem.computeIfAbsent(item, it -> new ArrayList<>()).add(entry));
+                }
+            }
+            case INPUT -> {
+                inputs.add(entry);
+                byInputItem.computeIfAbsent(criterion.input().getInternal().getItem(), it -> new ArrayList<>())
+                        .add(entry);
+            }
+            case ALL, PREDICATE -> always.add(entry);
+        }
+    }
+    
+    void run() {
+        
+        compileRegexes();
+        
+        final List<ResourceLocation> toRemove = new ArrayList<>();
+        final List<Entry> candidates = new ArrayList<>();
+        for(Map.Entry<ResourceLocation, ? extends Recipe<?>> recipeEntry : list.getRecipes().entrySet()) {
+            final ResourceLocation id = recipeEntry.getKey();
+            final Recipe<?> recipe = recipeEntry.getValue();
+            final RecipeView view = new RecipeView(id, recipe);
+            
+            candidates.clear();
+            collectCandidates(id, recipe, view, candidates);
+            if(candidates.isEmpty()) {
+                continue;
+            }
+            if(candidates.size() > 1) {
+                candidates.sort(BY_ORDER);
+            }
+            
+            for(Entry candidate : candidates) {
+                if(candidate.test(id, recipe, view)) {
+                    candidate.removed++;
+                    toRemove.add(id);
+                    break;
+                }
+            }
+        }
+        
+        toRemove.forEach(list::remove);
+    }
+    
+    private void collectCandidates(ResourceLocation id, Recipe<?> recipe, RecipeView view, List<Entry> candidates) {
+        
+        candidates.addAll(always);
+        addAll(candidates, byId.get(id));
+        addAll(candidates, byModid.get(id.getNamespace()));
+        
+        if(!regexes.isEmpty() && (combinedRegex == null || combinedRegex.matcher(view.idString()).matches())) {
+            candidates.addAll(regexes);
+        }
+        
+        if(!byOutputItem.isEmpty()) {
+            addAll(candidates, byOutputItem.get(recipe.getResultItem().getItem()));
+        }
+        
+        if(!inputs.isEmpty()) {
+            final Set<Item> inputItems = inputItemsOf(recipe);
+            if(inputItems == null) {
+                candidates.addAll(inputs);
+            } else {
+                for(Item item : inputItems) {
+                    addAll(candidates, byInputItem.get(item));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets all the items the ingredients of the recipe can accept, or null if an ingredient cannot be analysed.
+     */
+    @Nullable
+    private static Set<Item> inputItemsOf(Recipe<?> recipe) {
+        
+        final Set<Item> items = new HashSet<>();
+        for(Ingredient ingredient : recipe.getIngredients()) {
+            if(ingredient.isEmpty()) {
+                continue;
+            }
+            final Set<Item> matchable = IngredientUtil.getMatchableItems(ingredient);
+            if(matchable == null) {
+                return null;
+            }
+            items.addAll(matchable);
+        }
+        return items;
+    }
+    
+    private void compileRegexes() {
+        
+        if(regexes.size() < 2) {
+            return;
+        }
+        
+        final List<String> patterns = regexes.stream()
+                .map(entry -> entry.criterion.regex().pattern())
+                .distinct()
+                .toList();
+        if(patterns.stream().anyMatch(pattern -> UNCOMBINABLE.matcher(pattern).find())) {
+            return;
+        }
+        try {
+            combinedRegex = Pattern.compile(patterns.stream()
+                    .map(pattern -> "(?:" + pattern + ")")
+                    .collect(Collectors.joining("|")));
+        } catch(PatternSyntaxException e) {
+            // Fall back to testing every pattern on its own
+            combinedRegex = null;
+        }
+    }
+    
+    private static void addAll(List<Entry> candidates, @Nullable List<Entry> entries) {
+        
+        if(entries != null) {
+            candidates.addAll(entries);
+        }
+    }
+    
+    static final class Entry {
+        
+        private final int order;
+        private final IRecipeRemovalAction action;
+        private final RecipeRemovalCriterion criterion;
+        private final RecipeType<?> type;
+        private int removed;
+        private boolean failed;
+        
+        Entry(int order, IRecipeRemovalAction action, RecipeRemovalCriterion criterion, RecipeType<?> type) {
+            
+            this.order = order;
+            this.action = action;
+            this.criterion = criterion;
+            this.type = type;
+        }
+        
+        RecipeType<?> type() {
+            
+            return type;
+        }
+        
+        int removed() {
+            
+            return removed;
+        }
+        
+        private boolean test(ResourceLocation id, Recipe<?> recipe, RecipeView view) {
+            
+            if(failed) {
+                return false;
+            }
+            try {
+                return criterion.test(id, recipe, view);
+            } catch(Exception e) {
+                failed = true;
+                CraftTweakerAPI.LOGGER.error("Error running action: {}", action.describe(), e);
+                return false;
+            }
+        }
+        
+    }
+    
+    /**
+     * Lazily computed values of a recipe that are shared between the criteria testing it.
+     */
+    static final class RecipeView {
+        
+        private final ResourceLocation id;
+        private final Recipe<?> recipe;
+        private String idString;
+        private IItemStack output;
+        
+        private RecipeView(ResourceLocation id, Recipe<?> recipe) {
+            
+            this.id = id;
+            this.recipe = recipe;
+        }
+        
+        String idString() {
+            
+            if(idString == null) {
+                idString = id.toString();
+            }
+            return idString;
+        }
+        
+        IItemStack output() {
+            
+            if(output == null) {
+                output = RecipeRemovalCriterion.wrapOutput(recipe);
+            }
+            return output;
+        }
+        
+    }
+    
+}
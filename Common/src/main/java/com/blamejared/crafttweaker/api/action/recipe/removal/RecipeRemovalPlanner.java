@@ -0,0 +1,134 @@
+package com.blamejared.crafttweaker.api.action.recipe.removal;
+
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import net.minecraft.world.item.crafting.RecipeType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the {@link IRecipeRemovalAction}s made while scripts run and applies them as one {@link RecipeRemovalPlan}
+ * per recipe type.
+ *
+ * The planner has to be flushed before any other action is applied, so that actions always see the recipes as if every
+ * removal before them had been applied immediately.
+ *
+ * Anything that reads recipes while a planner is active has to call {@link #flushActive()} first, {@link RecipeList}
+ * does this for all of its getters. A planner is only active on the thread that started it, which is the thread the
+ * scripts run on.
+ *
+ * Only actions whose {@link IRecipeRemovalAction#apply()} is implemented by CraftTweaker itself are deferred, an
+ * action that overrides it may do more than removing the recipes that match its criterion.
+ */
+public final class RecipeRemovalPlanner {
+    
+    private static final String FRAMEWORK_PACKAGE = "com.blamejared.crafttweaker.";
+    private static final ThreadLocal<RecipeRemovalPlanner> ACTIVE = new ThreadLocal<>();
+    private static final ClassValue<Boolean> DEFERRABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            
+            try {
+                return type.getMethod("apply").getDeclaringClass().getName().startsWith(FRAMEWORK_PACKAGE);
+            } catch(NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+    
+    private final List<IRecipeRemovalAction> pending = new ArrayList<>();
+    
+    /**
+     * Applies the pending removals of the planner that is active on this thread, if there is one.
+     */
+    public static void flushActive() {
+        
+        final RecipeRemovalPlanner planner = ACTIVE.get();
+        if(planner != null) {
+            planner.flush();
+        }
+    }
+    
+    /**
+     * Checks if the given action can be collected by a planner instead of being applied right away.
+     */
+    public static boolean canDefer(IRecipeRemovalAction action) {
+        
+        return DEFERRABLE.get(action.getClass());
+    }
+    
+    /**
+     * Makes this the active planner of the current thread, until {@link #finish()} is called reads of recipes flush
+     * this planner first.
+     */
+    public void start() {
+        
+        ACTIVE.set(this);
+    }
+    
+    /**
+     * Applies all pending removals and stops being the active planner.
+     */
+    public void finish() {
+        
+        try {
+            flush();
+        } finally {
+            if(ACTIVE.get() == this) {
+                ACTIVE.remove();
+            }
+        }
+    }
+    
+    public void enqueue(IRecipeRemovalAction action) {
+        
+        pending.add(action);
+    }
+    
+    public boolean isEmpty() {
+        
+        return pending.isEmpty();
+    }
+    
+    /**
+     * Applies all pending removals, logging how many recipes each of them removed.
+     */
+    public void flush() {
+        
+        if(pending.isEmpty()) {
+            return;
+        }
+        
+        final List<IRecipeRemovalAction> actions = new ArrayList<>(pending);
+        pending.clear();
+        
+        final Map<RecipeType<?>, RecipeRemovalPlan> plans = new LinkedHashMap<>();
+        final List<List<RecipeRemovalPlan.Entry>> entriesByAction = new ArrayList<>(actions.size());
+        for(int order = 0; order < actions.size(); order++) {
+            final IRecipeRemovalAction action = actions.get(order);
+            final RecipeRemovalCriterion criterion = action.getCriterion();
+            final List<RecipeRemovalPlan.Entry> entries = new ArrayList<>();
+            for(RecipeList<?> list : action.getTargetLists()) {
+                final RecipeRemovalPlan.Entry entry = new RecipeRemovalPlan.Entry(order, action, criterion, list.getRecipeType());
+                plans.computeIfAbsent(list.getRecipeType(), type -> new RecipeRemovalPlan(list)).add(entry);
+                entries.add(entry);
+            }
+            entriesByAction.add(entries);
+        }
+        
+        plans.values().forEach(RecipeRemovalPlan::run);
+        
+        for(int order = 0; order < actions.size(); order++) {
+            final Map<RecipeType<?>, Integer> removed = new LinkedHashMap<>();
+            for(RecipeRemovalPlan.Entry entry : entriesByAction.get(order)) {
+                if(entry.removed() > 0) {
+                    removed.merge(entry.type(), entry.removed(), Integer::sum);
+                }
+            }
+            actions.get(order).reportRemovals(removed);
+        }
+    }
+    
+}
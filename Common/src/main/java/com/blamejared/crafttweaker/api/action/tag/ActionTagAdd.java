@@ -26,4 +26,10 @@ public class ActionTagAdd<T> extends ActionTagModify<T> {
         return "Adding: " + describeValues() + " to tag: " + mcTag;
     }
     
+    @Override
+    public String describeUndo() {
+        
+        return "Undoing addition of: " + describeValues() + " to tag: " + mcTag;
+    }
+    
 }
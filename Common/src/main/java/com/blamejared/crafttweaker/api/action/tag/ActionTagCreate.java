@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api.action.tag;
 
 import com.blamejared.crafttweaker.api.tag.MCTag;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
 import com.blamejared.crafttweaker.api.util.HandleHelper;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
@@ -46,6 +47,7 @@ public class ActionTagCreate<T> extends ActionTag<T> {
     public void apply() {
         
         getIdTagMap(collection).put(getId(), tag);
+        TagElementIndex.INSTANCE.invalidate();
     }
     
     @Override
@@ -1,22 +1,26 @@
 package com.blamejared.crafttweaker.api.action.tag;
 
+import com.blamejared.crafttweaker.api.action.base.IUndoableAction;
 import com.blamejared.crafttweaker.api.tag.MCTag;
-import com.blamejared.crafttweaker.mixin.common.access.tag.AccessSetTag;
-import com.google.common.collect.ImmutableList;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
 import net.minecraft.tags.SetTag;
 import net.minecraft.tags.Tag;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public abstract class ActionTagModify<T> extends ActionTag<T> {
+public abstract class ActionTagModify<T> extends ActionTag<T> implements IUndoableAction {
     
     protected final List<T> values;
+    /**
+     * The contents of the tag before this action (or the batch it was staged in) was applied.
+     */
+    @Nullable
+    private StagedTagChanges.TagState<T> previousState;
     
     public ActionTagModify(Tag<T> tag, List<T> values, MCTag<?> mcTag) {
         
@@ -27,21 +31,35 @@ public abstract class ActionTagModify<T> extends ActionTag<T> {
     @Override
     public void apply() {
         
-        if(tag instanceof SetTag setTag) {
-            
-            List<T> list = new ArrayList<>(((AccessSetTag) setTag).getValuesList());
-            Set<T> set = new HashSet<>(((AccessSetTag) setTag).getValues());
-            applyTo(list, set);
-            ((AccessSetTag) setTag).setValuesList(ImmutableList.copyOf(list));
-            ((AccessSetTag) setTag).setValues(set);
-            ((AccessSetTag) setTag).setClosestCommonSuperType(AccessSetTag.findCommonSuperClass(set));
+        if(tag instanceof SetTag<T> setTag) {
+            StagedTagChanges.INSTANCE.apply(this, setTag);
         } else {
             throw new RuntimeException("Only SetTag's are supported right now, can't act on: " + tag);
         }
     }
     
+    @Override
+    public void undo() {
+        
+        if(previousState != null && tag instanceof SetTag<T> setTag) {
+            StagedTagChanges.INSTANCE.flush();
+            previousState.restore(setTag);
+            previousState = null;
+            TagElementIndex.INSTANCE.invalidate();
+        }
+    }
+    
+    /**
+     * Applies this action to working copies of the tag's contents, which are written back to the tag afterwards.
+     * While scripts are running, the copies may already contain the changes of other actions on the same tag.
+     */
     protected abstract void applyTo(List<T> immutableContents, Set<T> contents);
     
+    void setPreviousState(StagedTagChanges.TagState<T> previousState) {
+        
+        this.previousState = previousState;
+    }
+    
     public List<T> getValues() {
         
         return values;
@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.api.action.tag;
 import com.blamejared.crafttweaker.api.tag.MCTag;
 import net.minecraft.tags.Tag;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -16,7 +17,7 @@ public class ActionTagRemove<T> extends ActionTagModify<T> {
     @Override
     protected void applyTo(List<T> immutableContents, Set<T> contents) {
         
-        immutableContents.removeAll(values);
+        immutableContents.removeAll(new HashSet<>(values));
         values.forEach(contents::remove);
     }
     
@@ -26,4 +27,10 @@ public class ActionTagRemove<T> extends ActionTagModify<T> {
         return "Removing: " + describeValues() + " from tag: " + mcTag;
     }
     
+    @Override
+    public String describeUndo() {
+        
+        return "Undoing removal of: " + describeValues() + " from tag: " + mcTag;
+    }
+    
 }
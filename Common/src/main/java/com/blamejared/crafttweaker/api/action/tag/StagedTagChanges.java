@@ -0,0 +1,142 @@
+package com.blamejared.crafttweaker.api.action.tag;
+
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
+import com.blamejared.crafttweaker.mixin.common.access.tag.AccessSetTag;
+import com.google.common.collect.ImmutableList;
+import net.minecraft.tags.SetTag;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stages the changes {@link ActionTagModify} actions make to tags while scripts run.
+ *
+ * Every tag that is changed gets a single working copy of its contents that all the staged actions are applied to. The
+ * working copies are only written back to their tags when {@link #flush()} is called, so a tag is rebuilt once no matter
+ * how many times it was changed, instead of once per change.
+ *
+ * Anything that reads the contents of a tag while changes are staged has to call {@link #flush()} first.
+ */
+public final class StagedTagChanges {
+    
+    public static final StagedTagChanges INSTANCE = new StagedTagChanges();
+    
+    private final Map<SetTag<?>, WorkingCopy<?>> staged = new IdentityHashMap<>();
+    /**
+     * Whether {@link #staged} has any changes, read without holding the lock as tags are read far more often than they
+     * are changed.
+     */
+    private volatile boolean hasPending;
+    private boolean active;
+    
+    private StagedTagChanges() {}
+    
+    /**
+     * Starts staging changes, until {@link #finish()} is called changes are not written to the tags right away.
+     */
+    public synchronized void start() {
+        
+        active = true;
+    }
+    
+    /**
+     * Writes all the staged changes to their tags and stops staging changes.
+     */
+    public synchronized void finish() {
+        
+        try {
+            flush();
+        } finally {
+            active = false;
+        }
+    }
+    
+    /**
+     * Writes all the staged changes to their tags.
+     */
+    public void flush() {
+        
+        if(!hasPending) {
+            return;
+        }
+        
+        synchronized(this) {
+            if(staged.isEmpty()) {
+                return;
+            }
+            
+            staged.values().forEach(WorkingCopy::publish);
+            staged.clear();
+            hasPending = false;
+            TagElementIndex.INSTANCE.invalidate();
+        }
+    }
+    
+    synchronized <T> void apply(ActionTagModify<T> action, SetTag<T> tag) {
+        
+        if(active) {
+            @SuppressWarnings("unchecked") final WorkingCopy<T> copy = (WorkingCopy<T>) staged.computeIfAbsent(tag, WorkingCopy::new);
+            action.setPreviousState(copy.previous);
+            action.applyTo(copy.list, copy.set);
+            hasPending = true;
+        } else {
+            final WorkingCopy<T> copy = new WorkingCopy<>(tag);
+            action.setPreviousState(copy.previous);
+            action.applyTo(copy.list, copy.set);
+            copy.publish();
+            TagElementIndex.INSTANCE.invalidate();
+        }
+    }
+    
+    /**
+     * The contents of a tag before it was changed, used to undo the changes.
+     */
+    record TagState<T>(ImmutableList<T> list, Set<T> set, Class<?> superType) {
+        
+        static <T> TagState<T> of(SetTag<T> tag) {
+            
+            final AccessSetTag access = (AccessSetTag) tag;
+            return new TagState<>(access.getValuesList(), access.getValues(), access.getClosestCommonSuperType());
+        }
+        
+        void restore(SetTag<T> tag) {
+            
+            final AccessSetTag access = (AccessSetTag) tag;
+            access.setValuesList(list);
+            access.setValues(set);
+            access.setClosestCommonSuperType(superType);
+        }
+        
+    }
+    
+    private static final class WorkingCopy<T> {
+        
+        private final SetTag<T> tag;
+        private final TagState<T> previous;
+        private final List<T> list;
+        private final Set<T> set;
+        
+        private WorkingCopy(SetTag<?> tag) {
+            
+            @SuppressWarnings("unchecked") final SetTag<T> typed = (SetTag<T>) tag;
+            this.tag = typed;
+            this.previous = TagState.of(typed);
+            this.list = new ArrayList<>(previous.list());
+            this.set = new HashSet<>(previous.set());
+        }
+        
+        private void publish() {
+            
+            final AccessSetTag access = (AccessSetTag) tag;
+            access.setValuesList(ImmutableList.copyOf(list));
+            access.setValues(set);
+            access.setClosestCommonSuperType(AccessSetTag.findCommonSuperClass(set));
+        }
+        
+    }
+    
+}
@@ -59,6 +59,7 @@ public class ActionRemoveTrade extends ActionTradeBase {
     public void undo(List<VillagerTrades.ItemListing> tradeList) {
         
         tradeList.addAll(removed);
+        removed.clear();
     }
     
     @Override
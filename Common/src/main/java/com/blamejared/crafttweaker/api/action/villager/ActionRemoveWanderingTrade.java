@@ -63,6 +63,7 @@ public class ActionRemoveWanderingTrade extends ActionTradeBase {
     public void undo(List<VillagerTrades.ItemListing> tradeList) {
         
         tradeList.addAll(removed);
+        removed.clear();
     }
     
     @Override
@@ -0,0 +1,26 @@
+package com.blamejared.crafttweaker.api.data;
+
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import net.minecraft.nbt.Tag;
+
+/**
+ * A view of an entry of a {@link MapData} or an element of a {@link ListData}, which is reused while the tag it views is
+ * still the one in the map or list.
+ *
+ * Tags are compared by identity, so a view also becomes stale when the tag is replaced through the internal tag of the
+ * map or list.
+ */
+record ChildView(Tag tag, IData data) {
+    
+    static ChildView of(Tag tag) {
+        
+        return new ChildView(tag, TagToDataConverter.convert(tag));
+    }
+    
+    boolean isViewOf(Tag tag) {
+        
+        return this.tag == tag;
+    }
+    
+}
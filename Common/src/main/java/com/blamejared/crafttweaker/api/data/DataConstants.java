@@ -0,0 +1,84 @@
+package com.blamejared.crafttweaker.api.data;
+
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagParser;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the data of map and list literals in scripts whose contents are all constants.
+ *
+ * Such literals are built once when the script is compiled, the compiled script only passes the key of the literal.
+ * The key is the SNBT of the literal, so the same literal in different scripts or in different script runs shares one
+ * entry and a key is always enough to build the data again.
+ *
+ * The data in here is never written to, scripts get copy on write views of it.
+ */
+public final class DataConstants {
+    
+    /**
+     * The ZenCode name of the internal methods that compiled literals call to get their data, which is chosen so scripts
+     * do not use it by accident.
+     */
+    public static final String LITERAL_METHOD = "internalConstantLiteral";
+    
+    private static final String VALUE_KEY = "value";
+    private static final String BOOL_KEYS_KEY = "bools";
+    
+    private static final Map<String, IData> CONSTANTS = new ConcurrentHashMap<>();
+    
+    private DataConstants() {}
+    
+    /**
+     * Registers the given data as a constant, it must not be written to afterwards.
+     *
+     * @return The key to get the constant with.
+     */
+    public static String register(IData data) {
+        
+        final CompoundTag keyTag = new CompoundTag();
+        keyTag.put(VALUE_KEY, data.getInternal());
+        if(data instanceof MapData map && !map.getBoolDataKeys().isEmpty()) {
+            final ListTag boolKeys = new ListTag();
+            map.getBoolDataKeys().forEach(key -> boolKeys.add(StringTag.valueOf(key)));
+            keyTag.put(BOOL_KEYS_KEY, boolKeys);
+        }
+        final String key = keyTag.getAsString();
+        CONSTANTS.putIfAbsent(key, data);
+        return key;
+    }
+    
+    static IData get(String key) {
+        
+        final IData data = CONSTANTS.get(key);
+        return data != null ? data : CONSTANTS.computeIfAbsent(key, DataConstants::parse);
+    }
+    
+    private static IData parse(String key) {
+        
+        final CompoundTag keyTag;
+        try {
+            keyTag = TagParser.parseTag(key);
+        } catch(CommandSyntaxException e) {
+            throw new IllegalArgumentException("Invalid constant data: " + key, e);
+        }
+        
+        final Tag value = keyTag.get(VALUE_KEY);
+        if(value instanceof CompoundTag compound) {
+            final Set<String> boolKeys = new HashSet<>();
+            keyTag.getList(BOOL_KEYS_KEY, Tag.TAG_STRING).forEach(tag -> boolKeys.add(tag.getAsString()));
+            return new MapData(compound, boolKeys);
+        }
+        return TagToDataConverter.convert(value);
+    }
+    
+}
@@ -7,13 +7,21 @@ import com.blamejared.crafttweaker.api.data.base.IData;
 import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
 import com.blamejared.crafttweaker.api.data.base.visitor.DataVisitor;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @docParam this ["Hello", "World", "!"]
@@ -23,13 +31,31 @@ import java.util.List;
 @Document("vanilla/api/data/ListData")
 public class ListData implements ICollectionData {
     
-    private final ListTag internal;
+    private ListTag internal;
+    /**
+     * Whether the internal tag belongs to a constant, see {@link #copyOnWrite()}.
+     */
+    private boolean shared;
+    /**
+     * The views of the elements that were read by index, so reading an element again does not wrap its tag again.
+     *
+     * Reads can happen on several threads at once, so this is only ever read once into a local and the views are
+     * immutable. A view that is lost to a race is simply created again on the next read.
+     */
+    @Nullable
+    private volatile ChildView[] views;
     
     public ListData(ListTag internal) {
         
         this.internal = internal;
     }
     
+    private ListData(ListTag internal, boolean shared) {
+        
+        this.internal = internal;
+        this.shared = shared;
+    }
+    
     @ZenCodeType.Constructor
     public ListData() {
         
@@ -59,6 +85,22 @@ public class ListData implements ICollectionData {
         return Arrays.asList(array);
     }
     
+    /**
+     * Gets a list literal whose contents are all constants, this is what such literals in scripts are compiled to.
+     *
+     * Internal, scripts should not call this themselves. It is only visible to ZenCode because compiled literals look it
+     * up as a member of this type, under the name {@link DataConstants#LITERAL_METHOD}.
+     *
+     * @param key The key the literal was registered with in {@link DataConstants}.
+     *
+     * @return A copy on write view of the literal.
+     */
+    @ZenCodeType.Method(DataConstants.LITERAL_METHOD)
+    public static ListData constant(String key) {
+        
+        return ((ListData) DataConstants.get(key)).copyOnWrite();
+    }
+    
     
     @Override
     public IData setAt(int index, IData value) {
@@ -87,25 +129,262 @@ public class ListData implements ICollectionData {
     @Override
     public IData getAt(int index) {
         
-        return TagToDataConverter.convert(getInternal().get(index));
+        return getView(index, getElements().get(index));
+    }
+    
+    private IData getView(int index, Tag tag) {
+        
+        ChildView[] views = this.views;
+        if(views == null || views.length <= index) {
+            views = Arrays.copyOf(views == null ? new ChildView[0] : views, Math.max(index + 1, internal.size()));
+            this.views = views;
+        }
+        final ChildView view = views[index];
+        if(view != null && view.isViewOf(tag)) {
+            return view.data();
+        }
+        final ChildView newView = ChildView.of(tag);
+        views[index] = newView;
+        return newView.data();
+    }
+    
+    /**
+     * Calls the given consumer for every element of this list, without copying the elements into a new list first.
+     *
+     * @param consumer The consumer for each element.
+     *
+     * @docParam consumer (element) => println(element.asString())
+     */
+    @ZenCodeType.Method
+    public void forEach(Consumer<IData> consumer) {
+        
+        for(int i = 0; i < internal.size(); i++) {
+            consumer.accept(getAt(i));
+        }
+    }
+    
+    /**
+     * Calls the given consumer for the tag of every element of this list, without creating any IData.
+     *
+     * The tags are the ones in this list, so changing them changes this list.
+     */
+    public void forEachTag(Consumer<Tag> consumer) {
+        
+        for(Tag tag : getInternal()) {
+            consumer.accept(tag);
+        }
+    }
+    
+    /**
+     * Gets the element at the given index as an int, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a number.
+     *
+     * @return The element at the index, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue 5
+     */
+    @ZenCodeType.Method
+    public int getInt(int index, @ZenCodeType.OptionalInt int defaultValue) {
+        
+        return getTag(index) instanceof NumericTag numeric ? numeric.getAsInt() : defaultValue;
+    }
+    
+    /**
+     * Gets the element at the given index as a long, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a number.
+     *
+     * @return The element at the index, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue 5
+     */
+    @ZenCodeType.Method
+    public long getLong(int index, @ZenCodeType.OptionalLong long defaultValue) {
+        
+        return getTag(index) instanceof NumericTag numeric ? numeric.getAsLong() : defaultValue;
+    }
+    
+    /**
+     * Gets the element at the given index as a float, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a number.
+     *
+     * @return The element at the index, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue 0.5
+     */
+    @ZenCodeType.Method
+    public float getFloat(int index, @ZenCodeType.OptionalFloat float defaultValue) {
+        
+        return getTag(index) instanceof NumericTag numeric ? numeric.getAsFloat() : defaultValue;
+    }
+    
+    /**
+     * Gets the element at the given index as a double, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a number.
+     *
+     * @return The element at the index, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue 0.5
+     */
+    @ZenCodeType.Method
+    public double getDouble(int index, @ZenCodeType.OptionalDouble double defaultValue) {
+        
+        return getTag(index) instanceof NumericTag numeric ? numeric.getAsDouble() : defaultValue;
+    }
+    
+    /**
+     * Gets the element at the given index as a bool, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a number.
+     *
+     * @return True if the element at the index is not 0, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue true
+     */
+    @ZenCodeType.Method
+    public boolean getBool(int index, @ZenCodeType.OptionalBoolean boolean defaultValue) {
+        
+        return getTag(index) instanceof NumericTag numeric ? numeric.getAsByte() != 0 : defaultValue;
+    }
+    
+    /**
+     * Gets the element at the given index as a string, without creating an IData for it.
+     *
+     * @param index        The index of the element.
+     * @param defaultValue The value to return if there is no element at the index or it is not a string.
+     *
+     * @return The element at the index, or the default value.
+     *
+     * @docParam index 0
+     * @docParam defaultValue "World"
+     */
+    @ZenCodeType.Method
+    public String getString(int index, @ZenCodeType.OptionalString String defaultValue) {
+        
+        return getTag(index) instanceof StringTag string ? string.getAsString() : defaultValue;
+    }
+    
+    @Nullable
+    private Tag getTag(int index) {
+        
+        return index >= 0 && index < internal.size() ? internal.get(index) : null;
+    }
+    
+    /**
+     * Sets the element at the given index to the given int, without creating an IData for it.
+     *
+     * Like all elements of a list, the value has to be of the same type as the other elements.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     *
+     * @docParam index 0
+     * @docParam value 5
+     */
+    @ZenCodeType.Method
+    public void setInt(int index, int value) {
+        
+        getInternal().set(index, IntTag.valueOf(value));
+    }
+    
+    /**
+     * Sets the element at the given index to the given long, without creating an IData for it.
+     *
+     * Like all elements of a list, the value has to be of the same type as the other elements.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     *
+     * @docParam index 0
+     * @docParam value 5
+     */
+    @ZenCodeType.Method
+    public void setLong(int index, long value) {
+        
+        getInternal().set(index, LongTag.valueOf(value));
+    }
+    
+    /**
+     * Sets the element at the given index to the given float, without creating an IData for it.
+     *
+     * Like all elements of a list, the value has to be of the same type as the other elements.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     *
+     * @docParam index 0
+     * @docParam value 0.5
+     */
+    @ZenCodeType.Method
+    public void setFloat(int index, float value) {
+        
+        getInternal().set(index, FloatTag.valueOf(value));
+    }
+    
+    /**
+     * Sets the element at the given index to the given double, without creating an IData for it.
+     *
+     * Like all elements of a list, the value has to be of the same type as the other elements.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     *
+     * @docParam index 0
+     * @docParam value 0.5
+     */
+    @ZenCodeType.Method
+    public void setDouble(int index, double value) {
+        
+        getInternal().set(index, DoubleTag.valueOf(value));
+    }
+    
+    /**
+     * Sets the element at the given index to the given string, without creating an IData for it.
+     *
+     * Like all elements of a list, the value has to be of the same type as the other elements.
+     *
+     * @param index The index of the element.
+     * @param value The value to set.
+     *
+     * @docParam index 0
+     * @docParam value "World"
+     */
+    @ZenCodeType.Method
+    public void setString(int index, String value) {
+        
+        getInternal().set(index, StringTag.valueOf(value));
     }
     
     @Override
     public int size() {
         
-        return getInternal().size();
+        return internal.size();
     }
     
     @Override
     public boolean isEmpty() {
         
-        return getInternal().isEmpty();
+        return internal.isEmpty();
     }
     
     @Override
     public void clear() {
         
         getInternal().clear();
+        views = null;
     }
     
     @Override
@@ -117,21 +396,47 @@ public class ListData implements ICollectionData {
     @Override
     public ListData copyInternal() {
         
-        return new ListData(getInternal().copy());
+        return new ListData(internal.copy());
+    }
+    
+    /**
+     * Creates a list that reads from the same tag as this list. The tag is only copied once the new list is written to
+     * or hands out something that can be written to.
+     *
+     * This list must not be written to afterwards, which is why this is only used for constants.
+     */
+    public ListData copyOnWrite() {
+        
+        return new ListData(internal, true);
     }
     
     @Override
     public ListTag getInternal() {
         
+        if(shared) {
+            internal = internal.copy();
+            shared = false;
+        }
         return internal;
     }
     
+    /**
+     * Gets the tag to read elements from, which is only copied if the elements are maps, lists or arrays.
+     */
+    private ListTag getElements() {
+        
+        return switch(internal.getElementType()) {
+            case Tag.TAG_COMPOUND, Tag.TAG_LIST, Tag.TAG_BYTE_ARRAY, Tag.TAG_INT_ARRAY, Tag.TAG_LONG_ARRAY -> getInternal();
+            default -> internal;
+        };
+    }
+    
     @Override
     public List<IData> asList() {
         
-        List<IData> data = new ArrayList<>();
-        for(Tag inbt : getInternal()) {
-            data.add(TagToDataConverter.convert(inbt));
+        List<IData> data = new ArrayList<>(internal.size());
+        for(int i = 0; i < internal.size(); i++) {
+            data.add(getAt(i));
         }
         return data;
     }
@@ -144,8 +449,8 @@ public class ListData implements ICollectionData {
             return true;
         }
         
-        for(Tag value : getInternal()) {
-            if(TagToDataConverter.convert(value).contains(data)) {
+        for(int i = 0; i < internal.size(); i++) {
+            if(getView(i, internal.get(i)).contains(data)) {
                 return true;
             }
         }
@@ -157,8 +462,8 @@ public class ListData implements ICollectionData {
         
         outer:
         for(IData dataValue : dataValues) {
-            for(Tag value : getInternal()) {
-                if(TagToDataConverter.convert(value).contains(dataValue)) {
+            for(int i = 0; i < internal.size(); i++) {
+                if(getView(i, internal.get(i)).contains(dataValue)) {
                     continue outer;
                 }
             }
@@ -5,13 +5,21 @@ import com.blamejared.crafttweaker.api.data.base.IData;
 import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
 import com.blamejared.crafttweaker.api.data.base.visitor.DataVisitor;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.nbt.CollectionTag;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 
 /**
@@ -22,8 +30,20 @@ import java.util.Set;
 @Document("vanilla/api/data/MapData")
 public class MapData implements IData {
     
-    private final CompoundTag internal;
-    private final Set<String> boolDataKeys;
+    private CompoundTag internal;
+    private Set<String> boolDataKeys;
+    /**
+     * Whether the internal tag belongs to a constant, see {@link #copyOnWrite()}.
+     */
+    private boolean shared;
+    /**
+     * The views of the entries that were read, so reading an entry again does not wrap its tag again.
+     *
+     * Reads can happen on several threads at once, which is why this is a concurrent map of immutable views. A view
+     * that is lost to a race is simply created again on the next read.
+     */
+    @Nullable
+    private volatile Map<String, ChildView> views;
     
     public MapData(CompoundTag internal) {
         
@@ -45,8 +65,30 @@ public class MapData implements IData {
     
     public MapData(CompoundTag internal, Set<String> boolDataKeys) {
         
+        this(internal, boolDataKeys, false);
+    }
+    
+    private MapData(CompoundTag internal, Set<String> boolDataKeys, boolean shared) {
+        
         this.internal = internal;
         this.boolDataKeys = boolDataKeys;
+        this.shared = shared;
+    }
+    
+    /**
+     * Gets a map literal whose contents are all constants, this is what such literals in scripts are compiled to.
+     *
+     * Internal, scripts should not call this themselves. It is only visible to ZenCode because compiled literals look it
+     * up as a member of this type, under the name {@link DataConstants#LITERAL_METHOD}.
+     *
+     * @param key The key the literal was registered with in {@link DataConstants}.
+     *
+     * @return A copy on write view of the literal.
+     */
+    @ZenCodeType.Method(DataConstants.LITERAL_METHOD)
+    public static MapData constant(String key) {
+        
+        return ((MapData) DataConstants.get(key)).copyOnWrite();
     }
     
     /**
@@ -82,13 +124,13 @@ public class MapData implements IData {
     @ZenCodeType.Getter("keySet")
     public Set<String> getKeySet() {
         
-        return getInternal().getAllKeys();
+        return shared ? Collections.unmodifiableSet(internal.getAllKeys()) : internal.getAllKeys();
     }
     
     @ZenCodeType.Getter("size")
     public int getSize() {
         
-        return getInternal().size();
+        return internal.size();
     }
     
     /**
@@ -107,10 +149,15 @@ public class MapData implements IData {
     @ZenCodeType.Operator(ZenCodeType.OperatorType.MEMBERSETTER)
     public IData put(String key, IData value) {
         
+        final CompoundTag tag = getInternal();
+        final Map<String, ChildView> views = this.views;
+        if(views != null) {
+            views.remove(key);
+        }
         if(value instanceof BoolData) {
             boolDataKeys.add(key);
         }
-        return TagToDataConverter.convert(getInternal().put(key, value.getInternal()));
+        return TagToDataConverter.convert(tag.put(key, value.getInternal()));
     }
     
     /**
@@ -128,9 +175,273 @@ public class MapData implements IData {
     public IData getAt(String key) {
         
         if(boolDataKeys.contains(key)) {
-            return new BoolData(getInternal().getByte(key) == 1);
+            return new BoolData(internal.getByte(key) == 1);
+        }
+        final Tag tag = internal.get(key);
+        if(shared && (tag instanceof CompoundTag || tag instanceof CollectionTag)) {
+            // The returned data could be used to write to the constant
+            return getView(key, getInternal().get(key));
+        }
+        return getView(key, tag);
+    }
+    
+    @Nullable
+    private IData getView(String key, @Nullable Tag tag) {
+        
+        if(tag == null) {
+            return null;
+        }
+        Map<String, ChildView> views = this.views;
+        if(views == null) {
+            views = new ConcurrentHashMap<>();
+            this.views = views;
+        }
+        final ChildView view = views.get(key);
+        if(view != null && view.isViewOf(tag)) {
+            return view.data();
+        }
+        final ChildView newView = ChildView.of(tag);
+        views.put(key, newView);
+        return newView.data();
+    }
+    
+    /**
+     * Calls the given consumer for every entry of this map, without copying the entries into a new map first.
+     *
+     * @param consumer The consumer for the key and the value of each entry.
+     *
+     * @docParam consumer (key, value) => println(key + ": " + value.asString())
+     */
+    @ZenCodeType.Method
+    public void forEach(BiConsumer<String, IData> consumer) {
+        
+        for(String key : internal.getAllKeys()) {
+            consumer.accept(key, getAt(key));
+        }
+    }
+    
+    /**
+     * Calls the given consumer for the tag of every entry of this map, without creating any IData.
+     *
+     * The tags are the ones in this map, so changing them changes this map.
+     */
+    public void forEachTag(BiConsumer<String, Tag> consumer) {
+        
+        final CompoundTag tag = getInternal();
+        for(String key : tag.getAllKeys()) {
+            consumer.accept(key, tag.get(key));
+        }
+    }
+    
+    /**
+     * Gets the value of the given key as an int, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a number.
+     *
+     * @return The value of the key, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue 5
+     */
+    @ZenCodeType.Method
+    public int getInt(String key, @ZenCodeType.OptionalInt int defaultValue) {
+        
+        return internal.get(key) instanceof NumericTag numeric ? numeric.getAsInt() : defaultValue;
+    }
+    
+    /**
+     * Gets the value of the given key as a long, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a number.
+     *
+     * @return The value of the key, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue 5
+     */
+    @ZenCodeType.Method
+    public long getLong(String key, @ZenCodeType.OptionalLong long defaultValue) {
+        
+        return internal.get(key) instanceof NumericTag numeric ? numeric.getAsLong() : defaultValue;
+    }
+    
+    /**
+     * Gets the value of the given key as a float, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a number.
+     *
+     * @return The value of the key, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue 0.5
+     */
+    @ZenCodeType.Method
+    public float getFloat(String key, @ZenCodeType.OptionalFloat float defaultValue) {
+        
+        return internal.get(key) instanceof NumericTag numeric ? numeric.getAsFloat() : defaultValue;
+    }
+    
+    /**
+     * Gets the value of the given key as a double, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a number.
+     *
+     * @return The value of the key, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue 0.5
+     */
+    @ZenCodeType.Method
+    public double getDouble(String key, @ZenCodeType.OptionalDouble double defaultValue) {
+        
+        return internal.get(key) instanceof NumericTag numeric ? numeric.getAsDouble() : defaultValue;
+    }
+    
+    /**
+     * Gets the value of the given key as a bool, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a number.
+     *
+     * @return True if the value of the key is not 0, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue true
+     */
+    @ZenCodeType.Method
+    public boolean getBool(String key, @ZenCodeType.OptionalBoolean boolean defaultValue) {
+        
+        return internal.get(key) instanceof NumericTag numeric ? numeric.getAsByte() != 0 : defaultValue;
+    }
+    
+    /**
+     * Gets the value of the given key as a string, without creating an IData for it.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key is not present or is not a string.
+     *
+     * @return The value of the key, or the default value.
+     *
+     * @docParam key "Hello"
+     * @docParam defaultValue "World"
+     */
+    @ZenCodeType.Method
+    public String getString(String key, @ZenCodeType.OptionalString String defaultValue) {
+        
+        return internal.get(key) instanceof StringTag string ? string.getAsString() : defaultValue;
+    }
+    
+    /**
+     * Sets the value of the given key to the given int, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value 5
+     */
+    @ZenCodeType.Method
+    public void putInt(String key, int value) {
+        
+        getInternal().putInt(key, value);
+        entryChanged(key, false);
+    }
+    
+    /**
+     * Sets the value of the given key to the given long, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value 5
+     */
+    @ZenCodeType.Method
+    public void putLong(String key, long value) {
+        
+        getInternal().putLong(key, value);
+        entryChanged(key, false);
+    }
+    
+    /**
+     * Sets the value of the given key to the given float, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value 0.5
+     */
+    @ZenCodeType.Method
+    public void putFloat(String key, float value) {
+        
+        getInternal().putFloat(key, value);
+        entryChanged(key, false);
+    }
+    
+    /**
+     * Sets the value of the given key to the given double, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value 0.5
+     */
+    @ZenCodeType.Method
+    public void putDouble(String key, double value) {
+        
+        getInternal().putDouble(key, value);
+        entryChanged(key, false);
+    }
+    
+    /**
+     * Sets the value of the given key to the given string, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value "World"
+     */
+    @ZenCodeType.Method
+    public void putString(String key, String value) {
+        
+        getInternal().putString(key, value);
+        entryChanged(key, false);
+    }
+    
+    /**
+     * Sets the value of the given key to the given bool, without creating an IData for it.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     *
+     * @docParam key "Hello"
+     * @docParam value true
+     */
+    @ZenCodeType.Method
+    public void putBool(String key, boolean value) {
+        
+        getInternal().putBoolean(key, value);
+        entryChanged(key, true);
+    }
+    
+    private void entryChanged(String key, boolean isBool) {
+        
+        if(isBool) {
+            boolDataKeys.add(key);
+        } else {
+            boolDataKeys.remove(key);
+        }
+        final Map<String, ChildView> views = this.views;
+        if(views != null) {
+            views.remove(key);
         }
-        return TagToDataConverter.convert(getInternal().get(key));
     }
     
     /**
@@ -146,7 +457,7 @@ public class MapData implements IData {
     @ZenCodeType.Operator(ZenCodeType.OperatorType.CONTAINS)
     public boolean contains(String key) {
         
-        return getInternal().contains(key);
+        return internal.contains(key);
     }
     
     /**
@@ -159,14 +470,18 @@ public class MapData implements IData {
     @ZenCodeType.Method
     public void remove(String key) {
         
-        boolDataKeys.remove(key);
         getInternal().remove(key);
+        boolDataKeys.remove(key);
+        final Map<String, ChildView> views = this.views;
+        if(views != null) {
+            views.remove(key);
+        }
     }
     
     @ZenCodeType.Getter("isEmpty")
     public boolean isEmpty() {
         
-        return getInternal().isEmpty();
+        return internal.isEmpty();
     }
     
     /**
@@ -185,7 +500,7 @@ public class MapData implements IData {
         
         Set<String> newBoolDataKeys = new HashSet<>(boolDataKeys);
         newBoolDataKeys.addAll(other.boolDataKeys);
-        return new MapData(getInternal().merge(other.getInternal()), newBoolDataKeys);
+        return new MapData(getInternal().merge(other.internal), newBoolDataKeys);
     }
     
     @Override
@@ -197,20 +512,41 @@ public class MapData implements IData {
     @Override
     public MapData copyInternal() {
         
-        return new MapData(getInternal().copy(), new HashSet<>(boolDataKeys));
+        return new MapData(internal.copy(), new HashSet<>(boolDataKeys));
+    }
+    
+    /**
+     * Creates a map that reads from the same tag as this map. The tag is only copied once the new map is written to
+     * or hands out something that can be written to.
+     *
+     * This map must not be written to afterwards, which is why this is only used for constants.
+     */
+    public MapData copyOnWrite() {
+        
+        return new MapData(internal, boolDataKeys, true);
     }
     
     @Override
     public CompoundTag getInternal() {
         
+        if(shared) {
+            internal = internal.copy();
+            boolDataKeys = new HashSet<>(boolDataKeys);
+            shared = false;
+        }
         return internal;
     }
     
+    Set<String> getBoolDataKeys() {
+        
+        return boolDataKeys;
+    }
+    
     @Override
     public Map<String, IData> asMap() {
         
         Map<String, IData> newMap = new HashMap<>();
-        getInternal().getAllKeys().forEach(s -> newMap.put(s, getAt(s)));
+        internal.getAllKeys().forEach(s -> newMap.put(s, getAt(s)));
         return newMap;
     }
     
@@ -218,7 +554,7 @@ public class MapData implements IData {
     public boolean contains(IData data) {
         
         if(data instanceof StringData) {
-            return this.getInternal().contains(data.asString());
+            return this.internal.contains(data.asString());
         }
         
         
@@ -228,10 +564,9 @@ public class MapData implements IData {
         }
         
         for(Map.Entry<String, IData> dataEntry : dataMap.entrySet()) {
-            if(!this.getInternal().contains(dataEntry.getKey())) {
+            if(!this.internal.contains(dataEntry.getKey())) {
                 return false;
-            } else if(!TagToDataConverter.convert(this.getInternal()
-                    .get(dataEntry.getKey())).contains(dataEntry.getValue())) {
+            } else if(!getView(dataEntry.getKey(), this.internal.get(dataEntry.getKey())).contains(dataEntry.getValue())) {
                 return false;
             }
         }
@@ -0,0 +1,172 @@
+package com.blamejared.crafttweaker.api.data.base.visitor;
+
+import com.blamejared.crafttweaker.api.data.BoolData;
+import com.blamejared.crafttweaker.api.data.ByteArrayData;
+import com.blamejared.crafttweaker.api.data.ByteData;
+import com.blamejared.crafttweaker.api.data.DoubleData;
+import com.blamejared.crafttweaker.api.data.FloatData;
+import com.blamejared.crafttweaker.api.data.IntArrayData;
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.LongArrayData;
+import com.blamejared.crafttweaker.api.data.LongData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.ShortData;
+import com.blamejared.crafttweaker.api.data.StringData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CollectionTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds the same JSON that parsing the output of {@link DataToJsonStringVisitor} would give, without the round trip
+ * through a String.
+ *
+ * The tags are read directly, so no IData is created for the elements of a map or list.
+ */
+public enum DataToJsonVisitor implements DataVisitor<JsonElement> {
+    INSTANCE;
+    
+    public JsonElement visit(IData data) {
+        
+        return data.accept(this);
+    }
+    
+    private static JsonElement convert(Tag tag) {
+        
+        if(tag instanceof CompoundTag compound) {
+            final JsonObject object = new JsonObject();
+            for(String key : compound.getAllKeys()) {
+                object.add(key, convert(compound.get(key)));
+            }
+            return object;
+        }
+        if(tag instanceof CollectionTag<?> collection) {
+            // Covers lists and all the array tags
+            final JsonArray array = new JsonArray();
+            for(Tag element : collection) {
+                array.add(convert(element));
+            }
+            return array;
+        }
+        if(tag instanceof FloatTag floatTag) {
+            return convertFloat(floatTag.getAsFloat());
+        }
+        if(tag instanceof NumericTag numeric) {
+            return new JsonPrimitive(numeric.getAsNumber());
+        }
+        if(tag instanceof StringTag) {
+            return new JsonPrimitive(tag.getAsString());
+        }
+        return JsonNull.INSTANCE;
+    }
+    
+    /**
+     * Floats are written as their shortest String representation, so {@code 0.35 as float} has to stay 0.35 instead of
+     * becoming the closest double to the float.
+     */
+    private static JsonElement convertFloat(float value) {
+        
+        if(!Float.isFinite(value)) {
+            return new JsonPrimitive(value);
+        }
+        return new JsonPrimitive(new BigDecimal(Float.toString(value)));
+    }
+    
+    @Override
+    public JsonElement visitBool(BoolData data) {
+        
+        return new JsonPrimitive(data.getInternalValue());
+    }
+    
+    @Override
+    public JsonElement visitByteArray(ByteArrayData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitByte(ByteData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitDouble(DoubleData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitFloat(FloatData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitIntArray(IntArrayData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitInt(IntData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitList(ListData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitLongArray(LongArrayData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitLong(LongData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitMap(MapData data) {
+        
+        final CompoundTag compound = data.getInternal();
+        final JsonObject object = new JsonObject();
+        for(String key : compound.getAllKeys()) {
+            final Tag tag = compound.get(key);
+            // Only the map knows which of its bytes are booleans
+            object.add(key, tag instanceof ByteTag ? data.getAt(key).accept(this) : convert(tag));
+        }
+        return object;
+    }
+    
+    @Override
+    public JsonElement visitShort(ShortData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+    @Override
+    public JsonElement visitString(StringData data) {
+        
+        return convert(data.getInternal());
+    }
+    
+}
@@ -38,6 +38,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -84,6 +85,34 @@ public interface IIngredient extends CommandStringDisplayable {
     @ZenCodeType.Method
     boolean matches(IItemStack stack, boolean ignoreDamage);
     
+    /**
+     * Does the given vanilla stack match the ingredient?
+     *
+     * Meant for internal code that only tests stacks (e.g. recipe matching), so ingredients that can look at the stack
+     * directly do not need a wrapper for it.
+     *
+     * @param stack The stack to check
+     */
+    default boolean matches(ItemStack stack) {
+        
+        return matches(stack, false);
+    }
+    
+    /**
+     * Does the given vanilla stack match the ingredient?
+     *
+     * The default implementation wraps the stack in a new {@link IItemStack}, since the ingredient may hand it to a
+     * script that keeps it around. Implementations that never let the stack escape can override this to test it
+     * without a wrapper.
+     *
+     * @param stack        The stack to check
+     * @param ignoreDamage Should damage be checked?
+     */
+    default boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        return matches(Services.PLATFORM.createMCItemStack(stack), ignoreDamage);
+    }
+    
     /**
      * Does the ingredient contain the given ingredient?
      *
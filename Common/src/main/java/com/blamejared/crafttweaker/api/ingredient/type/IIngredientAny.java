@@ -5,6 +5,7 @@ import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -32,6 +33,12 @@ public enum IIngredientAny implements IIngredient {
         return stack != null && !stack.isEmpty();
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        return !stack.isEmpty();
+    }
+    
     @Override
     public Ingredient asVanillaIngredient() {
         
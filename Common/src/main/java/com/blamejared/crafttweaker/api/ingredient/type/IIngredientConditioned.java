@@ -9,6 +9,7 @@ import com.blamejared.crafttweaker.api.ingredient.condition.IIngredientCondition
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -57,6 +58,13 @@ public class IIngredientConditioned<T extends IIngredient> implements IIngredien
         return base.matches(stack, condition.ignoresDamage()) && condition.matches(stack);
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        // The condition may be a script function that keeps the stack, so it gets a wrapper of its own
+        return base.matches(stack, condition.ignoresDamage()) && condition.matches(Services.PLATFORM.createMCItemStack(stack));
+    }
+    
     @Override
     @ZenCodeType.Getter("items")
     public IItemStack[] getItems() {
@@ -4,6 +4,7 @@ import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -25,6 +26,12 @@ public enum IIngredientEmpty implements IIngredient {
         return stack.isEmpty();
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        return stack.isEmpty();
+    }
+    
     @Override
     public Ingredient asVanillaIngredient() {
         
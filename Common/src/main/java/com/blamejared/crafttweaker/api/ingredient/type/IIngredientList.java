@@ -6,9 +6,11 @@ import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -20,6 +22,14 @@ import java.util.stream.Collectors;
 public class IIngredientList implements IIngredient {
     
     private final IIngredient[] ingredients;
+    /**
+     * The vanilla ingredient built last, and the vanilla ingredients of the parts it was built from.
+     *
+     * It is only reused while every part returns the same instance, so a part that built a new one because its stack
+     * changed makes the list build a new one as well.
+     */
+    @Nullable
+    private volatile VanillaIngredient vanillaIngredient;
     
     @ZenCodeType.Constructor
     public IIngredientList(IIngredient[] ingredients) {
@@ -38,12 +48,32 @@ public class IIngredientList implements IIngredient {
         return false;
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        for(IIngredient item : ingredients) {
+            if(item.matches(stack, ignoreDamage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public Ingredient asVanillaIngredient() {
         
-        return Services.REGISTRY.getIngredientList(Arrays.stream(ingredients)
-                .map(IIngredient::asVanillaIngredient)
-                .collect(Collectors.toList()));
+        VanillaIngredient cached = vanillaIngredient;
+        final Ingredient[] parts = new Ingredient[ingredients.length];
+        boolean changed = cached == null;
+        for(int i = 0; i < ingredients.length; i++) {
+            parts[i] = ingredients[i].asVanillaIngredient();
+            changed |= cached == null || cached.parts()[i] != parts[i];
+        }
+        if(changed) {
+            cached = new VanillaIngredient(parts, Services.REGISTRY.getIngredientList(Arrays.asList(parts)));
+            vanillaIngredient = cached;
+        }
+        return cached.ingredient();
     }
     
     @Override
@@ -87,4 +117,6 @@ public class IIngredientList implements IIngredient {
         return Arrays.hashCode(ingredients);
     }
     
+    private record VanillaIngredient(Ingredient[] parts, Ingredient ingredient) {}
+    
 }
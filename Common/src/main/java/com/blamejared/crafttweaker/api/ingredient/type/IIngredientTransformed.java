@@ -8,6 +8,7 @@ import com.blamejared.crafttweaker.api.ingredient.transform.IIngredientTransform
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -62,6 +63,12 @@ public class IIngredientTransformed<T extends IIngredient> implements IIngredien
         return base.matches(stack, ignoreDamage);
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        return base.matches(stack, ignoreDamage);
+    }
+    
     @Override
     @ZenCodeType.Getter("items")
     public IItemStack[] getItems() {
@@ -1,7 +1,6 @@
 package com.blamejared.crafttweaker.api.ingredient.type;
 
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
-import com.blamejared.crafttweaker.platform.Services;
 import net.minecraft.world.item.ItemStack;
 
 import javax.annotation.Nullable;
@@ -13,7 +12,7 @@ public interface IngredientCraftTweakerBase extends Predicate<ItemStack> {
     
     default boolean test(@Nullable ItemStack stack) {
         
-        return stack != null && getCrTIngredient().matches(Services.PLATFORM.createMCItemStack(stack));
+        return stack != null && getCrTIngredient().matches(stack);
     }
     
     default boolean isSimple() {
@@ -6,6 +6,7 @@ import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
@@ -40,6 +41,15 @@ public class WrappingIIngredient implements IIngredient {
         return Arrays.stream(getItems()).anyMatch(item -> item.matches(stack, true));
     }
     
+    @Override
+    public boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
+        if(!ignoreDamage) {
+            return ingredient.test(stack);
+        }
+        return Arrays.stream(getItems()).anyMatch(item -> item.matches(stack, true));
+    }
+    
     @Override
     public Ingredient asVanillaIngredient() {
         
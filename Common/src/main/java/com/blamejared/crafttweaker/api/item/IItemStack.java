@@ -44,11 +44,12 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @ZenCodeType.Field
     String CRAFTTWEAKER_DATA_KEY = "CraftTweakerData";
     
+    // Same values as in Item, copied so the interface can be initialized without mixins being applied (e.g. in benchmarks)
     @ZenCodeType.Field
-    UUID BASE_ATTACK_DAMAGE_UUID = AccessItem.getBASE_ATTACK_DAMAGE_UUID();
+    UUID BASE_ATTACK_DAMAGE_UUID = UUID.fromString("CB3F55D3-645C-4F38-A497-9C13A33DB5CF");
     
     @ZenCodeType.Field
-    UUID BASE_ATTACK_SPEED_UUID = AccessItem.getBASE_ATTACK_SPEED_UUID();
+    UUID BASE_ATTACK_SPEED_UUID = UUID.fromString("FA233E1C-4180-4865-B01B-BCCE9785ACA3");
     
     /**
      * Creates a copy
@@ -584,8 +585,14 @@ public interface IItemStack extends IIngredient, IIngredientWithAmount {
     @Override
     default boolean matches(IItemStack stack, boolean ignoreDamage) {
         
+        return matches(stack.getInternal(), ignoreDamage);
+    }
+    
+    @Override
+    default boolean matches(ItemStack stack, boolean ignoreDamage) {
+        
         ItemStack stack1 = getInternal();
-        ItemStack stack2 = stack.getInternal();
+        ItemStack stack2 = stack;
         
         if(stack1.isEmpty() != stack2.isEmpty()) {
             return false;
@@ -83,6 +83,12 @@ public class CraftTweakerLogger {
         PLAYER_APPENDER.removePlayerLogger(player);
     }
     
+    public static void sendPendingMessages() {
+        
+        Preconditions.checkNotNull(PLAYER_APPENDER, "Cannot send messages before 'PLAYER_APPENDER' has been initialized!");
+        PLAYER_APPENDER.sendPendingMessages();
+    }
+    
     public static void clearPreviousMessages() {
         
         Preconditions.checkNotNull(PLAYER_APPENDER, "Cannot add remove before 'PLAYER_APPENDER' has been initialized!");
@@ -8,6 +8,7 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
 import net.minecraft.network.chat.TextColor;
 import net.minecraft.network.chat.TextComponent;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.Appender;
@@ -26,9 +27,19 @@ import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Sends the messages of the CraftTweaker log to players in chat.
+ *
+ * Messages can be logged from any thread, they are collected and sent once per tick by {@link #sendPendingMessages()}.
+ * Identical messages are only sent once with a count, and only the first few different messages of a tick are sent
+ * with a summary of the rest. The messages are also kept for players that join later, up to a limit.
+ */
 @Plugin(name = "PlayerAppender", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
 public class PlayerAppender extends AbstractAppender {
     
@@ -55,8 +66,27 @@ public class PlayerAppender extends AbstractAppender {
         );
     }
     
-    private final List<Player> players = new ArrayList<>();
-    private final List<LogMessage> previousMessages = new ArrayList<>();
+    /**
+     * How many different messages are kept for players that join later.
+     */
+    private static final int MAX_PREVIOUS_MESSAGES = 256;
+    /**
+     * How many different messages are sent to a player at once, the others are only counted.
+     */
+    private static final int MAX_MESSAGES_PER_BATCH = 10;
+    /**
+     * The permission level players on a server need to see the log, which is the level of the commands.
+     */
+    private static final int PERMISSION_LEVEL = 2;
+    
+    private final List<Player> players = new CopyOnWriteArrayList<>();
+    
+    private final Object lock = new Object();
+    // The fields below are guarded by the lock, the counts are the number of times a message was logged
+    private final Map<LogMessage, Integer> previousMessages = new LinkedHashMap<>();
+    private final MessageOverflow droppedPreviousMessages = new MessageOverflow();
+    private final Map<LogMessage, Integer> pendingMessages = new LinkedHashMap<>();
+    private final MessageOverflow pendingOverflow = new MessageOverflow();
     
     public PlayerAppender(String name, Filter filter, Layout<? extends Serializable> layout) {
         
@@ -71,10 +101,14 @@ public class PlayerAppender extends AbstractAppender {
     
     public void sendMessage(final Player player, final LogMessage event) {
         
-        final Pair<Style, Style> styling = STYLING.get(event.level());
-        final MutableComponent header = new TextComponent("[%s]: ".formatted(event.level()
-                .name())).setStyle(styling.getFirst());
-        final MutableComponent line = header.append(new TextComponent(event.message()).setStyle(styling.getSecond()));
+        sendMessage(player, event.level(), event.message());
+    }
+    
+    private void sendMessage(final Player player, final Level level, final String message) {
+        
+        final Pair<Style, Style> styling = STYLING.get(level);
+        final MutableComponent header = new TextComponent("[%s]: ".formatted(level.name())).setStyle(styling.getFirst());
+        final MutableComponent line = header.append(new TextComponent(message).setStyle(styling.getSecond()));
         player.sendMessage(line, CraftTweakerConstants.CRAFTTWEAKER_UUID);
     }
     
@@ -85,14 +119,64 @@ public class PlayerAppender extends AbstractAppender {
         final String message = ((PatternLayout) getLayout()).toSerializable(event).replaceAll("\r\n", " ");
         
         final LogMessage logMessage = new LogMessage(message, event.getLevel());
-        this.players.forEach(player -> sendMessage(player, logMessage));
-        this.previousMessages.add(logMessage);
+        synchronized(lock) {
+            if(previousMessages.merge(logMessage, 1, Integer::sum) == 1 && previousMessages.size() > MAX_PREVIOUS_MESSAGES) {
+                final Iterator<Map.Entry<LogMessage, Integer>> iterator = previousMessages.entrySet().iterator();
+                final Map.Entry<LogMessage, Integer> oldest = iterator.next();
+                droppedPreviousMessages.add(oldest.getKey().level(), oldest.getValue());
+                iterator.remove();
+            }
+            if(players.isEmpty()) {
+                return;
+            }
+            if(pendingMessages.containsKey(logMessage) || pendingMessages.size() < MAX_MESSAGES_PER_BATCH) {
+                pendingMessages.merge(logMessage, 1, Integer::sum);
+            } else {
+                pendingOverflow.add(logMessage.level(), 1);
+            }
+        }
+    }
+    
+    /**
+     * Sends the messages that were logged since the last call to the players, should be called once per tick.
+     */
+    public void sendPendingMessages() {
+        
+        final List<Map.Entry<LogMessage, Integer>> messages;
+        final MessageOverflow overflow = new MessageOverflow();
+        synchronized(lock) {
+            if(pendingMessages.isEmpty()) {
+                return;
+            }
+            messages = new ArrayList<>(pendingMessages.entrySet());
+            overflow.add(pendingOverflow);
+            pendingMessages.clear();
+            pendingOverflow.clear();
+        }
+        
+        for(Player player : players) {
+            if(canReceiveMessages(player)) {
+                sendMessages(player, messages, overflow);
+            }
+        }
     }
     
     public void addPlayerLogger(final Player player) {
         
-        this.players.add(player);
-        this.previousMessages.forEach(event -> sendMessage(player, event));
+        if(!this.players.contains(player)) {
+            this.players.add(player);
+        }
+        if(!canReceiveMessages(player)) {
+            return;
+        }
+        
+        final List<Map.Entry<LogMessage, Integer>> messages;
+        final MessageOverflow overflow = new MessageOverflow();
+        synchronized(lock) {
+            messages = new ArrayList<>(previousMessages.entrySet());
+            overflow.add(droppedPreviousMessages);
+        }
+        sendMessages(player, messages, overflow);
     }
     
     public void removePlayerLogger(final Player player) {
@@ -102,10 +186,74 @@ public class PlayerAppender extends AbstractAppender {
     
     public void clearPreviousMessages() {
         
-        this.previousMessages.clear();
+        synchronized(lock) {
+            this.previousMessages.clear();
+            this.droppedPreviousMessages.clear();
+        }
+    }
+    
+    private boolean canReceiveMessages(final Player player) {
+        
+        // Client side players only see the log of their own game
+        if(!(player instanceof ServerPlayer serverPlayer)) {
+            return true;
+        }
+        return serverPlayer.hasPermissions(PERMISSION_LEVEL) || serverPlayer.server.isSingleplayerOwner(serverPlayer.getGameProfile());
+    }
+    
+    private void sendMessages(final Player player, final List<Map.Entry<LogMessage, Integer>> messages, final MessageOverflow overflow) {
+        
+        final MessageOverflow notSent = new MessageOverflow();
+        notSent.add(overflow);
+        for(int i = 0; i < messages.size(); i++) {
+            final LogMessage message = messages.get(i).getKey();
+            final int count = messages.get(i).getValue();
+            if(i >= MAX_MESSAGES_PER_BATCH) {
+                notSent.add(message.level(), count);
+            } else if(count > 1) {
+                sendMessage(player, message.level(), "%s (x%d)".formatted(message.message(), count));
+            } else {
+                sendMessage(player, message);
+            }
+        }
+        
+        if(notSent.count > 0) {
+            sendMessage(player, notSent.level, "%d more messages were logged, see %s for all of them.".formatted(notSent.count, CraftTweakerConstants.LOG_PATH));
+        }
     }
     
     // LogEvent is Mutable, and calling LogEvent#toImmutable() can sometimes not work
     private record LogMessage(String message, Level level) {}
     
+    /**
+     * Counts messages that are not sent one by one, together with the most severe level among them.
+     */
+    private static final class MessageOverflow {
+        
+        private int count;
+        private Level level = Level.WARN;
+        
+        void add(Level level, int count) {
+            
+            this.count += count;
+            if(level.isMoreSpecificThan(this.level)) {
+                this.level = level;
+            }
+        }
+        
+        void add(MessageOverflow other) {
+            
+            if(other.count > 0) {
+                add(other.level, other.count);
+            }
+        }
+        
+        void clear() {
+            
+            count = 0;
+            level = Level.WARN;
+        }
+        
+    }
+    
 }
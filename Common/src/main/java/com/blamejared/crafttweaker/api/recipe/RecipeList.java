@@ -1,7 +1,9 @@
 package com.blamejared.crafttweaker.api.recipe;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalPlanner;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.impl.recipe.sync.RecipeSyncTracker;
 import com.blamejared.crafttweaker.platform.Services;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
@@ -12,6 +14,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 /**
@@ -19,10 +22,14 @@ import java.util.function.Predicate;
  * The {@code recipes} map, which is used for actual recipe lookups.
  * The {@code byName} map, which is used when you have a recipe id, and want to get the recipe for that id, such as in the recipe book.
  *
+ * Removals that are still queued in the active {@link RecipeRemovalPlanner} are applied before recipes are read.
+ *
  * @param <T> The base type of {@link Recipe} in this list.
  */
 public class RecipeList<T extends Recipe<?>> {
     
+    private static final AtomicInteger MODIFICATIONS = new AtomicInteger();
+    
     private final RecipeType<T> recipeType;
     private final Map<ResourceLocation, T> recipes;
     private final Map<ResourceLocation, Recipe<?>> byName;
@@ -129,6 +136,7 @@ public class RecipeList<T extends Recipe<?>> {
         
         recipes.put(id, recipe);
         byName.put(id, recipe);
+        onRecipeChanged(id);
     }
     
     
@@ -141,6 +149,7 @@ public class RecipeList<T extends Recipe<?>> {
         
         recipes.remove(id);
         byName.remove(id);
+        onRecipeChanged(id);
     }
     
     /**
@@ -158,6 +167,7 @@ public class RecipeList<T extends Recipe<?>> {
             if(recipePredicate.test(recipe)) {
                 byName.remove(next);
                 iterator.remove();
+                onRecipeChanged(next);
             }
         }
     }
@@ -187,6 +197,7 @@ public class RecipeList<T extends Recipe<?>> {
             if(idPredicate.test(next) && !exclusions.test(next.getPath())) {
                 byName.remove(next);
                 iterator.remove();
+                onRecipeChanged(next);
             }
         }
     }
@@ -196,6 +207,7 @@ public class RecipeList<T extends Recipe<?>> {
      */
     public void removeAll() {
         
+        recipes.keySet().forEach(RecipeList::onRecipeChanged);
         byName.keySet().removeAll(recipes.keySet());
         recipes.clear();
     }
@@ -217,6 +229,7 @@ public class RecipeList<T extends Recipe<?>> {
      */
     public Map<ResourceLocation, T> getRecipes() {
         
+        RecipeRemovalPlanner.flushActive();
         return unmodifiableRecipes;
     }
     
@@ -227,6 +240,7 @@ public class RecipeList<T extends Recipe<?>> {
      */
     public Map<ResourceLocation, Recipe<?>> getByName() {
         
+        RecipeRemovalPlanner.flushActive();
         return unmodifiableByName;
     }
     
@@ -240,4 +254,20 @@ public class RecipeList<T extends Recipe<?>> {
         return getRecipes().size();
     }
     
+    /**
+     * Gets a counter that is incremented whenever a recipe is added or removed through any list.
+     *
+     * @return The current value of the counter.
+     */
+    public static int getModificationCount() {
+        
+        return MODIFICATIONS.get();
+    }
+    
+    private static void onRecipeChanged(ResourceLocation id) {
+        
+        MODIFICATIONS.incrementAndGet();
+        RecipeSyncTracker.onRecipeChanged(id);
+    }
+    
 }
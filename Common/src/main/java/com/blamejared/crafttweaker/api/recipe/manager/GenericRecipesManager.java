@@ -11,9 +11,10 @@ import com.blamejared.crafttweaker.api.action.recipe.generic.ActionRemoveGeneric
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.bracket.custom.RecipeTypeBracketHandler;
 import com.blamejared.crafttweaker.api.data.MapData;
-import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonStringVisitor;
+import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonVisitor;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
+import com.blamejared.crafttweaker.api.recipe.manager.base.JsonRecipeDeserializer;
 import com.blamejared.crafttweaker.platform.Services;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.google.gson.JsonObject;
@@ -26,6 +27,8 @@ import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -65,7 +68,55 @@ public enum GenericRecipesManager {
     @ZenCodeType.Method
     public void addJsonRecipe(String name, MapData data) {
         
-        JsonObject recipeObject = IRecipeManager.JSON_RECIPE_GSON.fromJson(data.accept(DataToJsonStringVisitor.INSTANCE), JsonObject.class);
+        JsonObject recipeObject = toJsonRecipeObject(data);
+        final ResourceLocation recipeName = CraftTweakerConstants.rl(name);
+        final Recipe<?> result = RecipeManager.fromJson(recipeName, recipeObject);
+        final RecipeManagerWrapper recipeManagerWrapper = new RecipeManagerWrapper((RecipeType<Recipe<?>>) result.getType());
+        CraftTweakerAPI.apply(new ActionAddRecipe<>(recipeManagerWrapper, result, null));
+    }
+    
+    /**
+     * Add new recipes based on the given recipes in a valid DataPack JSON format.
+     *
+     * This is faster when adding many recipes, since the recipe types are only checked once per call. Recipes that are
+     * invalid are logged and skipped instead of stopping the script. Like with addJsonRecipe, you **must** set the type of every
+     * recipe yourself.
+     *
+     * @param recipes The recipes' resource paths and the recipes in JSON format
+     *
+     * @docParam recipes {
+     * recipe_name: {
+     * type: "minecraft:smoking",
+     * ingredient: <item:minecraft:gold_ore>,
+     * result: <item:minecraft:cooked_porkchop>,
+     * experience: 0.35 as float,
+     * cookingtime: 100
+     * }
+     * }
+     */
+    @ZenCodeType.Method
+    public void addJsonRecipes(Map<String, MapData> recipes) {
+        
+        final Map<ResourceLocation, JsonObject> recipeObjects = new LinkedHashMap<>();
+        recipes.forEach((name, data) -> {
+            final ResourceLocation recipeName = CraftTweakerConstants.rl(name);
+            try {
+                recipeObjects.put(recipeName, toJsonRecipeObject(data));
+            } catch(IllegalArgumentException ex) {
+                CraftTweakerAPI.LOGGER.error("Could not add recipe '{}': {}", recipeName, ex.getMessage());
+            }
+        });
+        
+        final Map<RecipeType<?>, RecipeManagerWrapper> wrappers = new HashMap<>();
+        for(Recipe<?> result : JsonRecipeDeserializer.deserializeAll(recipeObjects)) {
+            final RecipeManagerWrapper recipeManagerWrapper = wrappers.computeIfAbsent(result.getType(), type -> new RecipeManagerWrapper((RecipeType<Recipe<?>>) type));
+            CraftTweakerAPI.apply(new ActionAddRecipe<>(recipeManagerWrapper, result, null));
+        }
+    }
+    
+    private JsonObject toJsonRecipeObject(MapData data) {
+        
+        JsonObject recipeObject = data.accept(DataToJsonVisitor.INSTANCE).getAsJsonObject();
         if(!recipeObject.has("type")) {
             throw new IllegalArgumentException("Serializer type missing!");
         }
@@ -74,11 +125,7 @@ public enum GenericRecipesManager {
                 .equals("crafttweaker:scripts")) {
             throw new IllegalArgumentException("Cannot add a recipe to the CraftTweaker Scripts recipe type!");
         }
-        
-        final ResourceLocation recipeName = CraftTweakerConstants.rl(name);
-        final Recipe<?> result = RecipeManager.fromJson(recipeName, recipeObject);
-        final RecipeManagerWrapper recipeManagerWrapper = new RecipeManagerWrapper((RecipeType<Recipe<?>>) result.getType());
-        CraftTweakerAPI.apply(new ActionAddRecipe<>(recipeManagerWrapper, result, null));
+        return recipeObject;
     }
     
     @ZenCodeType.Method
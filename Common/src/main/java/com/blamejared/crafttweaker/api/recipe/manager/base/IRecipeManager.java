@@ -4,15 +4,16 @@ import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.CraftTweakerConstants;
 import com.blamejared.crafttweaker.api.action.recipe.ActionAddRecipe;
 import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveAll;
-import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipe;
+import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipeByInput;
 import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipeByModid;
 import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipeByName;
 import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipeByOutput;
 import com.blamejared.crafttweaker.api.action.recipe.ActionRemoveRecipeByRegex;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalPlanner;
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.bracket.CommandStringDisplayable;
 import com.blamejared.crafttweaker.api.data.MapData;
-import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonStringVisitor;
+import com.blamejared.crafttweaker.api.data.base.visitor.DataToJsonVisitor;
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.recipe.RecipeList;
@@ -32,8 +33,11 @@ import org.openzen.zencode.java.ZenCodeType;
 import org.openzen.zencode.shared.CodePosition;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -61,21 +65,78 @@ public interface IRecipeManager<T extends Recipe<?>> extends CommandStringDispla
     default void addJsonRecipe(String name, MapData mapData) {
         
         name = fixRecipeName(name);
-        JsonObject recipeObject = JSON_RECIPE_GSON.fromJson(mapData.accept(DataToJsonStringVisitor.INSTANCE), JsonObject.class);
+        JsonObject recipeObject = toJsonRecipeObject(mapData, new HashSet<>());
+        T iRecipe = checkJsonRecipeType(RecipeManager.fromJson(new ResourceLocation(CraftTweakerConstants.MOD_ID, name), recipeObject));
+        CraftTweakerAPI.apply(new ActionAddRecipe<>(this, iRecipe, ""));
+    }
+    
+    /**
+     * Adds recipes based on the provided IData, in the same way as {@link #addJsonRecipe(String, MapData)}.
+     *
+     * This is faster when adding many recipes, since the recipe types are only checked once per call. Recipes that are
+     * invalid are logged and skipped instead of stopping the script.
+     *
+     * @param recipes The names of the recipes and the data representing their json files
+     *
+     * @docParam recipes {recipe_name: {ingredient:{item:<item:minecraft:gold_ore>.registryName},result:<item:minecraft:cooked_porkchop>.registryName,experience:0.35 as float, cookingtime:100}}
+     */
+    @ZenCodeType.Method
+    default void addJsonRecipes(Map<String, MapData> recipes) {
+        
+        final Set<String> validTypes = new HashSet<>();
+        final Map<ResourceLocation, JsonObject> recipeObjects = new LinkedHashMap<>();
+        recipes.forEach((name, mapData) -> {
+            final ResourceLocation id = new ResourceLocation(CraftTweakerConstants.MOD_ID, fixRecipeName(name));
+            try {
+                recipeObjects.put(id, toJsonRecipeObject(mapData, validTypes));
+            } catch(IllegalArgumentException ex) {
+                CraftTweakerAPI.LOGGER.error("Could not add recipe '{}': {}", id, ex.getMessage());
+            }
+        });
+        
+        for(Recipe<?> recipe : JsonRecipeDeserializer.deserializeAll(recipeObjects)) {
+            try {
+                CraftTweakerAPI.apply(new ActionAddRecipe<>(this, checkJsonRecipeType(recipe), ""));
+            } catch(IllegalArgumentException ex) {
+                CraftTweakerAPI.LOGGER.error("Could not add recipe '{}': {}", recipe.getId(), ex.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Converts the data to a recipe JSON object and makes sure its serializer exists.
+     *
+     * @param validTypes The serializer types that are already known to exist, so they are only checked once.
+     */
+    private JsonObject toJsonRecipeObject(MapData mapData, Set<String> validTypes) {
+        
+        JsonObject recipeObject = mapData.accept(DataToJsonVisitor.INSTANCE).getAsJsonObject();
         ResourceLocation recipeTypeKey = getBracketResourceLocation();
         
         if(recipeObject.has("type")) {
+            final String type;
+            try {
+                type = recipeObject.get("type").getAsString();
+            } catch(ClassCastException | IllegalStateException | UnsupportedOperationException ex) {
+                throw new IllegalArgumentException("Expected 'type' field to be a valid resource location.", ex);
+            }
+            if(validTypes.contains(type)) {
+                return recipeObject;
+            }
             ResourceLocation recipeSerializerKey;
             try {
-                recipeSerializerKey = new ResourceLocation(recipeObject.get("type").getAsString());
-            } catch(ClassCastException | IllegalStateException | ResourceLocationException ex) {
+                recipeSerializerKey = new ResourceLocation(type);
+            } catch(ResourceLocationException ex) {
                 throw new IllegalArgumentException("Expected 'type' field to be a valid resource location.", ex);
             }
             if(!Services.REGISTRY.recipeSerializers().containsKey(recipeSerializerKey)) {
                 throw new IllegalArgumentException("Recipe Serializer '%s' does not exist.".formatted(recipeSerializerKey));
             }
+            validTypes.add(type);
         } else {
-            if(Services.REGISTRY.recipeSerializers().containsKey(recipeTypeKey)) {
+            if(validTypes.contains(recipeTypeKey.toString()) || Services.REGISTRY.recipeSerializers()
+                    .containsKey(recipeTypeKey)) {
+                validTypes.add(recipeTypeKey.toString());
                 recipeObject.addProperty("type", recipeTypeKey.toString());
             } else {
                 throw new IllegalArgumentException("""
@@ -83,15 +144,19 @@ public interface IRecipeManager<T extends Recipe<?>> extends CommandStringDispla
                         """.formatted(recipeTypeKey));
             }
         }
-        T iRecipe = (T) RecipeManager.fromJson(new ResourceLocation(CraftTweakerConstants.MOD_ID, name), recipeObject);
-        RecipeType<?> recipeType = iRecipe.getType();
+        return recipeObject;
+    }
+    
+    private T checkJsonRecipeType(Recipe<?> recipe) {
+        
+        RecipeType<?> recipeType = recipe.getType();
         if(recipeType != getRecipeType()) {
             throw new IllegalArgumentException("""
                     Recipe Serializer "%s" resulted in Recipe Type "%s" but expected Recipe Type "%s"
-                    """.formatted(Services.REGISTRY.getRegistryKey(iRecipe.getSerializer()), Services.REGISTRY.recipeTypes()
-                    .getKey(recipeType), recipeTypeKey));
+                    """.formatted(Services.REGISTRY.getRegistryKey(recipe.getSerializer()), Services.REGISTRY.recipeTypes()
+                    .getKey(recipeType), getBracketResourceLocation()));
         }
-        CraftTweakerAPI.apply(new ActionAddRecipe<>(this, iRecipe, ""));
+        return (T) recipe;
     }
     
     @ZenCodeType.Method
@@ -149,9 +214,7 @@ public interface IRecipeManager<T extends Recipe<?>> extends CommandStringDispla
     @ZenCodeType.Method
     default void removeByInput(IItemStack input) {
         
-        CraftTweakerAPI.apply(new ActionRemoveRecipe<>(this, iRecipe -> iRecipe.getIngredients()
-                .stream()
-                .anyMatch(ingredient -> ingredient.test(input.getInternal()))));
+        CraftTweakerAPI.apply(new ActionRemoveRecipeByInput<>(this, input));
     }
     
     /**
@@ -230,12 +293,15 @@ public interface IRecipeManager<T extends Recipe<?>> extends CommandStringDispla
      *
      * This should only be used to view recipes, if you need to change the map, use {@link #getRecipeList()}
      *
+     * Like the getters of {@link #getRecipeList()}, this applies the removals that are still queued while scripts run.
+     *
      * In the future this method will either be removed or made to return an immutable map.
      *
      * @return A map of name to recipe for the manager type.
      */
     default Map<ResourceLocation, T> getRecipes() {
         
+        RecipeRemovalPlanner.flushActive();
         return (Map<ResourceLocation, T>) CraftTweakerAPI.getAccessibleRecipeManager()
                 .getRecipes()
                 .computeIfAbsent(getRecipeType(), key -> new HashMap<>());
@@ -266,16 +332,19 @@ public interface IRecipeManager<T extends Recipe<?>> extends CommandStringDispla
      */
     default String fixRecipeName(String name) {
         
-        CodePosition position = PositionUtil.getZCScriptPositionFromStackTrace();
         return NameUtil.fixing(
                 name,
-                (fixed, mistakes) -> CraftTweakerAPI.LOGGER.warn(
-                        "{}Invalid recipe name '{}', mistakes:\n{}\nNew recipe name: {}",
-                        position == CodePosition.UNKNOWN ? "" : position + ": ",
-                        name,
-                        String.join("\n", mistakes),
-                        fixed
-                )
+                (fixed, mistakes) -> {
+                    // Only look up the position when there is something to report, this is called for every recipe
+                    CodePosition position = PositionUtil.getZCScriptPositionFromStackTrace();
+                    CraftTweakerAPI.LOGGER.warn(
+                            "{}Invalid recipe name '{}', mistakes:\n{}\nNew recipe name: {}",
+                            position == CodePosition.UNKNOWN ? "" : position + ": ",
+                            name,
+                            String.join("\n", mistakes),
+                            fixed
+                    );
+                }
         );
     }
     
@@ -0,0 +1,43 @@
+package com.blamejared.crafttweaker.api.recipe.manager.base;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deserializes many JSON recipes at once, for the {@code addJsonRecipes} methods.
+ *
+ * The recipes are deserialized one after another on the calling thread: serializers added by other mods are not
+ * guaranteed to be thread safe, and some of them need the context class loader of the thread that runs the scripts.
+ */
+public final class JsonRecipeDeserializer {
+    
+    private JsonRecipeDeserializer() {}
+    
+    /**
+     * Deserializes the given recipes, logging the ones that could not be deserialized.
+     *
+     * @param recipeObjects The recipe ids and their JSON objects, which already have their type set.
+     *
+     * @return The recipes that could be deserialized, in the order of the given map.
+     */
+    public static List<Recipe<?>> deserializeAll(Map<ResourceLocation, JsonObject> recipeObjects) {
+        
+        final List<Recipe<?>> recipes = new ArrayList<>(recipeObjects.size());
+        recipeObjects.forEach((id, recipeObject) -> {
+            try {
+                recipes.add(RecipeManager.fromJson(id, recipeObject));
+            } catch(RuntimeException ex) {
+                CraftTweakerAPI.LOGGER.error("Could not deserialize recipe '{}'", id, ex);
+            }
+        });
+        return recipes;
+    }
+    
+}
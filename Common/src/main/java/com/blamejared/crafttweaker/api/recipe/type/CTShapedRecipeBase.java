@@ -35,6 +35,13 @@ public class CTShapedRecipeBase implements CraftingRecipe {
     
     private final int width;
     private final int height;
+    /**
+     * The ingredients built last, the recipe book and recipe viewers query them constantly.
+     *
+     * They are only reused while every ingredient returns the same vanilla ingredient as when they were built.
+     */
+    @Nullable
+    private volatile NonNullList<Ingredient> vanillaIngredients;
     
     
     public CTShapedRecipeBase(String name, IItemStack output, IIngredient[][] ingredients, MirrorAxis mirrorAxis, @Nullable RecipeFunctionMatrix function) {
@@ -126,7 +133,7 @@ public class CTShapedRecipeBase implements CraftingRecipe {
                         final int slotNumber = (rowIndex + rowOffset) * inv.getWidth() + columnIndex + columnOffset;
                         final ItemStack stackInSlot = inv.getItem(slotNumber);
                         
-                        if(item == null && !stackInSlot.isEmpty() || item != null && !item.matches(Services.PLATFORM.createMCItemStackMutable(stackInSlot))) {
+                        if(item == null && !stackInSlot.isEmpty() || item != null && !item.matches(stackInSlot)) {
                             continue offset;
                         }
                         visited[slotNumber] = true;
@@ -262,13 +269,29 @@ public class CTShapedRecipeBase implements CraftingRecipe {
     @Override
     public NonNullList<Ingredient> getIngredients() {
         
-        NonNullList<Ingredient> ingredients = NonNullList.withSize(this.height * this.width, Ingredient.EMPTY);
+        final NonNullList<Ingredient> cached = vanillaIngredients;
+        NonNullList<Ingredient> ingredients = cached == null ? NonNullList.withSize(this.height * this.width, Ingredient.EMPTY) : null;
         for(int row = 0; row < this.ingredients.length; row++) {
             IIngredient[] ingredientRow = this.ingredients[row];
             for(int column = 0; column < ingredientRow.length; column++) {
-                ingredients.set(row * width + column, ingredientRow[column].asVanillaIngredient());
+                final int index = row * width + column;
+                final Ingredient ingredient = ingredientRow[column].asVanillaIngredient();
+                if(ingredients == null && cached.get(index) != ingredient) {
+                    // Everything before this index is the same as in the cached list
+                    ingredients = NonNullList.withSize(this.height * this.width, Ingredient.EMPTY);
+                    for(int previous = 0; previous < index; previous++) {
+                        ingredients.set(previous, cached.get(previous));
+                    }
+                }
+                if(ingredients != null) {
+                    ingredients.set(index, ingredient);
+                }
             }
         }
+        if(ingredients == null) {
+            return cached;
+        }
+        vanillaIngredients = ingredients;
         return ingredients;
     }
     
@@ -8,7 +8,6 @@ import com.blamejared.crafttweaker.api.recipe.function.RecipeFunctionArray;
 import com.blamejared.crafttweaker.platform.Services;
 import net.minecraft.core.NonNullList;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.Container;
 import net.minecraft.world.inventory.CraftingContainer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
@@ -29,6 +28,14 @@ public class CTShapelessRecipeBase implements CraftingRecipe {
     @Nullable
     private final RecipeFunctionArray function;
     private final ResourceLocation resourceLocation;
+    private final ShapelessMatcher matcher;
+    /**
+     * The ingredients built last, the recipe book and recipe viewers query them constantly.
+     *
+     * They are only reused while every ingredient returns the same vanilla ingredient as when they were built.
+     */
+    @Nullable
+    private volatile NonNullList<Ingredient> vanillaIngredients;
     
     
     public CTShapelessRecipeBase(String name, IItemStack output, IIngredient[] ingredients, @Nullable RecipeFunctionArray function) {
@@ -52,23 +59,14 @@ public class CTShapelessRecipeBase implements CraftingRecipe {
                     .toArray(IIngredient[]::new);
         }
         this.ingredients = ingredients;
+        this.matcher = new ShapelessMatcher(ingredients);
         
     }
     
     @Override
     public boolean matches(CraftingContainer inv, Level worldIn) {
-        //Don't do anything here, just make sure all slots have been visited
-        final boolean[] visited = forAllUniqueMatches(inv, (ingredientIndex, matchingSlot, stack) -> {});
-        
-        int visitedCount = 0;
-        for(int slot = 0; slot < visited.length; slot++) {
-            if(visited[slot]) {
-                visitedCount++;
-            } else if(!inv.getItem(slot).isEmpty()) {
-                return false;
-            }
-        }
-        return visitedCount == this.ingredients.length;
+        
+        return this.matcher.match(inv).matches();
     }
     
     
@@ -81,7 +79,8 @@ public class CTShapelessRecipeBase implements CraftingRecipe {
         
         final IItemStack[] stacks = new IItemStack[this.ingredients.length];
         
-        forAllUniqueMatches(inv, (ingredientIndex, matchingSlot, stack) -> stacks[ingredientIndex] = stack.setAmount(1));
+        this.matcher.match(inv)
+                .forEach((ingredientIndex, matchingSlot, stack) -> stacks[ingredientIndex] = stack.setAmount(1));
         
         return this.function.process(this.output, stacks).getImmutableInternal();
     }
@@ -109,56 +108,34 @@ public class CTShapelessRecipeBase implements CraftingRecipe {
     public NonNullList<ItemStack> getRemainingItems(CraftingContainer inv) {
         
         final NonNullList<ItemStack> remainingItems = NonNullList.withSize(inv.getContainerSize(), ItemStack.EMPTY);
-        forAllUniqueMatches(inv, (ingredientIndex, matchingSlot, stack) -> remainingItems.set(matchingSlot, this.ingredients[ingredientIndex]
+        this.matcher.match(inv).forEach((ingredientIndex, matchingSlot, stack) -> remainingItems.set(matchingSlot, this.ingredients[ingredientIndex]
                 .getRemainingItem(stack)
                 .getInternal()));
         return remainingItems;
     }
     
-    /**
-     * Helper method to avoid redundant code.
-     * performs the Action for all matched items.
-     *
-     * Returns a bool array which slots have been visited, false implies the slot was not used.
-     * If there are less 'true' slots than there are ingredients, then the recipe doesn't match.
-     * It can be possible for a slot to not be visited but still contain items.
-     * Both cases need to be checked in the matches function!
-     */
-    private boolean[] forAllUniqueMatches(Container inv, ForAllUniqueAction action) {
-        
-        final boolean[] visited = new boolean[inv.getContainerSize()];
+    @Override
+    public NonNullList<Ingredient> getIngredients() {
         
-        outer:
-        for(int ingredientIndex = 0; ingredientIndex < this.ingredients.length; ingredientIndex++) {
-            IIngredient ingredient = this.ingredients[ingredientIndex];
-            for(int i = 0; i < inv.getContainerSize(); i++) {
-                if(visited[i]) {
-                    continue;
-                }
-                
-                final ItemStack stackInSlot = inv.getItem(i);
-                if(stackInSlot.isEmpty()) {
-                    continue;
-                }
-                
-                final IItemStack stack = Services.PLATFORM.createMCItemStack(stackInSlot);
-                if(ingredient.matches(stack)) {
-                    visited[i] = true;
-                    action.accept(ingredientIndex, i, stack);
-                    continue outer;
+        final NonNullList<Ingredient> cached = vanillaIngredients;
+        NonNullList<Ingredient> ingredients = cached == null ? NonNullList.create() : null;
+        for(int index = 0; index < this.ingredients.length; index++) {
+            final Ingredient ingredient = this.ingredients[index].asVanillaIngredient();
+            if(ingredients == null && cached.get(index) != ingredient) {
+                // Everything before this index is the same as in the cached list
+                ingredients = NonNullList.create();
+                for(int previous = 0; previous < index; previous++) {
+                    ingredients.add(cached.get(previous));
                 }
             }
+            if(ingredients != null) {
+                ingredients.add(ingredient);
+            }
         }
-        return visited;
-    }
-    
-    @Override
-    public NonNullList<Ingredient> getIngredients() {
-        
-        NonNullList<Ingredient> ingredients = NonNullList.create();
-        for(IIngredient ingredient : this.ingredients) {
-            ingredients.add(ingredient.asVanillaIngredient());
+        if(ingredients == null) {
+            return cached;
         }
+        vanillaIngredients = ingredients;
         return ingredients;
     }
     
@@ -197,11 +174,5 @@ public class CTShapelessRecipeBase implements CraftingRecipe {
         return this.output;
     }
     
-    private interface ForAllUniqueAction {
-        
-        void accept(int ingredientIndex, int matchingSlot, IItemStack stack);
-        
-    }
-    
     
 }
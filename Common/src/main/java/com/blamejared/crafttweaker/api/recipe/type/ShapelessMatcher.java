@@ -0,0 +1,252 @@
+package com.blamejared.crafttweaker.api.recipe.type;
+
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.tag.manager.TagManagerItem;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
+import com.blamejared.crafttweaker.api.util.IngredientUtil;
+import com.blamejared.crafttweaker.platform.Services;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.tags.TagCollection;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Matches the ingredients of a shapeless recipe against the occupied slots of a container.
+ *
+ * Matching is done as a bipartite matching between ingredients and slots, so overlapping ingredients (e.g. a tag and
+ * an item that is part of that tag) are always assigned correctly, regardless of the order they are placed in.
+ *
+ * The last result is cached, so that the {@code matches}, {@code assemble} and {@code getRemainingItems} calls that
+ * are made for the same container state only match once.
+ */
+final class ShapelessMatcher {
+    
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+    
+    private final IIngredient[] ingredients;
+    
+    /**
+     * The items each ingredient can possibly match, lazily computed as tags are not bound when the recipe is created.
+     *
+     * They are computed again once the item tags are reloaded or changed by a script, as the recipe itself may outlive
+     * both.
+     */
+    @Nullable
+    private volatile Candidates candidateItems;
+    @Nullable
+    private volatile Result lastResult;
+    
+    ShapelessMatcher(IIngredient[] ingredients) {
+        
+        this.ingredients = ingredients;
+    }
+    
+    Result match(Container container) {
+        
+        final Result cached = this.lastResult;
+        if(cached != null && cached.isFor(container)) {
+            return cached;
+        }
+        
+        final Result result = this.compute(container);
+        this.lastResult = result;
+        return result;
+    }
+    
+    private Result compute(Container container) {
+        
+        final int size = container.getContainerSize();
+        final ItemStack[] stacks = new ItemStack[size];
+        int occupied = 0;
+        for(int slot = 0; slot < size; slot++) {
+            final ItemStack stack = container.getItem(slot);
+            stacks[slot] = stack;
+            if(!stack.isEmpty()) {
+                occupied++;
+            }
+        }
+        
+        if(occupied != this.ingredients.length) {
+            return new Result(container, stacks, null, null, null);
+        }
+        
+        final int[] slots = new int[occupied];
+        for(int slot = 0, index = 0; slot < size; slot++) {
+            if(!stacks[slot].isEmpty()) {
+                slots[index++] = slot;
+            }
+        }
+        
+        final Set<Item>[] candidates = this.getCandidateItems();
+        final byte[][] known = new byte[this.ingredients.length][occupied];
+        final int[] ingredientForSlot = new int[occupied];
+        Arrays.fill(ingredientForSlot, -1);
+        
+        for(int ingredientIndex = 0; ingredientIndex < this.ingredients.length; ingredientIndex++) {
+            final boolean[] seen = new boolean[occupied];
+            if(!this.augment(ingredientIndex, stacks, slots, candidates, known, ingredientForSlot, seen)) {
+                return new Result(container, stacks, null, null, null);
+            }
+        }
+        
+        // Only matching states get wrappers, since they are handed to recipe functions and transformers
+        final int[] slotForIngredient = new int[this.ingredients.length];
+        final IItemStack[] wrappers = new IItemStack[occupied];
+        for(int index = 0; index < occupied; index++) {
+            slotForIngredient[ingredientForSlot[index]] = index;
+            wrappers[index] = Services.PLATFORM.createMCItemStack(stacks[slots[index]]);
+        }
+        return new Result(container, stacks, slots, wrappers, slotForIngredient);
+    }
+    
+    /**
+     * Tries to find an augmenting path starting from the given ingredient (Kuhn's algorithm).
+     */
+    private boolean augment(int ingredientIndex, ItemStack[] stacks, int[] slots, Set<Item>[] candidates, byte[][] known, int[] ingredientForSlot, boolean[] seen) {
+        
+        for(int index = 0; index < slots.length; index++) {
+            if(seen[index] || !this.canMatch(ingredientIndex, stacks[slots[index]], index, candidates, known)) {
+                continue;
+            }
+            seen[index] = true;
+            
+            if(ingredientForSlot[index] == -1 || this.augment(ingredientForSlot[index], stacks, slots, candidates, known, ingredientForSlot, seen)) {
+                ingredientForSlot[index] = ingredientIndex;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean canMatch(int ingredientIndex, ItemStack stack, int index, Set<Item>[] candidates, byte[][] known) {
+        
+        final byte state = known[ingredientIndex][index];
+        if(state != UNKNOWN) {
+            return state == MATCH;
+        }
+        
+        final Set<Item> items = candidates[ingredientIndex];
+        final boolean matches = (items == null || items.contains(stack.getItem()))
+                && this.ingredients[ingredientIndex].matches(stack);
+        known[ingredientIndex][index] = matches ? MATCH : NO_MATCH;
+        return matches;
+    }
+    
+    private Set<Item>[] getCandidateItems() {
+        
+        final TagCollection<Item> itemTags = TagManagerItem.INSTANCE.getTagCollection();
+        final int tagVersion = TagElementIndex.INSTANCE.getVersion();
+        Candidates candidates = this.candidateItems;
+        if(candidates == null || candidates.itemTags() != itemTags || candidates.tagVersion() != tagVersion) {
+            @SuppressWarnings("unchecked") final Set<Item>[] computed = new Set[this.ingredients.length];
+            for(int i = 0; i < this.ingredients.length; i++) {
+                computed[i] = IngredientUtil.getMatchableItems(this.ingredients[i]);
+            }
+            this.candidateItems = candidates = new Candidates(computed, itemTags, tagVersion);
+        }
+        return candidates.items();
+    }
+    
+    /**
+     * The items each ingredient can possibly match, and the item tags they were computed with.
+     *
+     * @param items      The items per ingredient. A {@code null} entry means that the ingredient cannot be pruned by
+     *                   item.
+     * @param itemTags   The item tag collection at the time they were computed.
+     * @param tagVersion The {@link TagElementIndex} version at the time they were computed.
+     */
+    private record Candidates(Set<Item>[] items, TagCollection<Item> itemTags, int tagVersion) {}
+    
+    /**
+     * The outcome of matching a single container state.
+     *
+     * A state is identified by the container, the stack instances in its slots and their item, count and tag. The tags
+     * are copied, so changes made to a tag in place (including the damage of a stack) are detected as well.
+     */
+    static final class Result {
+        
+        private final WeakReference<Container> container;
+        private final ItemStack[] stacks;
+        private final Item[] items;
+        private final int[] counts;
+        private final CompoundTag[] tags;
+        
+        @Nullable
+        private final int[] slots;
+        @Nullable
+        private final IItemStack[] wrappers;
+        @Nullable
+        private final int[] slotForIngredient;
+        
+        private Result(Container container, ItemStack[] stacks, @Nullable int[] slots, @Nullable IItemStack[] wrappers, @Nullable int[] slotForIngredient) {
+            
+            this.container = new WeakReference<>(container);
+            this.stacks = stacks;
+            this.items = new Item[stacks.length];
+            this.counts = new int[stacks.length];
+            this.tags = new CompoundTag[stacks.length];
+            for(int slot = 0; slot < stacks.length; slot++) {
+                this.items[slot] = stacks[slot].getItem();
+                this.counts[slot] = stacks[slot].getCount();
+                final CompoundTag tag = stacks[slot].getTag();
+                this.tags[slot] = tag == null ? null : tag.copy();
+            }
+            this.slots = slots;
+            this.wrappers = wrappers;
+            this.slotForIngredient = slotForIngredient;
+        }
+        
+        private boolean isFor(Container container) {
+            
+            if(this.container.get() != container || container.getContainerSize() != this.stacks.length) {
+                return false;
+            }
+            for(int slot = 0; slot < this.stacks.length; slot++) {
+                final ItemStack stack = container.getItem(slot);
+                if(stack != this.stacks[slot] || stack.getItem() != this.items[slot] || stack.getCount() != this.counts[slot] || !Objects.equals(stack.getTag(), this.tags[slot])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        boolean matches() {
+            
+            return this.slotForIngredient != null;
+        }
+        
+        /**
+         * Performs the given action for every ingredient and the slot it was matched with.
+         *
+         * Does nothing if the container does not match.
+         */
+        void forEach(MatchConsumer consumer) {
+            
+            if(this.slotForIngredient == null) {
+                return;
+            }
+            for(int ingredientIndex = 0; ingredientIndex < this.slotForIngredient.length; ingredientIndex++) {
+                final int index = this.slotForIngredient[ingredientIndex];
+                consumer.accept(ingredientIndex, this.slots[index], this.wrappers[index]);
+            }
+        }
+        
+    }
+    
+    interface MatchConsumer {
+        
+        void accept(int ingredientIndex, int matchingSlot, IItemStack stack);
+        
+    }
+    
+}
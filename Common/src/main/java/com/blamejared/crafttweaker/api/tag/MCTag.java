@@ -1,12 +1,15 @@
 package com.blamejared.crafttweaker.api.tag;
 
+import com.blamejared.crafttweaker.api.action.tag.StagedTagChanges;
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.bracket.CommandStringDisplayable;
 import com.blamejared.crafttweaker.api.tag.manager.ITagManager;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
 import com.blamejared.crafttweaker.api.util.Many;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.Tag;
+import net.minecraft.tags.TagCollection;
 import org.openzen.zencode.java.ZenCodeType;
 
 import javax.annotation.Nonnull;
@@ -31,6 +34,11 @@ public final class MCTag<T> implements CommandStringDisplayable, Iterable<T> {
     
     private final ResourceLocation id;
     private final ITagManager<T> manager;
+    /**
+     * The elements of this tag as of the last {@link #getElements()} call, reused while neither the tag collection was
+     * replaced nor a tag was changed through CraftTweaker.
+     */
+    private volatile CachedElements<T> cachedElements;
     
     public MCTag(ResourceLocation id, ITagManager<T> manager) {
         
@@ -123,14 +131,25 @@ public final class MCTag<T> implements CommandStringDisplayable, Iterable<T> {
     @ZenCodeType.Getter("elements")
     public List<T> getElements() {
         
-        return manager.getElementsInTag(this);
+        StagedTagChanges.INSTANCE.flush();
+        final TagCollection<T> collection = manager.getTagCollection();
+        final int version = TagElementIndex.INSTANCE.getVersion();
+        final CachedElements<T> cached = this.cachedElements;
+        if(cached != null && cached.collection() == collection && cached.version() == version) {
+            return cached.elements();
+        }
+        
+        final List<T> elements = manager.getElementsInTag(this);
+        this.cachedElements = new CachedElements<>(collection, version, elements);
+        return elements;
     }
     
     @ZenCodeType.Method
     @ZenCodeType.Operator(ZenCodeType.OperatorType.CONTAINS)
     public boolean contains(T element) {
         
-        return getElements().contains(element);
+        StagedTagChanges.INSTANCE.flush();
+        return manager.isElementInTag(this, element);
     }
     
     @Override
@@ -178,6 +197,7 @@ public final class MCTag<T> implements CommandStringDisplayable, Iterable<T> {
      */
     public Tag<T> getInternal() {
         
+        StagedTagChanges.INSTANCE.flush();
         return manager.getInternal(this);
     }
     
@@ -230,4 +250,6 @@ public final class MCTag<T> implements CommandStringDisplayable, Iterable<T> {
         return getElements().iterator();
     }
     
+    private record CachedElements<T>(TagCollection<T> collection, int version, List<T> elements) {}
+    
 }
@@ -1,8 +1,10 @@
 package com.blamejared.crafttweaker.api.tag.manager;
 
+import com.blamejared.crafttweaker.api.action.tag.StagedTagChanges;
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.bracket.CommandStringDisplayable;
 import com.blamejared.crafttweaker.api.tag.MCTag;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.Tag;
@@ -111,13 +113,29 @@ public interface ITagManager<T> extends CommandStringDisplayable {
      */
     @ZenCodeType.Method
     default List<MCTag<T>> getAllTagsFor(T element) {
-        //While this is a working implementation, using TagCollection#getOwningTags would probably be more efficient ^^
-        //Therefore the CrT TagManagers override this impl
-        return getAllTags().stream()
-                .filter(tag -> tag.contains(element))
+        
+        StagedTagChanges.INSTANCE.flush();
+        return TagElementIndex.INSTANCE.getTagsFor(this, element)
+                .stream()
+                .map(location -> new MCTag<>(location, this))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Checks if the given element is in the given tag.
+     * The default implementation uses {@link Tag#contains(Object)}, which is backed by a set for vanilla tags.
+     *
+     * @param theTag  The tag to check
+     * @param element The element to look for
+     *
+     * @return Whether the tag exists and contains the element
+     */
+    default boolean isElementInTag(MCTag<T> theTag, T element) {
+        
+        final Tag<T> internal = getInternal(theTag);
+        return internal != null && internal.contains(element);
+    }
+    
     /**
      * Get the tag type. In a Bracket call, this will used to determine which ITagManager to use.
      * <p>
@@ -21,7 +21,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @ZenRegister
 @Document("vanilla/api/tag/TagManagerBlock")
@@ -47,15 +46,6 @@ public class TagManagerBlock implements ITagManager<Block> {
         return "blocks";
     }
     
-    @Override
-    public List<MCTag<Block>> getAllTagsFor(Block element) {
-        
-        return getTagCollection().getMatchingTags(element)
-                .stream()
-                .map(location -> new MCTag<>(location, this))
-                .collect(Collectors.toList());
-    }
-    
     @Override
     public void addElements(MCTag<Block> to, List<Block> toAdd) {
         
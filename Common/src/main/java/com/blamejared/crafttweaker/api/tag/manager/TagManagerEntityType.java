@@ -19,7 +19,6 @@ import org.openzen.zencode.java.ZenCodeType;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @ZenRegister
 @Document("vanilla/api/tag/TagManagerEntityType")
@@ -44,15 +43,6 @@ public class TagManagerEntityType implements ITagManager<EntityType> {
         return "entity_types";
     }
     
-    @Override
-    public List<MCTag<EntityType>> getAllTagsFor(EntityType element) {
-        
-        return getTagCollection().getMatchingTags(element)
-                .stream()
-                .map(location -> new MCTag<>(location, this))
-                .collect(Collectors.toList());
-    }
-    
     @Override
     public void addElements(MCTag<EntityType> to, List<EntityType> toAdd) {
         
@@ -21,7 +21,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @ZenRegister
 @Document("vanilla/api/tag/TagManagerFluid")
@@ -47,15 +46,6 @@ public class TagManagerFluid implements ITagManager<Fluid> {
         return "fluids";
     }
     
-    @Override
-    public List<MCTag<Fluid>> getAllTagsFor(Fluid element) {
-        
-        return getTagCollection().getMatchingTags(element)
-                .stream()
-                .map(location -> new MCTag<>(location, this))
-                .collect(Collectors.toList());
-    }
-    
     @Override
     public void addElements(MCTag<Fluid> to, List<Fluid> toAdd) {
         
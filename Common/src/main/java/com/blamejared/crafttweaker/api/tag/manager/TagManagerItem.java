@@ -20,7 +20,6 @@ import org.openzen.zencode.java.ZenCodeType;
 import javax.annotation.Nonnull;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @ZenRegister
 @Document("vanilla/api/tag/TagManagerItem")
@@ -46,15 +45,6 @@ public class TagManagerItem implements ITagManager<Item> {
         return "items";
     }
     
-    @Override
-    public List<MCTag<Item>> getAllTagsFor(Item element) {
-        
-        return getTagCollection().getMatchingTags(element)
-                .stream()
-                .map(location -> new MCTag<>(location, this))
-                .collect(Collectors.toList());
-    }
-    
     @Override
     public void addElements(MCTag<Item> to, List<Item> toAdd) {
         
@@ -18,12 +18,10 @@ import org.openzen.zencode.java.ZenCodeType;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @ZenRegister
 @ZenCodeType.Name("crafttweaker.api.tag.TagManagerWrapper")
@@ -77,18 +75,6 @@ public class TagManagerWrapper<T> implements ITagManager<T> {
         return tagFolder;
     }
     
-    @Override
-    @SuppressWarnings({"rawtypes"})
-    public List<MCTag<T>> getAllTagsFor(T element) {
-        
-        final TagCollection tagCollection = getTagCollection();
-        
-        final Collection<ResourceLocation> owningTags = tagCollection.getMatchingTags(element);
-        return owningTags.stream()
-                .map(location -> new MCTag<>(location, this))
-                .collect(Collectors.toList());
-    }
-    
     @Override
     @SuppressWarnings({"rawtypes"})
     public void addElements(MCTag<T> to, List<T> toAdd) {
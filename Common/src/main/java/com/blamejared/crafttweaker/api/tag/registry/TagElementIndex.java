@@ -0,0 +1,78 @@
+package com.blamejared.crafttweaker.api.tag.registry;
+
+import com.blamejared.crafttweaker.api.tag.manager.ITagManager;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagCollection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reverse index from tag elements to the tags that contain them, used to answer "which tags contain X" without
+ * checking every tag of a manager.
+ *
+ * The index of a manager is built lazily and rebuilt whenever the manager's {@link TagCollection} is replaced (e.g. on
+ * reload) or when a tag is changed through CraftTweaker, which calls {@link #invalidate()}.
+ */
+public final class TagElementIndex {
+    
+    public static final TagElementIndex INSTANCE = new TagElementIndex();
+    
+    private final Map<ITagManager<?>, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
+    
+    private TagElementIndex() {}
+    
+    /**
+     * Gets the ids of all the tags of the given manager that contain the given element.
+     */
+    public <T> List<ResourceLocation> getTagsFor(ITagManager<T> manager, T element) {
+        
+        final TagCollection<T> collection = manager.getTagCollection();
+        final int version = this.version.get();
+        
+        Snapshot snapshot = this.snapshots.get(manager);
+        if(snapshot == null || snapshot.collection() != collection || snapshot.version() != version) {
+            snapshot = new Snapshot(collection, version, index(collection));
+            this.snapshots.put(manager, snapshot);
+        }
+        return snapshot.byElement().getOrDefault(element, Collections.emptyList());
+    }
+    
+    /**
+     * Gets a number that changes every time {@link #invalidate()} is called, so other caches of tag contents can tell
+     * whether they are outdated.
+     */
+    public int getVersion() {
+        
+        return this.version.get();
+    }
+    
+    /**
+     * Marks every index as outdated, should be called whenever the contents of a tag are changed in place.
+     */
+    public void invalidate() {
+        
+        this.version.incrementAndGet();
+    }
+    
+    private static Map<Object, List<ResourceLocation>> index(TagCollection<?> collection) {
+        
+        final Map<Object, List<ResourceLocation>> byElement = new HashMap<>();
+        collection.getAllTags().forEach((id, tag) -> {
+            for(Object element : tag.getValues()) {
+                byElement.computeIfAbsent(element, it -> new ArrayList<>()).add(id);
+            }
+        });
+        byElement.replaceAll((element, ids) -> Collections.unmodifiableList(ids));
+        return byElement;
+    }
+    
+    private record Snapshot(TagCollection<?> collection, int version, Map<Object, List<ResourceLocation>> byElement) {}
+    
+}
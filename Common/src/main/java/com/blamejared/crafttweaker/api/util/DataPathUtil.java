@@ -0,0 +1,85 @@
+package com.blamejared.crafttweaker.api.util;
+
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.arguments.NbtPathArgument;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helpers to read and write parts of the NBT data of entities and block entities using paths such as
+ * {@code ForgeData.myMod.counter} or {@code Items[0].id}, using the same syntax as the {@code /data} command.
+ */
+public final class DataPathUtil {
+    
+    private static final Map<String, NbtPathArgument.NbtPath> PATHS = new ConcurrentHashMap<>();
+    
+    private DataPathUtil() {}
+    
+    /**
+     * Parses the given path, paths are cached as scripts usually use the same few paths over and over.
+     *
+     * @throws IllegalArgumentException If the path is not valid.
+     */
+    public static NbtPathArgument.NbtPath parsePath(String path) {
+        
+        final NbtPathArgument.NbtPath cached = PATHS.get(path);
+        if(cached != null) {
+            return cached;
+        }
+        
+        try {
+            final NbtPathArgument.NbtPath parsed = NbtPathArgument.nbtPath().parse(new StringReader(path));
+            PATHS.put(path, parsed);
+            return parsed;
+        } catch(CommandSyntaxException e) {
+            throw new IllegalArgumentException("Invalid data path '" + path + "': " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Gets a copy of the data at the given path.
+     *
+     * @return The data at the path, a {@link ListData} if the path matches multiple elements, or {@code null} if it
+     * matches nothing.
+     */
+    @Nullable
+    public static IData getAt(CompoundTag tag, String path) {
+        
+        final List<Tag> found;
+        try {
+            found = parsePath(path).get(tag);
+        } catch(CommandSyntaxException e) {
+            return null;
+        }
+        if(found.size() == 1) {
+            return TagToDataConverter.convert(found.get(0).copy());
+        }
+        final ListData list = new ListData();
+        found.forEach(element -> list.add(TagToDataConverter.convert(element.copy())));
+        return list;
+    }
+    
+    /**
+     * Sets the data at the given path, creating any missing parents.
+     *
+     * @throws IllegalArgumentException If the path is not valid or cannot be created in the given tag.
+     */
+    public static void setAt(CompoundTag tag, String path, IData value) {
+        
+        try {
+            parsePath(path).set(tag, () -> value.getInternal().copy());
+        } catch(CommandSyntaxException e) {
+            throw new IllegalArgumentException("Unable to set data at path '" + path + "': " + e.getMessage(), e);
+        }
+    }
+    
+}
@@ -1,13 +1,24 @@
 package com.blamejared.crafttweaker.api.util;
 
 
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientConditioned;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientList;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientTransformed;
+import com.blamejared.crafttweaker.api.ingredient.type.IngredientCraftTweakerBase;
+import com.blamejared.crafttweaker.api.ingredient.type.WrappingIIngredient;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public final class IngredientUtil {
     
@@ -52,4 +63,68 @@ public final class IngredientUtil {
         return intersection == null ? Collections.emptyList() : intersection;
     }
     
+    /**
+     * Gets the items that the given ingredient can possibly match.
+     *
+     * Returns {@code null} if that cannot be determined, i.e. if the ingredient is free to match items that are not
+     * part of {@link IIngredient#getItems()}.
+     */
+    @Nullable
+    public static Set<Item> getMatchableItems(final IIngredient ingredient) {
+        
+        if(!isBoundToItems(ingredient)) {
+            return null;
+        }
+        
+        final Set<Item> items = new HashSet<>();
+        for(final IItemStack stack : ingredient.getItems()) {
+            items.add(stack.getInternal().getItem());
+        }
+        return items;
+    }
+    
+    /**
+     * Gets the items that the given vanilla ingredient can possibly match.
+     *
+     * Returns {@code null} if that cannot be determined, e.g. for custom ingredient types added by other mods.
+     */
+    @Nullable
+    public static Set<Item> getMatchableItems(final Ingredient ingredient) {
+        
+        //noinspection ConstantConditions
+        if(((Object) ingredient) instanceof IngredientCraftTweakerBase base) {
+            return getMatchableItems(base.getCrTIngredient());
+        }
+        
+        if(ingredient.getClass() != Ingredient.class) {
+            return null;
+        }
+        
+        final Set<Item> items = new HashSet<>();
+        for(final ItemStack stack : ingredient.getItems()) {
+            items.add(stack.getItem());
+        }
+        return items;
+    }
+    
+    private static boolean isBoundToItems(final IIngredient ingredient) {
+        
+        if(ingredient instanceof IItemStack) {
+            return true;
+        }
+        if(ingredient instanceof WrappingIIngredient wrapping) {
+            return wrapping.asVanillaIngredient().getClass() == Ingredient.class;
+        }
+        if(ingredient instanceof IIngredientList list) {
+            return Arrays.stream(list.getIngredients()).allMatch(IngredientUtil::isBoundToItems);
+        }
+        if(ingredient instanceof IIngredientConditioned<?> conditioned) {
+            return isBoundToItems(conditioned.getBaseIngredient());
+        }
+        if(ingredient instanceof IIngredientTransformed<?> transformed) {
+            return isBoundToItems(transformed.getBaseIngredient());
+        }
+        return false;
+    }
+    
 }
@@ -0,0 +1,155 @@
+package com.blamejared.crafttweaker.api.util;
+
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import net.minecraft.nbt.CollectionTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks whether NBT contains a required subset of data, giving the same results as converting both to {@link IData}
+ * and calling {@link IData#contains(IData)}, without converting anything while testing.
+ *
+ * The required data is compiled into a tree of nodes once, so testing a tag only walks the parts of it that are
+ * actually required.
+ */
+public final class PartialNbtPredicate {
+    
+    private static final PartialNbtPredicate ANY = new PartialNbtPredicate(null);
+    
+    @Nullable
+    private final Node root;
+    
+    private PartialNbtPredicate(@Nullable Node root) {
+        
+        this.root = root;
+    }
+    
+    /**
+     * Compiles a predicate that accepts all tags containing the given data.
+     *
+     * @param required The required data, null to accept any tag.
+     */
+    public static PartialNbtPredicate of(@Nullable CompoundTag required) {
+        
+        return required == null ? ANY : new PartialNbtPredicate(compile(required));
+    }
+    
+    /**
+     * Whether any tag is accepted, including no tag at all.
+     */
+    public boolean acceptsAny() {
+        
+        return root == null;
+    }
+    
+    public boolean test(@Nullable CompoundTag tag) {
+        
+        if(root == null) {
+            return true;
+        }
+        return tag != null && root.test(tag);
+    }
+    
+    private static Node compile(Tag required) {
+        
+        final String asString = TagToDataConverter.convert(required).asString();
+        Map<String, Node> children = null;
+        List<Node> elements = null;
+        if(required instanceof CompoundTag compound) {
+            children = new LinkedHashMap<>();
+            for(String key : compound.getAllKeys()) {
+                children.put(key, compile(compound.get(key)));
+            }
+        } else if(required instanceof CollectionTag<?> collection) {
+            // Arrays are treated as lists of their elements as well
+            elements = new ArrayList<>(collection.size());
+            for(Tag element : collection) {
+                elements.add(compile(element));
+            }
+        }
+        return new Node(required, asString, children == null ? null : Collections.unmodifiableMap(children), elements == null ? null : Collections.unmodifiableList(elements));
+    }
+    
+    /**
+     * The compiled form of a part of the required data, testing it against the part of the tag at the same position.
+     *
+     * @param asString The {@link IData#asString()} form of the required data, which some comparisons are based on.
+     */
+    private record Node(Tag required, String asString, @Nullable Map<String, Node> children,
+                        @Nullable List<Node> elements) {
+                        
+        boolean test(Tag actual) {
+            
+            if(actual instanceof CompoundTag compound) {
+                return testCompound(compound);
+            }
+            if(actual instanceof ListTag list) {
+                return testList(list);
+            }
+            if(actual instanceof StringTag string) {
+                if(required instanceof StringTag requiredString) {
+                    return string.getAsString().equals(requiredString.getAsString());
+                }
+                return TagToDataConverter.convert(string).asString().equals(asString);
+            }
+            // Numbers and arrays only contain equal data of the same type
+            return actual.equals(required);
+        }
+        
+        private boolean testCompound(CompoundTag compound) {
+            
+            if(required instanceof StringTag) {
+                return compound.contains(asString);
+            }
+            if(children == null) {
+                return false;
+            }
+            for(Map.Entry<String, Node> entry : children.entrySet()) {
+                final Tag value = compound.get(entry.getKey());
+                if(value == null || !entry.getValue().test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private boolean testList(ListTag list) {
+            
+            if(elements != null && containsAll(list)) {
+                return true;
+            }
+            for(Tag value : list) {
+                if(test(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean containsAll(ListTag list) {
+            
+            outer:
+            for(Node element : elements) {
+                for(Tag value : list) {
+                    if(element.test(value)) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+        
+    }
+    
+}
@@ -1,11 +1,28 @@
 package com.blamejared.crafttweaker.api.zencode.expand;
 
+import com.blamejared.crafttweaker.api.data.BoolData;
+import com.blamejared.crafttweaker.api.data.DataConstants;
+import com.blamejared.crafttweaker.api.data.DoubleData;
+import com.blamejared.crafttweaker.api.data.FloatData;
+import com.blamejared.crafttweaker.api.data.IntData;
+import com.blamejared.crafttweaker.api.data.ListData;
+import com.blamejared.crafttweaker.api.data.LongData;
+import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.StringData;
+import com.blamejared.crafttweaker.api.data.base.ICollectionData;
+import com.blamejared.crafttweaker.api.data.base.IData;
 import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.CompileException;
 import org.openzen.zenscript.codemodel.GenericName;
 import org.openzen.zenscript.codemodel.OperatorType;
 import org.openzen.zenscript.codemodel.expression.ArrayExpression;
 import org.openzen.zenscript.codemodel.expression.CallArguments;
+import org.openzen.zenscript.codemodel.expression.ConstantBoolExpression;
+import org.openzen.zenscript.codemodel.expression.ConstantDoubleExpression;
+import org.openzen.zenscript.codemodel.expression.ConstantFloatExpression;
+import org.openzen.zenscript.codemodel.expression.ConstantIntExpression;
+import org.openzen.zenscript.codemodel.expression.ConstantLongExpression;
+import org.openzen.zenscript.codemodel.expression.ConstantStringExpression;
 import org.openzen.zenscript.codemodel.expression.Expression;
 import org.openzen.zenscript.codemodel.expression.MapExpression;
 import org.openzen.zenscript.codemodel.expression.NewExpression;
@@ -19,8 +36,14 @@ import org.openzen.zenscript.parser.expression.ParsedExpression;
 import org.openzen.zenscript.parser.expression.ParsedExpressionArray;
 import org.openzen.zenscript.parser.expression.ParsedExpressionMap;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 @SuppressWarnings("Duplicates")
 public class IDataRewrites {
@@ -31,6 +54,12 @@ public class IDataRewrites {
     public static final List<GenericName> LIST_DATA_NAME = Arrays.asList(new GenericName("crafttweaker"), new GenericName("api"), new GenericName("data"), new GenericName("ListData"));
     public static final List<GenericName> MAP_DATA_NAME = Arrays.asList(new GenericName("crafttweaker"), new GenericName("api"), new GenericName("data"), new GenericName("MapData"));
     
+    /**
+     * The values of the rewritten literals whose contents are all constants, so literals that contain them know they
+     * are constant as well.
+     */
+    private static final Map<Expression, IData> CONSTANT_LITERALS = Collections.synchronizedMap(new WeakHashMap<>());
+    
     
     public static IPartialExpression rewriteArray(ParsedExpressionArray parsedExpressionArray, ExpressionScope expressionScope) {
         
@@ -60,18 +89,29 @@ public class IDataRewrites {
         
         final List<ParsedExpression> contents = parsedExpressionArray.contents;
         final Expression[] cContent = new Expression[contents.size()];
+        List<IData> constantContent = new ArrayList<>(contents.size());
         for(int i = 0; i < contents.size(); i++) {
             ParsedExpression content = contents.get(i);
             try {
-                cContent[i] = content.compile(expressionScope.withHint(iDataType))
-                        .eval()
-                        .castExplicit(position, expressionScope, iDataType, false);
+                final Expression value = content.compile(expressionScope.withHint(iDataType)).eval();
+                cContent[i] = value.castExplicit(position, expressionScope, iDataType, false);
+                final IData constant = getConstant(value);
+                if(constant == null) {
+                    constantContent = null;
+                } else if(constantContent != null) {
+                    constantContent.add(constant);
+                }
             } catch(CompileException e) {
                 return null;
             }
         }
         
         try {
+            final ICollectionData constant = constantContent == null ? null : isListData ? new ListData(constantContent) : ICollectionData.getFromMembers(constantContent.toArray(IData[]::new));
+            if(constant instanceof ListData) {
+                return constantLiteral(position, expressionScope, listType, constant);
+            }
+            
             final ArrayExpression arrayExpression = new ArrayExpression(position, cContent, expressionScope.getTypeRegistry()
                     .getArray(iDataType, 1));
             
@@ -83,9 +123,14 @@ public class IDataRewrites {
                         .selectMethod(position, expressionScope, arguments, true, true);
                 return new NewExpression(position, listType, constructor, arguments);
             } else {
-                return expressionScope.getTypeMembers(collectionType)
+                final Expression expression = expressionScope.getTypeMembers(collectionType)
                         .getGroup("getFromMembers")
                         .callStatic(position, collectionType, expressionScope, arguments);
+                if(constant != null) {
+                    // Byte, int and long arrays are still built every time, but literals containing them can be constant
+                    CONSTANT_LITERALS.put(expression, constant);
+                }
+                return expression;
             }
         } catch(CompileException e) {
             return null;
@@ -113,6 +158,7 @@ public class IDataRewrites {
         
         final Expression[] cKeys = new Expression[parsedExpressionMap.keys.size()];
         final Expression[] cValues = new Expression[parsedExpressionMap.values.size()];
+        Map<String, IData> constantValues = new HashMap<>();
         
         for(int i = 0; i < parsedExpressionMap.keys.size(); i++) {
             if(parsedExpressionMap.keys.get(i) == null) {
@@ -122,16 +168,26 @@ public class IDataRewrites {
             try {
                 cKeys[i] = parsedExpressionMap.keys.get(i)
                         .compileKey(expressionScope.withHint(BasicTypeID.STRING));
-                cValues[i] = parsedExpressionMap.values.get(i)
+                final Expression value = parsedExpressionMap.values.get(i)
                         .compile(expressionScope.withHint(iDataType))
-                        .eval()
-                        .castExplicit(position, expressionScope, iDataType, false);
+                        .eval();
+                cValues[i] = value.castExplicit(position, expressionScope, iDataType, false);
+                final IData constant = getConstant(value);
+                if(constant == null || !(cKeys[i] instanceof ConstantStringExpression key)) {
+                    constantValues = null;
+                } else if(constantValues != null) {
+                    constantValues.put(key.value, constant);
+                }
             } catch(CompileException e) {
                 return null;
             }
         }
         
         try {
+            if(constantValues != null) {
+                return constantLiteral(position, expressionScope, mapDataType, new MapData(constantValues));
+            }
+            
             final MapExpression mapExpression = new MapExpression(position, cKeys, cValues, expressionScope.getTypeRegistry()
                     .getAssociative(BasicTypeID.STRING, iDataType));
             
@@ -146,4 +202,45 @@ public class IDataRewrites {
         
     }
     
+    /**
+     * Compiles a literal whose contents are all constants into a lookup of the data, which is built here once instead
+     * of every time the literal is evaluated. Scripts get a copy on write view of it, so writing to it still works.
+     */
+    private static Expression constantLiteral(CodePosition position, ExpressionScope expressionScope, DefinitionTypeID type, IData value) throws CompileException {
+        
+        final CallArguments arguments = new CallArguments(new ConstantStringExpression(position, DataConstants.register(value)));
+        final Expression expression = expressionScope.getTypeMembers(type)
+                .getGroup(DataConstants.LITERAL_METHOD)
+                .callStatic(position, type, expressionScope, arguments);
+        CONSTANT_LITERALS.put(expression, value);
+        return expression;
+    }
+    
+    /**
+     * Gets the data the given (not yet cast) expression would be, if it is known while compiling.
+     */
+    @Nullable
+    private static IData getConstant(Expression expression) {
+        
+        if(expression instanceof ConstantStringExpression constant) {
+            return new StringData(constant.value);
+        }
+        if(expression instanceof ConstantBoolExpression constant) {
+            return new BoolData(constant.value);
+        }
+        if(expression instanceof ConstantIntExpression constant) {
+            return new IntData(constant.value);
+        }
+        if(expression instanceof ConstantLongExpression constant) {
+            return new LongData(constant.value);
+        }
+        if(expression instanceof ConstantFloatExpression constant) {
+            return new FloatData(constant.value);
+        }
+        if(expression instanceof ConstantDoubleExpression constant) {
+            return new DoubleData(constant.value);
+        }
+        return CONSTANT_LITERALS.get(expression);
+    }
+    
 }
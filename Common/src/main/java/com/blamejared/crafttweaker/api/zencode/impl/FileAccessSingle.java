@@ -160,6 +160,10 @@ public class FileAccessSingle {
     
     private void checkPreprocessor(String line, int lineNumber) {
         
+        // Most lines are plain code, which can be skipped without running the regex
+        if(line.indexOf('#') < 0) {
+            return;
+        }
         final Matcher matcher = IPreprocessor.preprocessorPattern.matcher(line);
         if(!matcher.find()) {
             return;
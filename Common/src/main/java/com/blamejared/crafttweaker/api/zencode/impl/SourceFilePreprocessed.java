@@ -7,8 +7,8 @@ import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.LoadLastPreproc
 import com.blamejared.crafttweaker.api.zencode.impl.preprocessor.PriorityPreprocessor;
 import org.openzen.zencode.shared.SourceFile;
 
+import java.io.CharArrayReader;
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +18,10 @@ public class SourceFilePreprocessed implements SourceFile {
     private final String fileName;
     private List<String> fileContent;
     private final Map<IPreprocessor, List<PreprocessorMatch>> matches;
+    /**
+     * The content as it is handed to the parser, built on the first {@link #open()}.
+     */
+    private char[] content;
     
     public SourceFilePreprocessed(String fileName, List<String> fileContent, Map<IPreprocessor, List<PreprocessorMatch>> matches) {
         
@@ -35,13 +39,39 @@ public class SourceFilePreprocessed implements SourceFile {
     @Override
     public Reader open() {
         
-        return new StringReader(String.join(System.lineSeparator(), fileContent) + System.lineSeparator());
+        if(content == null) {
+            content = buildContent();
+        }
+        return new CharArrayReader(content);
+    }
+    
+    private char[] buildContent() {
+        
+        final String lineSeparator = System.lineSeparator();
+        if(fileContent.isEmpty()) {
+            return lineSeparator.toCharArray();
+        }
+        int length = 0;
+        for(String line : fileContent) {
+            length += line.length() + lineSeparator.length();
+        }
+        
+        final char[] chars = new char[length];
+        int offset = 0;
+        for(String line : fileContent) {
+            line.getChars(0, line.length(), chars, offset);
+            offset += line.length();
+            lineSeparator.getChars(0, lineSeparator.length(), chars, offset);
+            offset += lineSeparator.length();
+        }
+        return chars;
     }
     
     @Override
     public void update(String content) {
         
         fileContent = Arrays.asList(content.split(System.lineSeparator()));
+        this.content = null;
     }
     
     public Map<IPreprocessor, List<PreprocessorMatch>> getMatches() {
@@ -0,0 +1,125 @@
+package com.blamejared.crafttweaker.api.zencode.impl.loader;
+
+import org.openzen.zencode.java.logger.ScriptingEngineLogger;
+import org.openzen.zencode.shared.CompileException;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.validator.ValidationLogEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds back what the scripting engine logs while scripts are compiled in an attempt that may be retried, so the
+ * errors of an attempt that is retried successfully are never logged.
+ *
+ * Once {@link #forward()} is called, everything that was held back is logged and later messages are logged right away.
+ */
+final class CollectingSELogger implements ScriptingEngineLogger {
+    
+    private final ScriptingEngineLogger delegate;
+    private final List<Message> messages = new ArrayList<>();
+    private boolean forwarding;
+    
+    CollectingSELogger(ScriptingEngineLogger delegate) {
+        
+        this.delegate = delegate;
+    }
+    
+    /**
+     * Logs everything that was held back, and logs everything after it right away.
+     */
+    void forward() {
+        
+        forwarding = true;
+        messages.forEach(message -> message.log().accept(delegate));
+        messages.clear();
+    }
+    
+    /**
+     * Logs only the errors that were held back, used when the attempt failed and no later attempt succeeded either.
+     */
+    void forwardErrors() {
+        
+        messages.stream().filter(Message::error).forEach(message -> message.log().accept(delegate));
+        messages.clear();
+    }
+    
+    @Override
+    public void logCompileException(CompileException exception) {
+        
+        log(true, logger -> logger.logCompileException(exception));
+    }
+    
+    @Override
+    public void info(String message) {
+        
+        log(false, logger -> logger.info(message));
+    }
+    
+    @Override
+    public void debug(String message) {
+        
+        log(false, logger -> logger.debug(message));
+    }
+    
+    @Override
+    public void trace(String message) {
+        
+        log(false, logger -> logger.trace(message));
+    }
+    
+    @Override
+    public void warning(String message) {
+        
+        log(false, logger -> logger.warning(message));
+    }
+    
+    @Override
+    public void error(String message) {
+        
+        log(true, logger -> logger.error(message));
+    }
+    
+    @Override
+    public void throwingErr(String message, Throwable throwable) {
+        
+        log(true, logger -> logger.throwingErr(message, throwable));
+    }
+    
+    @Override
+    public void throwingWarn(String message, Throwable throwable) {
+        
+        log(false, logger -> logger.throwingWarn(message, throwable));
+    }
+    
+    @Override
+    public void logSourceFile(SourceFile file) {
+        
+        log(false, logger -> logger.logSourceFile(file));
+    }
+    
+    @Override
+    public void logValidationError(ValidationLogEntry errorEntry) {
+        
+        log(true, logger -> logger.logValidationError(errorEntry));
+    }
+    
+    @Override
+    public void logValidationWarning(ValidationLogEntry warningEntry) {
+        
+        log(false, logger -> logger.logValidationWarning(warningEntry));
+    }
+    
+    private void log(boolean error, Consumer<ScriptingEngineLogger> log) {
+        
+        if(forwarding) {
+            log.accept(delegate);
+        } else {
+            messages.add(new Message(error, log));
+        }
+    }
+    
+    private record Message(boolean error, Consumer<ScriptingEngineLogger> log) {}
+    
+}
@@ -0,0 +1,260 @@
+package com.blamejared.crafttweaker.api.zencode.impl.loader;
+
+import com.blamejared.crafttweaker.CraftTweakerRegistries;
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.tag.manager.ITagManager;
+import com.blamejared.crafttweaker.api.tag.registry.CrTTagRegistryData;
+import com.google.common.hash.Hashing;
+import com.google.common.io.CharStreams;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.Tag;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.openzen.zencode.shared.SourceFile;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which scripts have to run again on a reload, set by the {@code #incremental} preprocessor.
+ *
+ * Scripts are compared with the scripts of the last run in load order. The leading scripts that did not change are
+ * not compiled or run again, the actions they applied last time are replayed instead. The first script that changed
+ * and everything after it runs as usual, so actions are still applied in the same order as a full reload would.
+ *
+ * This is only done when it is known to be safe: every action of the last run has to be traced back to a script, the
+ * scripts that are replayed and the scripts that run must not use anything the other group declares, and neither
+ * group may declare expansions, since those change types for every script. The recipes and tags the scripts ran
+ * against must also be the same as last time, since replayed actions were only validated against those.
+ *
+ * Replayed actions are the same instances that were applied last time, so they have to be undone cleanly (see
+ * {@link com.blamejared.crafttweaker.api.action.base.IUndoableAction}). They also keep the classes of the scripts that
+ * created them loaded until those scripts change or everything is reloaded.
+ */
+final class IncrementalReload {
+    
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    private static final Pattern DECLARATION = Pattern.compile("\\b(?:class|interface|enum|struct|variant|alias|function)\\s+([A-Za-z_$][A-Za-z0-9_$]*)");
+    private static final Pattern EXPANSION = Pattern.compile("\\bexpand\\b");
+    
+    private final int replayedScripts;
+    private final List<LoaderActions.JournalEntry> replayedActions;
+    
+    private IncrementalReload(int replayedScripts, List<LoaderActions.JournalEntry> replayedActions) {
+        
+        this.replayedScripts = replayedScripts;
+        this.replayedActions = replayedActions;
+    }
+    
+    /**
+     * Compares the given scripts with the last run of the loader.
+     *
+     * @return The plan to reload incrementally, or null if everything has to be reloaded.
+     */
+    @Nullable
+    static IncrementalReload plan(LoaderActions loaderActions, List<ScriptFile> scripts, DataFingerprint data) {
+        
+        final List<ScriptFile> previous = loaderActions.getJournaledScripts();
+        if(previous == null) {
+            CraftTweakerAPI.LOGGER.debug("The last run could not be journaled, reloading all scripts.");
+            return null;
+        }
+        if(!data.equals(loaderActions.getJournaledData())) {
+            CraftTweakerAPI.LOGGER.info("Recipes or tags changed since the last run, reloading all scripts.");
+            return null;
+        }
+        
+        int unchanged = 0;
+        while(unchanged < previous.size() && unchanged < scripts.size() && previous.get(unchanged)
+                .isSameAs(scripts.get(unchanged))) {
+            unchanged++;
+        }
+        if(unchanged == 0) {
+            return null;
+        }
+        
+        final List<ScriptFile> replayed = scripts.subList(0, unchanged);
+        final List<ScriptFile> changed = new ArrayList<>(scripts.subList(unchanged, scripts.size()));
+        // Scripts that were removed or moved still have to be checked, the replayed scripts were compiled with them
+        changed.addAll(previous.subList(unchanged, previous.size()));
+        
+        if(!changed.isEmpty()) {
+            if(replayed.stream().anyMatch(ScriptFile::declaresExpansions) || changed.stream()
+                    .anyMatch(ScriptFile::declaresExpansions)) {
+                CraftTweakerAPI.LOGGER.info("Scripts declare expansions, reloading all scripts.");
+                return null;
+            }
+            if(uses(replayed, declaredNames(changed)) || uses(changed, declaredNames(replayed))) {
+                CraftTweakerAPI.LOGGER.info("Changed scripts share declarations with unchanged scripts, reloading all scripts.");
+                return null;
+            }
+        }
+        
+        final Set<String> replayedNames = new HashSet<>();
+        replayed.forEach(script -> replayedNames.add(script.fileName()));
+        final List<LoaderActions.JournalEntry> replayedActions = new ArrayList<>();
+        for(LoaderActions.JournalEntry entry : loaderActions.getJournal()) {
+            if(replayedNames.contains(entry.fileName())) {
+                replayedActions.add(entry);
+            }
+        }
+        return new IncrementalReload(unchanged, List.copyOf(replayedActions));
+    }
+    
+    /**
+     * Gets the number of leading scripts whose actions are replayed instead of running them.
+     */
+    int getReplayedScripts() {
+        
+        return replayedScripts;
+    }
+    
+    /**
+     * Gets the actions of the replayed scripts, in the order they were applied.
+     */
+    List<LoaderActions.JournalEntry> getReplayedActions() {
+        
+        return replayedActions;
+    }
+    
+    private static Set<String> declaredNames(Collection<ScriptFile> scripts) {
+        
+        final Set<String> names = new HashSet<>();
+        scripts.forEach(script -> names.addAll(script.declaredNames()));
+        return names;
+    }
+    
+    private static boolean uses(Collection<ScriptFile> scripts, Set<String> names) {
+        
+        if(names.isEmpty()) {
+            return false;
+        }
+        for(ScriptFile script : scripts) {
+            for(String identifier : script.identifiers()) {
+                if(names.contains(identifier)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * What a reload needs to know about a preprocessed script.
+     *
+     * Declarations are found by keyword, so declarations that are local to a function are counted as well.
+     *
+     * @param hash The hash of the preprocessed content.
+     */
+    record ScriptFile(String fileName, String hash, Set<String> identifiers, Set<String> declaredNames,
+                      boolean declaresExpansions) {
+                      
+        static List<ScriptFile> of(SourceFile[] sourceFiles) throws IOException {
+            
+            final List<ScriptFile> scripts = new ArrayList<>(sourceFiles.length);
+            for(SourceFile sourceFile : sourceFiles) {
+                scripts.add(of(sourceFile));
+            }
+            return scripts;
+        }
+        
+        static ScriptFile of(SourceFile sourceFile) throws IOException {
+            
+            final String content;
+            try(final Reader reader = sourceFile.open()) {
+                content = CharStreams.toString(reader);
+            }
+            
+            final Set<String> identifiers = new HashSet<>();
+            final Matcher identifierMatcher = IDENTIFIER.matcher(content);
+            while(identifierMatcher.find()) {
+                identifiers.add(identifierMatcher.group());
+            }
+            final Set<String> declaredNames = new HashSet<>();
+            final Matcher declarationMatcher = DECLARATION.matcher(content);
+            while(declarationMatcher.find()) {
+                declaredNames.add(declarationMatcher.group(1));
+            }
+            // A script's own declarations do not make it depend on another script
+            identifiers.removeAll(declaredNames);
+            
+            final String hash = Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+            return new ScriptFile(sourceFile.getFilename(), hash, Set.copyOf(identifiers), Set.copyOf(declaredNames), EXPANSION.matcher(content)
+                    .find());
+        }
+        
+        boolean isSameAs(ScriptFile other) {
+            
+            return fileName.equals(other.fileName()) && hash.equals(other.hash());
+        }
+        
+    }
+    
+    /**
+     * A summary of the recipes and tags that were loaded before the scripts ran.
+     *
+     * Only ids are hashed for recipes, so a recipe that was changed by a data pack without changing its id is not
+     * noticed. Scripts are left out, they are compared on their own.
+     */
+    record DataFingerprint(int recipes, long recipeIds, int tags, long tagContents) {
+        
+        static DataFingerprint current() {
+            
+            int recipes = 0;
+            long recipeIds = 0;
+            if(CraftTweakerAPI.hasRecipeManager()) {
+                for(Map.Entry<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> entry : CraftTweakerAPI.getAccessibleRecipeManager()
+                        .getRecipes()
+                        .entrySet()) {
+                    if(entry.getKey() == CraftTweakerRegistries.RECIPE_TYPE_SCRIPTS) {
+                        continue;
+                    }
+                    recipes += entry.getValue().size();
+                    for(ResourceLocation id : entry.getValue().keySet()) {
+                        // Summed up so the order of the maps does not matter
+                        recipeIds += hash(id);
+                    }
+                }
+            }
+            
+            int tags = 0;
+            long tagContents = 0;
+            for(ITagManager<?> manager : CrTTagRegistryData.INSTANCE.getAll()) {
+                for(Map.Entry<ResourceLocation, ? extends Tag<?>> entry : manager.getTagCollection()
+                        .getAllTags()
+                        .entrySet()) {
+                    long elements = 0;
+                    for(Object element : entry.getValue().getValues()) {
+                        elements += mix(System.identityHashCode(element));
+                    }
+                    tags++;
+                    tagContents += mix(hash(entry.getKey()) ^ elements);
+                }
+            }
+            return new DataFingerprint(recipes, recipeIds, tags, tagContents);
+        }
+        
+        private static long hash(ResourceLocation id) {
+            
+            return Hashing.murmur3_128().hashString(id.toString(), StandardCharsets.UTF_8).asLong();
+        }
+        
+        private static long mix(long value) {
+            
+            final long mixed = value * 0x9E3779B97F4A7C15L;
+            return mixed ^ (mixed >>> 32);
+        }
+        
+    }
+    
+}
@@ -6,11 +6,13 @@ import com.blamejared.crafttweaker.api.action.base.IAction;
 import com.blamejared.crafttweaker.api.action.base.IUndoableAction;
 import com.google.common.collect.ImmutableSet;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class LoaderActions {
     
@@ -23,6 +25,22 @@ public class LoaderActions {
     private final List<IAction> actionListInvalid = new ArrayList<>();
     private int runCount = 0;
     
+    /**
+     * Every action the scripts of the last run applied, together with the file it came from.
+     */
+    private final List<JournalEntry> journal = new ArrayList<>();
+    private boolean journalComplete = false;
+    /**
+     * The scripts of the last run, if all its actions could be journaled.
+     */
+    @Nullable
+    private List<IncrementalReload.ScriptFile> journaledScripts;
+    /**
+     * The recipes and tags the scripts of the last run ran against, if all its actions could be journaled.
+     */
+    @Nullable
+    private IncrementalReload.DataFingerprint journaledData;
+    
     private LoaderActions(String loaderName, ScriptLoadingOptions.ScriptLoadSource source) {
         
         this.loaderName = loaderName;
@@ -77,6 +95,68 @@ public class LoaderActions {
                 });
         actionList.clear();
         getActionListInvalid().clear();
+        journal.clear();
+        journaledScripts = null;
+        journaledData = null;
+    }
+    
+    void startJournal() {
+        
+        journal.clear();
+        journalComplete = true;
+        journaledScripts = null;
+        journaledData = null;
+    }
+    
+    /**
+     * @param fileName The script the action came from, null if it is not known.
+     */
+    void journal(IAction action, @Nullable String fileName) {
+        
+        if(!journalComplete) {
+            return;
+        }
+        if(fileName == null) {
+            // Without knowing where every action came from, no action can be replayed safely
+            journalComplete = false;
+            journal.clear();
+            return;
+        }
+        journal.add(new JournalEntry(action, fileName));
+    }
+    
+    void finishJournal(List<IncrementalReload.ScriptFile> scripts, IncrementalReload.DataFingerprint data) {
+        
+        final Set<String> fileNames = scripts.stream()
+                .map(IncrementalReload.ScriptFile::fileName)
+                .collect(Collectors.toSet());
+        // Actions that came from a file that is not one of the scripts could never be replayed
+        if(journalComplete && journal.stream().allMatch(entry -> fileNames.contains(entry.fileName()))) {
+            journaledScripts = List.copyOf(scripts);
+            journaledData = data;
+        } else {
+            journaledScripts = null;
+            journaledData = null;
+            journal.clear();
+        }
+        journalComplete = false;
+    }
+    
+    List<JournalEntry> getJournal() {
+        
+        return journal;
+    }
+    
+    @Nullable
+    List<IncrementalReload.ScriptFile> getJournaledScripts() {
+        
+        return journaledScripts;
+    }
+    
+    @Nullable
+    IncrementalReload.DataFingerprint getJournaledData() {
+        
+        return journaledData;
     }
     
     public boolean isFirstRun() {
@@ -94,4 +174,6 @@ public class LoaderActions {
         runCount++;
     }
     
+    record JournalEntry(IAction action, String fileName) {}
+    
 }
@@ -0,0 +1,197 @@
+package com.blamejared.crafttweaker.api.zencode.impl.loader;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
+import com.google.common.collect.BiMap;
+import org.openzen.zencode.shared.SourceFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the native classes and expansions that scripts can reach, so only those have to be added to the native
+ * modules, set by the {@code #lazynatives} preprocessor.
+ *
+ * A class is reachable if a script mentions its simple name (which covers imports and fully qualified names), if it
+ * holds globals or bracket resolvers, or if its members, super types or expansions use a reachable class. Anything a
+ * script can get its hands on through a reachable class is therefore reachable as well.
+ */
+final class ReferencedNativeTypes {
+    
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    
+    private final Set<Class<?>> classes = new HashSet<>();
+    private final Set<Class<?>> expansions = new HashSet<>();
+    private final Deque<Class<?>> toVisit = new ArrayDeque<>();
+    private final BiMap<Class<?>, String> namesByClass;
+    private final Map<String, List<Class<?>>> expansionsByName;
+    
+    private ReferencedNativeTypes() {
+        
+        this.namesByClass = CraftTweakerRegistry.getZenClassMap().inverse();
+        this.expansionsByName = CraftTweakerRegistry.getExpansions();
+    }
+    
+    /**
+     * Collects the classes reachable from the given scripts.
+     *
+     * @throws IOException If one of the scripts cannot be read.
+     */
+    static ReferencedNativeTypes of(SourceFile[] sourceFiles) throws IOException {
+        
+        final Set<String> identifiers = new HashSet<>();
+        for(SourceFile sourceFile : sourceFiles) {
+            collectIdentifiers(sourceFile, identifiers);
+        }
+        
+        final ReferencedNativeTypes result = new ReferencedNativeTypes();
+        result.namesByClass.forEach((cls, name) -> {
+            if(identifiers.contains(name.substring(name.lastIndexOf('.') + 1))) {
+                result.addClass(cls);
+            }
+        });
+        CraftTweakerRegistry.getZenGlobals().values().forEach(result::addClass);
+        CraftTweakerRegistry.getBracketResolverMethods().forEach(method -> result.addClass(method.getDeclaringClass()));
+        CraftTweakerRegistry.getBracketEnumClasses().forEach(result::addClass);
+        CraftTweakerRegistry.getRecipeManagers().forEach(result::addClass);
+        // Expansions of types that are not classes (e.g. string or int[]) can be used without naming anything
+        result.expansionsByName.forEach((name, expansions) -> {
+            if(!result.namesByClass.containsValue(name)) {
+                expansions.forEach(result::addExpansion);
+            }
+        });
+        result.visitAll();
+        
+        CraftTweakerAPI.LOGGER.debug("Scripts reference {} of {} native classes and {} expansions", result.classes.size(), result.namesByClass.size(), result.expansions.size());
+        return result;
+    }
+    
+    boolean containsClass(Class<?> cls) {
+        
+        return classes.contains(cls);
+    }
+    
+    boolean containsExpansion(Class<?> cls) {
+        
+        return expansions.contains(cls);
+    }
+    
+    private static void collectIdentifiers(SourceFile sourceFile, Set<String> identifiers) throws IOException {
+        
+        try(final Reader reader = sourceFile.open(); final BufferedReader bufferedReader = new BufferedReader(reader)) {
+            String line;
+            while((line = bufferedReader.readLine()) != null) {
+                final Matcher matcher = IDENTIFIER.matcher(line);
+                while(matcher.find()) {
+                    identifiers.add(matcher.group());
+                }
+            }
+        }
+    }
+    
+    private void addClass(Class<?> cls) {
+        
+        if(namesByClass.containsKey(cls) && classes.add(cls)) {
+            toVisit.add(cls);
+        }
+    }
+    
+    private void addExpansion(Class<?> cls) {
+        
+        if(expansions.add(cls)) {
+            toVisit.add(cls);
+        }
+    }
+    
+    private void visitAll() {
+        
+        while(!toVisit.isEmpty()) {
+            final Class<?> cls = toVisit.poll();
+            final String name = namesByClass.get(cls);
+            if(name != null) {
+                expansionsByName.getOrDefault(name, Collections.emptyList()).forEach(this::addExpansion);
+            }
+            try {
+                visitMembers(cls);
+            } catch(Throwable t) {
+                // Classes that cannot be reflected are blacklisted when they are registered, nothing to find here
+                CraftTweakerAPI.LOGGER.debug("Could not look through the members of '{}'", cls.getName(), t);
+            }
+        }
+    }
+    
+    private void visitMembers(Class<?> cls) {
+        
+        final Set<Type> seen = new HashSet<>();
+        visitType(cls.getGenericSuperclass(), seen);
+        for(Type type : cls.getGenericInterfaces()) {
+            visitType(type, seen);
+        }
+        for(Field field : cls.getFields()) {
+            visitType(field.getGenericType(), seen);
+        }
+        for(Method method : cls.getMethods()) {
+            visitType(method.getGenericReturnType(), seen);
+            for(Type type : method.getGenericParameterTypes()) {
+                visitType(type, seen);
+            }
+        }
+        for(Constructor<?> constructor : cls.getConstructors()) {
+            for(Type type : constructor.getGenericParameterTypes()) {
+                visitType(type, seen);
+            }
+        }
+    }
+    
+    private void visitType(Type type, Set<Type> seen) {
+        
+        if(type == null || !seen.add(type)) {
+            return;
+        }
+        
+        if(type instanceof Class<?> cls) {
+            if(cls.isArray()) {
+                visitType(cls.getComponentType(), seen);
+            } else {
+                addClass(cls);
+            }
+        } else if(type instanceof ParameterizedType parameterized) {
+            visitType(parameterized.getRawType(), seen);
+            for(Type argument : parameterized.getActualTypeArguments()) {
+                visitType(argument, seen);
+            }
+        } else if(type instanceof GenericArrayType array) {
+            visitType(array.getGenericComponentType(), seen);
+        } else if(type instanceof WildcardType wildcard) {
+            for(Type bound : wildcard.getUpperBounds()) {
+                visitType(bound, seen);
+            }
+            for(Type bound : wildcard.getLowerBounds()) {
+                visitType(bound, seen);
+            }
+        } else if(type instanceof TypeVariable<?> variable) {
+            for(Type bound : variable.getBounds()) {
+                visitType(bound, seen);
+            }
+        }
+    }
+    
+}
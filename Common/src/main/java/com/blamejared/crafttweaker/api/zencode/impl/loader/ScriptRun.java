@@ -5,6 +5,9 @@ import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.CraftTweakerConstants;
 import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
 import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.action.base.IAction;
+import com.blamejared.crafttweaker.api.action.recipe.removal.RecipeRemovalPlanner;
+import com.blamejared.crafttweaker.api.action.tag.StagedTagChanges;
 import com.blamejared.crafttweaker.api.bracket.custom.EnumConstantBracketHandler;
 import com.blamejared.crafttweaker.api.bracket.custom.RecipeTypeBracketHandler;
 import com.blamejared.crafttweaker.api.bracket.custom.TagBracketHandler;
@@ -16,8 +19,10 @@ import com.blamejared.crafttweaker.api.tag.registry.CrTTagRegistryData;
 import com.blamejared.crafttweaker.api.zencode.bracket.IgnorePrefixCasingBracketParser;
 import com.blamejared.crafttweaker.api.zencode.bracket.ValidatedEscapableBracketParser;
 import com.blamejared.crafttweaker.api.zencode.impl.native_type.CrTJavaNativeConverterBuilder;
+import com.blamejared.crafttweaker.api.zencode.impl.util.PositionUtil;
 import com.blamejared.crafttweaker.platform.Services;
 import org.openzen.zencode.java.ScriptingEngine;
+import org.openzen.zencode.java.logger.ScriptingEngineLogger;
 import org.openzen.zencode.java.module.JavaNativeModule;
 import org.openzen.zencode.java.module.converters.JavaNativeConverterBuilder;
 import org.openzen.zencode.shared.CompileException;
@@ -30,21 +35,59 @@ import org.openzen.zenscript.formatter.FileFormatter;
 import org.openzen.zenscript.formatter.ScriptFormattingSettings;
 import org.openzen.zenscript.lexer.ParseException;
 
+import javax.annotation.Nullable;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ScriptRun {
     
+    /**
+     * The resources scripting engines load, which is the standard library archive. It is read from the jar once and
+     * kept in memory, so the engines of later runs do not have to find and inflate it again.
+     */
+    private static final Map<String, Optional<byte[]>> ENGINE_RESOURCES = new ConcurrentHashMap<>();
+    
     private final ScriptLoadingOptions scriptLoadingOptions;
     private final SourceFile[] sourceFiles;
-    private final ScriptingEngine scriptingEngine;
+    private ScriptingEngine scriptingEngine;
     private IgnorePrefixCasingBracketParser bep;
+    /**
+     * Collects recipe removals while scripts are executed, null otherwise.
+     */
+    @Nullable
+    private RecipeRemovalPlanner removalPlanner;
+    /**
+     * The scripts of this run, if its actions are journaled for the next reload.
+     */
+    @Nullable
+    private List<IncrementalReload.ScriptFile> journaledScripts;
+    @Nullable
+    private IncrementalReload.DataFingerprint journaledData;
+    @Nullable
+    private IncrementalReload incrementalReload;
+    /**
+     * Whether actions are journaled right now, which is only the case while scripts are executed.
+     */
+    private boolean journaling;
+    /**
+     * The script whose actions are being replayed, null while scripts are executed.
+     */
+    @Nullable
+    private String replayedFile;
     
     public ScriptRun(ScriptLoadingOptions scriptLoadingOptions, SourceFile[] sourceFiles) {
         
@@ -52,8 +95,31 @@ public class ScriptRun {
         this.sourceFiles = sourceFiles;
         
         //Init Engine
-        this.scriptingEngine = new ScriptingEngine(ForwardingSELogger.INSTANCE, CraftTweakerCommon.class::getResourceAsStream);
-        this.scriptingEngine.debug = CraftTweakerAPI.DEBUG_MODE;
+        this.scriptingEngine = createScriptingEngine(ForwardingSELogger.INSTANCE);
+    }
+    
+    private static ScriptingEngine createScriptingEngine(ScriptingEngineLogger logger) {
+        
+        final ScriptingEngine engine = new ScriptingEngine(logger, ScriptRun::getEngineResource);
+        engine.debug = CraftTweakerAPI.DEBUG_MODE;
+        return engine;
+    }
+    
+    @Nullable
+    private static InputStream getEngineResource(String name) {
+        
+        return ENGINE_RESOURCES.computeIfAbsent(name, ScriptRun::readEngineResource)
+                .<InputStream> map(ByteArrayInputStream::new)
+                .orElse(null);
+    }
+    
+    private static Optional<byte[]> readEngineResource(String name) {
+        
+        try(final InputStream stream = CraftTweakerCommon.class.getResourceAsStream(name)) {
+            return stream == null ? Optional.empty() : Optional.of(stream.readAllBytes());
+        } catch(IOException e) {
+            throw new UncheckedIOException("Could not read '" + name + "'", e);
+        }
     }
     
     public LoaderActions getLoaderActions() {
@@ -76,9 +142,18 @@ public class ScriptRun {
         return scriptingEngine;
     }
     
+    @Nullable
+    public RecipeRemovalPlanner getRemovalPlanner() {
+        
+        return removalPlanner;
+    }
+    
     public void reload() {
         
         if(scriptLoadingOptions.isExecute()) {
+            if(CraftTweakerAPI.INCREMENTAL_RELOAD && !scriptLoadingOptions.isFormat()) {
+                planIncrementalReload();
+            }
             getLoaderActions().reload();
         }
         
@@ -100,12 +175,88 @@ public class ScriptRun {
             CraftTweakerAPI.LOGGER.debug("This is a first run. All IActions will be applied.");
         }
         
+        // Attempts that may be retried log through their own logger, so their errors are only logged if every attempt fails
+        final List<CollectingSELogger> failedAttempts = new ArrayList<>();
+        final IncrementalReload incrementalReload = this.incrementalReload;
+        this.incrementalReload = null;
+        if(incrementalReload != null) {
+            final CollectingSELogger logger = new CollectingSELogger(ForwardingSELogger.INSTANCE);
+            this.scriptingEngine = createScriptingEngine(logger);
+            if(runIncrementally(incrementalReload, logger)) {
+                return;
+            }
+            
+            failedAttempts.add(logger);
+            CraftTweakerAPI.LOGGER.warn("Changed scripts could not be compiled on their own, compiling all scripts again.");
+        }
+        
+        if(CraftTweakerAPI.LAZY_NATIVE_TYPES) {
+            final CollectingSELogger logger = new CollectingSELogger(ForwardingSELogger.INSTANCE);
+            this.scriptingEngine = createScriptingEngine(logger);
+            initializeBep();
+            registerModules(ReferencedNativeTypes.of(sourceFiles));
+            if(readAndExecuteScripts(sourceFiles, Collections.emptyList(), logger)) {
+                return;
+            }
+            
+            //Types that are only reachable through custom bracket handlers cannot be found beforehand
+            failedAttempts.add(logger);
+            CraftTweakerAPI.LOGGER.warn("Scripts are invalid with only the native types they reference, compiling them again with all native types.");
+        }
+        
+        if(!failedAttempts.isEmpty()) {
+            this.scriptingEngine = createScriptingEngine(ForwardingSELogger.INSTANCE);
+        }
         initializeBep();
-        registerModules();
-        readAndExecuteScripts();
+        registerModules(null);
+        if(!readAndExecuteScripts(sourceFiles, Collections.emptyList(), null)) {
+            failedAttempts.forEach(CollectingSELogger::forwardErrors);
+        }
         
     }
     
+    /**
+     * Records the given action for the next incremental reload, if this run journals its actions.
+     */
+    public void journal(IAction action) {
+        
+        if(journaling) {
+            getLoaderActions().journal(action, replayedFile != null ? replayedFile : PositionUtil.getZCScriptFileNameFromStack());
+        }
+    }
+    
+    private void planIncrementalReload() {
+        
+        try {
+            journaledScripts = IncrementalReload.ScriptFile.of(sourceFiles);
+        } catch(IOException e) {
+            CraftTweakerAPI.LOGGER.error("Could not read scripts, they will be reloaded fully next time", e);
+            return;
+        }
+        journaledData = IncrementalReload.DataFingerprint.current();
+        if(!isFirstRun()) {
+            incrementalReload = IncrementalReload.plan(getLoaderActions(), journaledScripts, journaledData);
+        }
+    }
+    
+    /**
+     * Replays the actions of the scripts that did not change and only compiles and runs the others.
+     *
+     * @return false if the scripts that have to run are invalid on their own, true otherwise.
+     */
+    private boolean runIncrementally(IncrementalReload incrementalReload, CollectingSELogger logger) throws Exception {
+        
+        final SourceFile[] changedFiles = Arrays.copyOfRange(sourceFiles, incrementalReload.getReplayedScripts(), sourceFiles.length);
+        CraftTweakerAPI.LOGGER.info("Replaying {} actions of {} unchanged scripts, running {} scripts.", incrementalReload.getReplayedActions()
+                .size(), incrementalReload.getReplayedScripts(), changedFiles.length);
+                
+        initializeBep();
+        if(changedFiles.length > 0) {
+            registerModules(CraftTweakerAPI.LAZY_NATIVE_TYPES ? ReferencedNativeTypes.of(changedFiles) : null);
+        }
+        return readAndExecuteScripts(changedFiles, incrementalReload.getReplayedActions(), logger);
+    }
+    
     private void initializeBep() {
         
         this.bep = new IgnorePrefixCasingBracketParser();
@@ -121,18 +272,42 @@ public class ScriptRun {
         bep.register("tag", new TagBracketHandler(tagManagerBEP));
     }
     
-    private void readAndExecuteScripts() throws ParseException {
-        
-        SemanticModule scripts = scriptingEngine.createScriptedModule("scripts", sourceFiles, bep, FunctionParameter.NONE);
+    /**
+     * @param files           The scripts to compile and run.
+     * @param replayedActions The actions of unchanged scripts to apply before the scripts are run.
+     * @param attemptLogger   The logger of the scripting engine if this is an attempt that is retried when the scripts
+     *                        are invalid, null otherwise.
+     *
+     * @return false if the scripts are invalid, true otherwise.
+     */
+    private boolean readAndExecuteScripts(SourceFile[] files, List<LoaderActions.JournalEntry> replayedActions, @Nullable CollectingSELogger attemptLogger) throws ParseException {
+        
+        SemanticModule scripts = null;
+        if(files.length > 0) {
+            try {
+                scripts = scriptingEngine.createScriptedModule("scripts", files, bep, FunctionParameter.NONE);
+            } catch(ParseException e) {
+                // Scripts that cannot be parsed are not retried
+                if(attemptLogger != null) {
+                    attemptLogger.forward();
+                }
+                throw e;
+            }
+        }
         
-        if(!scripts.isValid()) {
-            CraftTweakerAPI.LOGGER.error("Scripts are invalid!");
-            CraftTweakerCommon.LOG.info("Scripts are invalid!");
-            return;
+        if(scripts != null && !scripts.isValid()) {
+            if(attemptLogger == null) {
+                CraftTweakerAPI.LOGGER.error("Scripts are invalid!");
+                CraftTweakerCommon.LOG.info("Scripts are invalid!");
+            }
+            return false;
+        }
+        if(attemptLogger != null) {
+            attemptLogger.forward();
         }
         
         //  toggle this to format scripts. Set by /ct format
-        if(scriptLoadingOptions.isFormat()) {
+        if(scripts != null && scriptLoadingOptions.isFormat()) {
             writeFormattedFiles(scripts);
         }
         
@@ -142,22 +317,57 @@ public class ScriptRun {
             CraftTweakerAPI.LOGGER.debug("This is loader '{}' run #{}", scriptLoadingOptions.getLoaderName(), loaderActions
                     .getRunCount() + 1);
             
-            scriptingEngine.registerCompiled(scripts);
-            scriptingEngine.run(Collections.emptyMap(), CraftTweakerCommon.class.getClassLoader());
+            if(scripts != null) {
+                scriptingEngine.registerCompiled(scripts);
+            }
+            removalPlanner = new RecipeRemovalPlanner();
+            removalPlanner.start();
+            StagedTagChanges.INSTANCE.start();
+            if(journaledScripts != null) {
+                loaderActions.startJournal();
+                journaling = true;
+            }
+            try {
+                for(LoaderActions.JournalEntry entry : replayedActions) {
+                    replayedFile = entry.fileName();
+                    CraftTweakerAPI.apply(entry.action());
+                }
+                replayedFile = null;
+                if(scripts != null) {
+                    scriptingEngine.run(Collections.emptyMap(), CraftTweakerCommon.class.getClassLoader());
+                }
+            } finally {
+                replayedFile = null;
+                journaling = false;
+                final RecipeRemovalPlanner planner = removalPlanner;
+                removalPlanner = null;
+                try {
+                    planner.finish();
+                } finally {
+                    StagedTagChanges.INSTANCE.finish();
+                }
+            }
+            if(journaledScripts != null) {
+                loaderActions.finishJournal(journaledScripts, journaledData);
+            }
             loaderActions.incrementRunCount();
             
         } else if(CraftTweakerAPI.DEBUG_MODE) {
             scriptingEngine.createRunUnit().dump(new File("classes"));
         }
+        return true;
     }
     
-    private void registerModules() throws CompileException {
+    /**
+     * @param referencedTypes The native types to add, or null to add all of them.
+     */
+    private void registerModules(@Nullable ReferencedNativeTypes referencedTypes) throws CompileException {
         
         final List<JavaNativeModule> modules = new LinkedList<>();
         final CrTJavaNativeConverterBuilder nativeConverterBuilder = new CrTJavaNativeConverterBuilder();
         
         //Register crafttweaker module first to assign deps
-        final JavaNativeModule crafttweakerModule = createModule(bep, CraftTweakerConstants.MOD_ID, CraftTweakerConstants.MOD_ID, nativeConverterBuilder);
+        final JavaNativeModule crafttweakerModule = createModule(bep, CraftTweakerConstants.MOD_ID, CraftTweakerConstants.MOD_ID, nativeConverterBuilder, referencedTypes);
         
         scriptingEngine.registerNativeProvided(crafttweakerModule);
         modules.add(crafttweakerModule);
@@ -165,16 +375,18 @@ public class ScriptRun {
         final HashSet<String> rootPackages = new HashSet<>(CraftTweakerRegistry.getRootPackages());
         rootPackages.remove(CraftTweakerConstants.MOD_ID);
         for(String rootPackage : rootPackages) {
-            final JavaNativeModule module = createModule(bep, rootPackage, rootPackage, nativeConverterBuilder, crafttweakerModule);
+            final JavaNativeModule module = createModule(bep, rootPackage, rootPackage, nativeConverterBuilder, referencedTypes, crafttweakerModule);
             scriptingEngine.registerNativeProvided(module);
             modules.add(module);
         }
         
         
-        final JavaNativeModule expModule = createModule(bep, "expansions", "", nativeConverterBuilder, modules.toArray(new JavaNativeModule[0]));
+        final JavaNativeModule expModule = createModule(bep, "expansions", "", nativeConverterBuilder, referencedTypes, modules.toArray(new JavaNativeModule[0]));
         for(List<Class<?>> expansionList : CraftTweakerRegistry.getExpansions().values()) {
             for(Class<?> expansionClass : expansionList) {
-                expModule.addClass(expansionClass);
+                if(referencedTypes == null || referencedTypes.containsExpansion(expansionClass)) {
+                    expModule.addClass(expansionClass);
+                }
             }
         }
         scriptingEngine.registerNativeProvided(expModule);
@@ -182,7 +394,7 @@ public class ScriptRun {
         nativeConverterBuilder.headerConverter.reinitializeAllLazyValues();
     }
     
-    private JavaNativeModule createModule(IgnorePrefixCasingBracketParser bep, String moduleName, String basePackage, JavaNativeConverterBuilder nativeConverterBuilder, JavaNativeModule... dependencies) {
+    private JavaNativeModule createModule(IgnorePrefixCasingBracketParser bep, String moduleName, String basePackage, JavaNativeConverterBuilder nativeConverterBuilder, @Nullable ReferencedNativeTypes referencedTypes, JavaNativeModule... dependencies) {
         
         JavaNativeModule module = scriptingEngine.createNativeModule(moduleName, basePackage, dependencies, nativeConverterBuilder);
         
@@ -195,7 +407,9 @@ public class ScriptRun {
             module.addGlobals(aClass);
         }
         for(Class<?> aClass : CraftTweakerRegistry.getClassesInPackage(moduleName)) {
-            module.addClass(aClass);
+            if(referencedTypes == null || referencedTypes.containsClass(aClass)) {
+                module.addClass(aClass);
+            }
         }
         
         return module;
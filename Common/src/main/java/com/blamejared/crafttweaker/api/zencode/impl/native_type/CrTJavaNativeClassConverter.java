@@ -1,8 +1,6 @@
 package com.blamejared.crafttweaker.api.zencode.impl.native_type;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
-import com.blamejared.crafttweaker.api.natives.NativeTypeRegistry;
-import com.blamejared.crafttweaker.api.zencode.impl.registry.ZenClassRegistry;
 import org.openzen.zencode.java.ZenCodeType;
 import org.openzen.zencode.java.module.JavaNativeTypeConversionContext;
 import org.openzen.zencode.java.module.converters.JavaNativeClassConverter;
@@ -17,20 +15,17 @@ import java.lang.reflect.Method;
 
 class CrTJavaNativeClassConverter extends JavaNativeClassConverter {
     
-    private final ZenClassRegistry zenClassRegistry;
-    
-    public CrTJavaNativeClassConverter(JavaNativePackageInfo packageInfo, JavaNativeTypeConversionContext typeConversionContext, JavaNativeTypeConverter typeConverter, JavaNativeHeaderConverter headerConverter, JavaNativeMemberConverter memberConverter, ZenClassRegistry zenClassRegistry) {
+    public CrTJavaNativeClassConverter(JavaNativePackageInfo packageInfo, JavaNativeTypeConversionContext typeConversionContext, JavaNativeTypeConverter typeConverter, JavaNativeHeaderConverter headerConverter, JavaNativeMemberConverter memberConverter) {
         
         super(typeConverter, memberConverter, packageInfo, typeConversionContext, headerConverter);
-        this.zenClassRegistry = zenClassRegistry;
     }
     
     @Override
     public String getNameForScripts(Class<?> cls) {
         
-        
-        if(getNativeTypeRegistry().hasInfoFor(cls)) {
-            return getNativeTypeRegistry().getCrTNameFor(cls);
+        final NativeTypeResolutionCache.ResolvedType resolvedType = NativeTypeResolutionCache.INSTANCE.get(cls);
+        if(resolvedType.isNativeType()) {
+            return resolvedType.nativeInfo().getCraftTweakerName();
         }
         
         if(cls.getCanonicalName().startsWith("net.minecraft")) {
@@ -40,15 +35,10 @@ class CrTJavaNativeClassConverter extends JavaNativeClassConverter {
         return super.getNameForScripts(cls);
     }
     
-    private NativeTypeRegistry getNativeTypeRegistry() {
-        
-        return zenClassRegistry.getNativeTypeRegistry();
-    }
-    
     @Override
     public boolean shouldLoadClass(Class<?> cls) {
         
-        if(zenClassRegistry.isBlacklisted(cls)) {
+        if(NativeTypeResolutionCache.INSTANCE.get(cls).blacklisted()) {
             CraftTweakerAPI.LOGGER.info("Not loading class because of blacklist: {}", cls.getCanonicalName());
             return false;
         }
@@ -58,7 +48,7 @@ class CrTJavaNativeClassConverter extends JavaNativeClassConverter {
     @Override
     protected ZenCodeType.Constructor getConstructorAnnotation(Constructor<?> constructor) {
         
-        return getNativeTypeRegistry().getMethodInfoFor(constructor)
+        return NativeTypeResolutionCache.INSTANCE.getNativeInfo(constructor)
                 .flatMap(it -> it.getAnnotation(ZenCodeType.Constructor.class))
                 .orElseGet(() -> super.getConstructorAnnotation(constructor));
     }
@@ -67,7 +57,7 @@ class CrTJavaNativeClassConverter extends JavaNativeClassConverter {
     @Override
     protected <T extends Annotation> T getAnnotation(Method method, Class<T> cls) {
         
-        return getNativeTypeRegistry().getMethodInfoFor(method)
+        return NativeTypeResolutionCache.INSTANCE.getNativeInfo(method)
                 .flatMap(it -> it.getAnnotation(cls))
                 .orElseGet(() -> super.getAnnotation(method, cls));
     }
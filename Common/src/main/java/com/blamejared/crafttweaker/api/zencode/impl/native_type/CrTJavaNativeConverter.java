@@ -1,7 +1,6 @@
 package com.blamejared.crafttweaker.api.zencode.impl.native_type;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
-import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import org.openzen.zencode.java.module.JavaNativeTypeConversionContext;
 import org.openzen.zencode.java.module.converters.JavaNativeClassConverter;
 import org.openzen.zencode.java.module.converters.JavaNativeConverter;
@@ -23,7 +22,7 @@ class CrTJavaNativeConverter extends JavaNativeConverter {
     public HighLevelDefinition addClass(Class<?> cls) {
         
         try {
-            if(cls.isAnnotationPresent(NativeTypeRegistration.class)) {
+            if(NativeTypeResolutionCache.INSTANCE.get(cls).registersNativeType()) {
                 return expansionConverter.convertExpansion(cls);
             }
             
@@ -29,8 +29,8 @@ class CrTJavaNativeExpansionConverter extends JavaNativeExpansionConverter {
     @Override
     protected String getExpandedName(Class<?> cls) {
         
-        if(cls.isAnnotationPresent(NativeTypeRegistration.class)) {
-            final NativeTypeRegistration annotation = cls.getAnnotation(NativeTypeRegistration.class);
+        final NativeTypeRegistration annotation = NativeTypeResolutionCache.INSTANCE.get(cls).nativeRegistration();
+        if(annotation != null) {
             return annotation.zenCodeName();
         }
         return super.getExpandedName(cls);
@@ -39,7 +39,7 @@ class CrTJavaNativeExpansionConverter extends JavaNativeExpansionConverter {
     @Override
     protected boolean doesClassNotHaveAnnotation(Class<?> cls) {
         
-        return !cls.isAnnotationPresent(NativeTypeRegistration.class) && super.doesClassNotHaveAnnotation(cls);
+        return !NativeTypeResolutionCache.INSTANCE.get(cls).registersNativeType() && super.doesClassNotHaveAnnotation(cls);
     }
     
 }
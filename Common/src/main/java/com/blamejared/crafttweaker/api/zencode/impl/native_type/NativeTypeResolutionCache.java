@@ -0,0 +1,86 @@
+package com.blamejared.crafttweaker.api.zencode.impl.native_type;
+
+import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
+import com.blamejared.crafttweaker.api.natives.CrTNativeExecutableRef;
+import com.blamejared.crafttweaker.api.natives.CrTNativeTypeInfo;
+import com.blamejared.crafttweaker.api.zencode.impl.registry.ZenClassRegistry;
+import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers what the native converters looked up about a class, so each class is only resolved once for the lifetime
+ * of the game instead of once for every module and every script run that references it.
+ *
+ * Only information that does not depend on the module the class is added to is cached. The registries it is based on
+ * are complete before the first script is loaded.
+ */
+final class NativeTypeResolutionCache {
+    
+    static final NativeTypeResolutionCache INSTANCE = new NativeTypeResolutionCache();
+    
+    private final ClassValue<ResolvedType> resolvedTypes = new ClassValue<>() {
+        @Override
+        protected ResolvedType computeValue(Class<?> type) {
+            
+            return ResolvedType.of(type, CraftTweakerRegistry.getZenClassRegistry());
+        }
+    };
+    
+    private NativeTypeResolutionCache() {}
+    
+    ResolvedType get(Class<?> cls) {
+        
+        return resolvedTypes.get(cls);
+    }
+    
+    Optional<CrTNativeExecutableRef> getNativeInfo(Method method) {
+        
+        return get(method.getDeclaringClass()).getNativeInfo(method);
+    }
+    
+    Optional<CrTNativeExecutableRef> getNativeInfo(Constructor<?> constructor) {
+        
+        return get(constructor.getDeclaringClass()).getNativeInfo(constructor);
+    }
+    
+    /**
+     * @param nativeInfo         The native type info if the class is registered as a native type.
+     * @param nativeRegistration The annotation if the class registers a native type.
+     */
+    record ResolvedType(@Nullable CrTNativeTypeInfo nativeInfo, @Nullable NativeTypeRegistration nativeRegistration,
+                        boolean blacklisted, Map<Executable, Optional<CrTNativeExecutableRef>> executables) {
+                        
+        static ResolvedType of(Class<?> cls, ZenClassRegistry registry) {
+            
+            return new ResolvedType(registry.getNativeTypeRegistry()
+                    .getTypeInfoFor(cls), cls.getAnnotation(NativeTypeRegistration.class), registry.isBlacklisted(cls), new ConcurrentHashMap<>());
+        }
+        
+        boolean isNativeType() {
+            
+            return nativeInfo != null;
+        }
+        
+        boolean registersNativeType() {
+            
+            return nativeRegistration != null;
+        }
+        
+        private Optional<CrTNativeExecutableRef> getNativeInfo(Executable executable) {
+            
+            if(nativeInfo == null) {
+                return Optional.empty();
+            }
+            return executables.computeIfAbsent(executable, it -> it instanceof Method method ? nativeInfo.getMethod(method) : nativeInfo.getMethod((Constructor<?>) it));
+        }
+        
+    }
+    
+}
@@ -0,0 +1,37 @@
+package com.blamejared.crafttweaker.api.zencode.impl.preprocessor;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.annotation.Preprocessor;
+import com.blamejared.crafttweaker.api.zencode.IPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.PreprocessorMatch;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+@Preprocessor
+public class IncrementalPreprocessor implements IPreprocessor {
+    
+    @Override
+    public String getName() {
+        
+        return "incremental";
+    }
+    
+    @Nullable
+    @Override
+    public String getDefaultValue() {
+        
+        return null;
+    }
+    
+    @Override
+    public boolean apply(@Nonnull FileAccessSingle file, ScriptLoadingOptions scriptLoadingOptions, @Nonnull List<PreprocessorMatch> preprocessorMatches) {
+        
+        CraftTweakerAPI.INCREMENTAL_RELOAD = true;
+        return true;
+    }
+    
+}
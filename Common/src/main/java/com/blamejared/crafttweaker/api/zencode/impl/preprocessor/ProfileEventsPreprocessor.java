@@ -0,0 +1,61 @@
+package com.blamejared.crafttweaker.api.zencode.impl.preprocessor;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.api.annotation.Preprocessor;
+import com.blamejared.crafttweaker.api.util.StringUtils;
+import com.blamejared.crafttweaker.api.zencode.IPreprocessor;
+import com.blamejared.crafttweaker.api.zencode.PreprocessorMatch;
+import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Enables profiling of event handlers, used as {@code #profileevents [budget in microseconds per tick] [disable]}.
+ *
+ * Both arguments are optional and may be given on their own. Handlers are only disabled once a budget is set, which may
+ * also be done by the {@code #profileevents} of another file.
+ */
+@Preprocessor
+public class ProfileEventsPreprocessor implements IPreprocessor {
+    
+    @Override
+    public String getName() {
+        
+        return "profileevents";
+    }
+    
+    @Nullable
+    @Override
+    public String getDefaultValue() {
+        
+        return null;
+    }
+    
+    @Override
+    public boolean apply(@Nonnull FileAccessSingle file, ScriptLoadingOptions scriptLoadingOptions, @Nonnull List<PreprocessorMatch> preprocessorMatches) {
+        
+        CraftTweakerAPI.PROFILE_EVENT_HANDLERS = true;
+        for(PreprocessorMatch match : preprocessorMatches) {
+            for(String argument : match.getContent().trim().split("\\s+")) {
+                if(argument.isEmpty()) {
+                    continue;
+                }
+                if(argument.equals("disable")) {
+                    CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS = true;
+                    continue;
+                }
+                
+                try {
+                    CraftTweakerAPI.EVENT_HANDLER_BUDGET = Long.parseLong(argument) * 1000;
+                } catch(NumberFormatException ex) {
+                    CraftTweakerAPI.LOGGER.warn("Incorrect event handler budget in file {}: {}", file.getFileName(), StringUtils.wrap(argument, "`", false));
+                }
+            }
+        }
+        return true;
+    }
+    
+}
@@ -9,10 +9,16 @@ import com.blamejared.crafttweaker.api.zencode.impl.FileAccessSingle;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * {@code #replace toReplace replaceWith}
+ *
+ * All replacements of a file are compiled once and applied in a single pass over its lines. Each line still gets the
+ * replacements in the order they are declared, so a replacement can work on the result of the ones before it.
  */
 @Preprocessor
 public class ReplacePreprocessor implements IPreprocessor {
@@ -33,16 +39,63 @@ public class ReplacePreprocessor implements IPreprocessor {
     @Override
     public boolean apply(@Nonnull FileAccessSingle file, ScriptLoadingOptions scriptLoadingOptions, @Nonnull List<PreprocessorMatch> preprocessorMatches) {
         
+        final List<Replacement> replacements = new ArrayList<>(preprocessorMatches.size());
         for(PreprocessorMatch preprocessorMatch : preprocessorMatches) {
             final String[] split = preprocessorMatch.getContent().split(" ", 2);
             if(split.length != 2) {
                 CraftTweakerAPI.LOGGER.warn("[{}:{}] Invalid Preprocessor line: #replace {}", file.getFileName(), preprocessorMatch.getLine(), preprocessorMatch.getContent());
                 continue;
             }
-            file.getFileContents().replaceAll(s -> s.replaceAll(split[0], split[1]));
+            replacements.add(Replacement.of(split[0], split[1]));
         }
         
+        if(!replacements.isEmpty()) {
+            file.getFileContents().replaceAll(line -> {
+                for(Replacement replacement : replacements) {
+                    line = replacement.apply(line);
+                }
+                return line;
+            });
+        }
         return true;
     }
     
+    /**
+     * A single {@code #replace}, which behaves like {@link String#replaceAll(String, String)}.
+     *
+     * @param matcher The matcher for the regex, or null if the regex and the replacement are plain text.
+     */
+    private record Replacement(String regex, String replacement, @Nullable Matcher matcher) {
+        
+        private static final String REGEX_CHARACTERS = "\\^$.|?*+()[]{}";
+        private static final String REPLACEMENT_CHARACTERS = "\\$";
+        
+        static Replacement of(String regex, String replacement) {
+            
+            if(isPlain(regex, REGEX_CHARACTERS) && isPlain(replacement, REPLACEMENT_CHARACTERS)) {
+                return new Replacement(regex, replacement, null);
+            }
+            return new Replacement(regex, replacement, Pattern.compile(regex).matcher(""));
+        }
+        
+        private static boolean isPlain(String text, String specialCharacters) {
+            
+            for(int i = 0; i < text.length(); i++) {
+                if(specialCharacters.indexOf(text.charAt(i)) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        String apply(String line) {
+            
+            if(matcher == null) {
+                return line.replace(regex, replacement);
+            }
+            return matcher.reset(line).replaceAll(replacement);
+        }
+        
+    }
+    
 }
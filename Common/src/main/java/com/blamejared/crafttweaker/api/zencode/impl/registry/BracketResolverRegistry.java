@@ -78,6 +78,11 @@ public class BracketResolverRegistry {
         return bracketValidators.getOrDefault(bepName, null);
     }
     
+    public Collection<Method> getBracketResolverMethods() {
+        
+        return Collections.unmodifiableCollection(bracketResolvers.values());
+    }
+    
     public void addAdvancedBEPName(String name) {
         
         advancedBepNames.add(name);
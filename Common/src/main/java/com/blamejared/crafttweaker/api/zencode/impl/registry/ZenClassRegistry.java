@@ -14,6 +14,7 @@ import com.google.common.collect.HashBiMap;
 import org.openzen.zencode.java.ZenCodeGlobals;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -57,6 +58,14 @@ public class ZenClassRegistry {
      */
     private final Map<String, List<Class<?>>> expansionsByExpandedName = new HashMap<>();
     
+    /**
+     * Packages of {@link #zenClasses} and {@link #zenGlobals}, built on first use and dropped when either changes
+     */
+    @Nullable
+    private ZenPackageTrie classPackages;
+    @Nullable
+    private ZenPackageTrie globalPackages;
+    
     
     public List<Class<? extends IRecipeManager>> getRecipeManagers() {
         
@@ -212,6 +221,7 @@ public class ZenClassRegistry {
         }
         
         zenClasses.put(name, cls);
+        classPackages = null;
         CraftTweakerAPI.LOGGER.debug("Registering '{}'", name);
     }
     
@@ -219,6 +229,7 @@ public class ZenClassRegistry {
         
         final ZenCodeType.Name annotation = cls.getAnnotation(ZenCodeType.Name.class);
         zenGlobals.put(annotation.value(), cls);
+        globalPackages = null;
     }
     
     private void addExpansion(Class<?> cls, String expandedClassName) {
@@ -239,28 +250,33 @@ public class ZenClassRegistry {
     
     public List<Class<?>> getClassesInPackage(String name) {
         
-        return zenClasses.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().startsWith(name))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        return getClassPackages().getClassesIn(name);
     }
     
     public List<Class<?>> getGlobalsInPackage(String name) {
         
-        return zenGlobals.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().startsWith(name))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        return getGlobalPackages().getClassesIn(name);
     }
     
     public Set<String> getRootPackages() {
         
-        return zenClasses.keySet()
-                .stream()
-                .map(key -> key.split("\\.", 2)[0])
-                .collect(Collectors.toSet());
+        return getClassPackages().getRootPackages();
+    }
+    
+    private ZenPackageTrie getClassPackages() {
+        
+        if(classPackages == null) {
+            classPackages = ZenPackageTrie.of(zenClasses);
+        }
+        return classPackages;
+    }
+    
+    private ZenPackageTrie getGlobalPackages() {
+        
+        if(globalPackages == null) {
+            globalPackages = ZenPackageTrie.of(zenGlobals);
+        }
+        return globalPackages;
     }
     
     public void addNativeType(Class<?> cls) {
@@ -281,6 +297,7 @@ public class ZenClassRegistry {
             final String vanillaClass = nativeTypeInfo.getVanillaClass().getCanonicalName();
             
             zenClasses.put(craftTweakerName, nativeTypeInfo.getVanillaClass());
+            classPackages = null;
             CraftTweakerAPI.LOGGER.debug("Registering {} for native type '{}'", craftTweakerName, vanillaClass);
         }
     }
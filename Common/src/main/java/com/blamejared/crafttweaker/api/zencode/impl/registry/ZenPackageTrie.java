@@ -0,0 +1,87 @@
+package com.blamejared.crafttweaker.api.zencode.impl.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups classes by the ZenCode packages of their names, so the classes of a package can be looked up instead of
+ * searching all names.
+ *
+ * A class named {@code crafttweaker.api.item.IItemStack} is in the packages {@code crafttweaker},
+ * {@code crafttweaker.api} and {@code crafttweaker.api.item}.
+ */
+final class ZenPackageTrie {
+    
+    private final Node root = new Node();
+    
+    private ZenPackageTrie() {}
+    
+    static ZenPackageTrie of(Map<String, Class<?>> classesByName) {
+        
+        final ZenPackageTrie trie = new ZenPackageTrie();
+        classesByName.forEach(trie::add);
+        trie.root.collect();
+        return trie;
+    }
+    
+    /**
+     * Gets all classes in the given package and its sub packages.
+     */
+    List<Class<?>> getClassesIn(String packageName) {
+        
+        if(packageName.isEmpty()) {
+            return root.allClasses;
+        }
+        
+        Node node = root;
+        for(String part : packageName.split("\\.")) {
+            node = node.children.get(part);
+            if(node == null) {
+                return Collections.emptyList();
+            }
+        }
+        return node.allClasses;
+    }
+    
+    Set<String> getRootPackages() {
+        
+        return Collections.unmodifiableSet(root.children.keySet());
+    }
+    
+    private void add(String name, Class<?> cls) {
+        
+        final String[] parts = name.split("\\.");
+        Node node = root;
+        // The last part is the name of the class itself
+        for(int i = 0; i < parts.length - 1; i++) {
+            node = node.children.computeIfAbsent(parts[i], it -> new Node());
+        }
+        node.classes.add(cls);
+    }
+    
+    private static final class Node {
+        
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private final List<Class<?>> classes = new ArrayList<>();
+        private List<Class<?>> allClasses = Collections.emptyList();
+        
+        /**
+         * Precomputes the classes of this package and all its sub packages.
+         */
+        private List<Class<?>> collect() {
+            
+            final List<Class<?>> result = new ArrayList<>(classes);
+            for(Node child : children.values()) {
+                result.addAll(child.collect());
+            }
+            allClasses = Collections.unmodifiableList(result);
+            return allClasses;
+        }
+        
+    }
+    
+}
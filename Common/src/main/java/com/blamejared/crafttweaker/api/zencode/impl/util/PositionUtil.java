@@ -4,6 +4,7 @@ import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.VirtualSourceFile;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Arrays;
 
 public class PositionUtil {
@@ -49,4 +50,20 @@ public class PositionUtil {
         return new CodePosition(virtualSourceFile, lineNumber, 0, lineNumber, 0);
     }
     
+    /**
+     * Reads the name of the current script file based on the current Thread's stack.
+     * Works by grabbing the first zs file from the stack, without capturing the whole stacktrace.
+     *
+     * @return The file name, or null if no script is on the stack
+     */
+    @Nullable
+    public static String getZCScriptFileNameFromStack() {
+        
+        return StackWalker.getInstance()
+                .walk(frames -> frames.map(StackWalker.StackFrame::getFileName)
+                        .filter(fileName -> fileName != null && fileName.endsWith(".zs"))
+                        .findFirst()
+                        .orElse(null));
+    }
+    
 }
@@ -5,6 +5,7 @@ import com.blamejared.crafttweaker.api.CraftTweakerRegistry;
 import com.blamejared.crafttweaker.api.command.boilerplate.CommandImpl;
 import com.blamejared.crafttweaker.api.command.type.BracketDumperInfo;
 import com.blamejared.crafttweaker.impl.command.type.DumpCommands;
+import com.blamejared.crafttweaker.impl.command.type.EventCommands;
 import com.blamejared.crafttweaker.impl.command.type.HandCommands;
 import com.blamejared.crafttweaker.impl.command.type.HelpCommand;
 import com.blamejared.crafttweaker.impl.command.type.InventoryCommands;
@@ -39,6 +40,7 @@ public final class CTCommands {
         //TODO determine what permission to use
         ConflictCommand.registerCommands();
         DumpCommands.registerCommands();
+        EventCommands.registerCommands();
         InventoryCommands.registerCommands();
         HandCommands.registerCommands();
         ScriptCommands.registerCommands();
@@ -9,9 +9,14 @@ import com.blamejared.crafttweaker.api.tag.manager.ITagManager;
 import com.blamejared.crafttweaker.api.tag.registry.CrTTagRegistry;
 import com.blamejared.crafttweaker.api.villager.CTVillagerTrades;
 import com.blamejared.crafttweaker.impl.command.CTCommands;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpEngine;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpOutput;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpSection;
 import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
 import com.blamejared.crafttweaker.natives.villager.ExpandVillagerProfession;
 import com.blamejared.crafttweaker.platform.Services;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import com.mojang.brigadier.Command;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.TextComponent;
@@ -20,15 +25,18 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.npc.VillagerTrades;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 public final class DumpCommands {
@@ -83,17 +91,25 @@ public final class DumpCommands {
             builder.executes(context -> {
                 
                 ServerPlayer player = context.getSource().getPlayerOrException();
-                Services.REGISTRY.recipeTypes().stream()
-                        .peek(type -> CraftTweakerAPI.LOGGER.info(type.toString()))
-                        .map(it -> ((AccessRecipeManager) player.level.getRecipeManager()).getRecipes()
-                                .getOrDefault(it, Collections.emptyMap())
-                                .keySet())
-                        .flatMap(Collection::stream)
-                        .map(ResourceLocation::toString)
-                        .forEach(CraftTweakerAPI.LOGGER::info);
-                
-                CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.list.check.log", CommandUtilities.makeNoticeable(new TranslatableComponent("crafttweaker.command.misc.recipes")), CommandUtilities.getFormattedLogFile()).withStyle(ChatFormatting.GREEN)), player);
+                final List<DumpSection> sections = new ArrayList<>();
+                final Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes = ((AccessRecipeManager) player.level.getRecipeManager()).getRecipes();
+                Services.REGISTRY.recipeTypes().forEach(type -> {
+                    final List<ResourceLocation> ids = List.copyOf(recipes.getOrDefault(type, Collections.emptyMap())
+                            .keySet());
+                    sections.add(new DumpSection(type.toString(), output -> {
+                        output.line(type.toString());
+                        ids.stream().map(ResourceLocation::toString).sorted().forEach(id -> {
+                            output.line(id);
+                            
+                            final JsonObject entry = new JsonObject();
+                            entry.addProperty("type", type.toString());
+                            entry.addProperty("id", id);
+                            output.entry(entry);
+                        });
+                    }));
+                });
                 
+                DumpEngine.dump(player, "recipe_ids", new TranslatableComponent("crafttweaker.command.misc.recipes"), sections);
                 return Command.SINGLE_SUCCESS;
             });
         }));
@@ -156,27 +172,18 @@ public final class DumpCommands {
             
             builder.executes(context -> {
                 ServerPlayer player = context.getSource().getPlayerOrException();
+                final List<DumpSection> sections = new ArrayList<>();
                 VillagerTrades.TRADES.forEach((villagerProfession, levelToTrades) -> {
-                    CraftTweakerAPI.LOGGER.info("Trades for: " + ExpandVillagerProfession.getCommandString(villagerProfession));
-                    levelToTrades.keySet()
-                            .stream()
-                            .sorted()
-                            .filter(level -> levelToTrades.getOrDefault(level, new VillagerTrades.ItemListing[0]).length > 0)
-                            .peek(level -> CraftTweakerAPI.LOGGER.info("Level " + level + " trades"))
-                            .map(level -> levelToTrades.getOrDefault(level, new VillagerTrades.ItemListing[0]))
-                            .flatMap(Arrays::stream)
-                            .forEach(iTrade -> {
-                                String tradeStr = "Unable to display trade.";
-                                if(CTVillagerTrades.TRADE_CONVERTER.containsKey(iTrade.getClass())) {
-                                    tradeStr = CTVillagerTrades.TRADE_CONVERTER.get(iTrade.getClass())
-                                            .apply(iTrade)
-                                            .toString();
-                                }
-                                CraftTweakerAPI.LOGGER.info(iTrade.getClass().getSimpleName() + tradeStr);
-                            });
+                    final String profession = ExpandVillagerProfession.getCommandString(villagerProfession);
+                    final Map<Integer, VillagerTrades.ItemListing[]> trades = copyTrades(levelToTrades);
+                    sections.add(new DumpSection(Services.REGISTRY.getRegistryKey(villagerProfession)
+                            .toString(), output -> {
+                        output.line("Trades for: " + profession);
+                        dumpTrades(profession, trades, output);
+                    }));
                 });
                 
-                CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.list.check.log", CommandUtilities.makeNoticeable(new TranslatableComponent("crafttweaker.command.misc.villager.trades")), CommandUtilities.getFormattedLogFile()).withStyle(ChatFormatting.GREEN)), player);
+                DumpEngine.dump(player, "villager_trades", new TranslatableComponent("crafttweaker.command.misc.villager.trades"), sections);
                 return Command.SINGLE_SUCCESS;
             });
         }));
@@ -184,25 +191,13 @@ public final class DumpCommands {
         CTCommands.registerDump(new CommandImpl("wandering_trades", new TranslatableComponent("crafttweaker.command.description.dump.wandering.trades"), builder -> {
             builder.executes(context -> {
                 ServerPlayer player = context.getSource().getPlayerOrException();
-                CraftTweakerAPI.LOGGER.info("Wandering Trader Trades");
-                VillagerTrades.WANDERING_TRADER_TRADES.keySet()
-                        .stream()
-                        .sorted()
-                        .filter(level -> VillagerTrades.WANDERING_TRADER_TRADES.getOrDefault(level, new VillagerTrades.ItemListing[0]).length > 0)
-                        .peek(level -> CraftTweakerAPI.LOGGER.info("Level " + level + " trades"))
-                        .map(level -> VillagerTrades.WANDERING_TRADER_TRADES.getOrDefault(level, new VillagerTrades.ItemListing[0]))
-                        .flatMap(Arrays::stream)
-                        .forEach(iTrade -> {
-                            String tradeStr = "Unable to display trade.";
-                            if(CTVillagerTrades.TRADE_CONVERTER.containsKey(iTrade.getClass())) {
-                                tradeStr = CTVillagerTrades.TRADE_CONVERTER.get(iTrade.getClass())
-                                        .apply(iTrade)
-                                        .toString();
-                            }
-                            CraftTweakerAPI.LOGGER.info(iTrade.getClass().getSimpleName() + tradeStr);
-                        });
+                final Map<Integer, VillagerTrades.ItemListing[]> trades = copyTrades(VillagerTrades.WANDERING_TRADER_TRADES);
+                final DumpSection section = new DumpSection("wandering_trader", output -> {
+                    output.line("Wandering Trader Trades");
+                    dumpTrades("wandering_trader", trades, output);
+                });
                 
-                CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.list.check.log", CommandUtilities.makeNoticeable(new TranslatableComponent("crafttweaker.command.misc.wandering.trades")), CommandUtilities.getFormattedLogFile()).withStyle(ChatFormatting.GREEN)), player);
+                DumpEngine.dump(player, "wandering_trades", new TranslatableComponent("crafttweaker.command.misc.wandering.trades"), List.of(section));
                 return Command.SINGLE_SUCCESS;
             });
         }));
@@ -210,24 +205,72 @@ public final class DumpCommands {
         CTCommands.registerDump(new CommandImpl("tag_contents", new TranslatableComponent("crafttweaker.command.description.dump.tag.contents"), builder -> {
             builder.executes(context -> {
                 ServerPlayer player = context.getSource().getPlayerOrException();
-                CraftTweakerAPI.LOGGER.info("All Tag Contents");
-                CrTTagRegistry.INSTANCE.getAllManagers()
-                        .stream()
-                        .sorted(Comparator.comparing(ITagManager::getTagFolder))
-                        .peek(manager -> CraftTweakerAPI.LOGGER.info("Contents of '{}' tags:", manager.getTagFolder()))
-                        .flatMap(tagManager -> tagManager.getAllTags().stream())
-                        .peek(mcTag -> CraftTweakerAPI.LOGGER.info(mcTag.getCommandString()))
-                        .flatMap(mcTag -> mcTag.getElements().stream())
-                        .forEach(o -> CraftTweakerAPI.LOGGER.info("\t- {}", Services.REGISTRY.maybeGetRegistryKey(o)
-                                .map(ResourceLocation::toString)
-                                .orElse(o.toString())));
-                
+                final List<DumpSection> sections = new ArrayList<>();
+                for(ITagManager<?> manager : CrTTagRegistry.INSTANCE.getAllManagers()) {
+                    final Map<String, List<?>> contents = new TreeMap<>();
+                    manager.getAllTags().forEach(tag -> contents.put(tag.getCommandString(), List.copyOf(tag.getElements())));
+                    sections.add(new DumpSection(manager.getTagFolder(), output -> {
+                        output.line("Contents of '" + manager.getTagFolder() + "' tags:");
+                        contents.forEach((tag, elements) -> {
+                            output.line(tag);
+                            
+                            final JsonArray names = new JsonArray();
+                            elements.forEach(element -> {
+                                final String name = Services.REGISTRY.maybeGetRegistryKey(element)
+                                        .map(ResourceLocation::toString)
+                                        .orElse(element.toString());
+                                output.line("\t- " + name);
+                                names.add(name);
+                            });
+                            
+                            final JsonObject entry = new JsonObject();
+                            entry.addProperty("folder", manager.getTagFolder());
+                            entry.addProperty("tag", tag);
+                            entry.add("elements", names);
+                            output.entry(entry);
+                        });
+                    }));
+                }
                 
-                CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.list.check.log", CommandUtilities.makeNoticeable(new TranslatableComponent("crafttweaker.command.misc.tag.contents")), CommandUtilities.getFormattedLogFile()).withStyle(ChatFormatting.GREEN)), player);
+                DumpEngine.dump(player, "tag_contents", new TranslatableComponent("crafttweaker.command.misc.tag.contents"), sections);
                 return Command.SINGLE_SUCCESS;
             });
         }));
         
     }
     
+    private static Map<Integer, VillagerTrades.ItemListing[]> copyTrades(final Map<Integer, VillagerTrades.ItemListing[]> levelToTrades) {
+        
+        final Map<Integer, VillagerTrades.ItemListing[]> copy = new TreeMap<>();
+        levelToTrades.forEach((level, trades) -> {
+            if(trades != null && trades.length > 0) {
+                copy.put(level, trades.clone());
+            }
+        });
+        return copy;
+    }
+    
+    private static void dumpTrades(final String owner, final Map<Integer, VillagerTrades.ItemListing[]> levelToTrades, final DumpOutput output) {
+        
+        levelToTrades.forEach((level, trades) -> {
+            output.line("Level " + level + " trades");
+            for(VillagerTrades.ItemListing iTrade : trades) {
+                String tradeStr = "Unable to display trade.";
+                if(CTVillagerTrades.TRADE_CONVERTER.containsKey(iTrade.getClass())) {
+                    tradeStr = CTVillagerTrades.TRADE_CONVERTER.get(iTrade.getClass())
+                            .apply(iTrade)
+                            .toString();
+                }
+                output.line(iTrade.getClass().getSimpleName() + tradeStr);
+                
+                final JsonObject entry = new JsonObject();
+                entry.addProperty("owner", owner);
+                entry.addProperty("level", level);
+                entry.addProperty("class", iTrade.getClass().getName());
+                entry.addProperty("trade", tradeStr);
+                output.entry(entry);
+            }
+        });
+    }
+    
 }
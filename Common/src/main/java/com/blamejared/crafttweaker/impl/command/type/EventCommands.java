@@ -0,0 +1,83 @@
+package com.blamejared.crafttweaker.impl.command.type;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.command.CommandUtilities;
+import com.blamejared.crafttweaker.api.command.boilerplate.CommandImpl;
+import com.blamejared.crafttweaker.impl.command.CTCommands;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpEngine;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpSection;
+import com.blamejared.crafttweaker.impl.event.EventHandlerProfiler;
+import com.google.gson.JsonObject;
+import com.mojang.brigadier.Command;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.TranslatableComponent;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.List;
+
+public final class EventCommands {
+    
+    private static final int MAX_SHOWN_HANDLERS = 10;
+    
+    private EventCommands() {}
+    
+    public static void registerCommands() {
+        
+        CTCommands.registerCommand(new CommandImpl("events", new TranslatableComponent("crafttweaker.command.description.events"), builder -> builder.executes(context -> {
+            ServerPlayer player = context.getSource().getPlayerOrException();
+            return profile(player);
+        })));
+        CTCommands.registerCommand("events", new CommandImpl("profile", new TranslatableComponent("crafttweaker.command.description.events.profile"), builder -> builder.executes(context -> {
+            ServerPlayer player = context.getSource().getPlayerOrException();
+            return profile(player);
+        })));
+    }
+    
+    private static int profile(final ServerPlayer player) {
+        
+        if(!CraftTweakerAPI.PROFILE_EVENT_HANDLERS) {
+            CommandUtilities.send(new TranslatableComponent("crafttweaker.command.events.profile.disabled").withStyle(ChatFormatting.RED), player);
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        final List<EventHandlerProfiler.Snapshot> snapshots = EventHandlerProfiler.snapshot();
+        if(snapshots.isEmpty()) {
+            CommandUtilities.send(new TranslatableComponent("crafttweaker.command.events.profile.empty").withStyle(ChatFormatting.RED), player);
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        CommandUtilities.send(new TranslatableComponent("crafttweaker.command.events.profile.header", EventHandlerProfiler.WINDOW_TICKS).withStyle(ChatFormatting.AQUA), player);
+        snapshots.stream().limit(MAX_SHOWN_HANDLERS).forEach(snapshot -> CommandUtilities.send(new TranslatableComponent(
+                "crafttweaker.command.events.profile.entry",
+                snapshot.name(),
+                micros(snapshot.p50Nanos()),
+                micros(snapshot.p99Nanos()),
+                snapshot.windowCalls(),
+                snapshot.totalCalls()
+        ).withStyle(snapshot.disabled() ? ChatFormatting.RED : ChatFormatting.GREEN), player));
+        
+        // The snapshots are taken on the server thread, only writing them is done off-thread
+        DumpEngine.dump(player, "event_profile", new TranslatableComponent("crafttweaker.command.misc.events.profile"), List.of(new DumpSection("handlers", output -> {
+            output.line("Time per tick over the last " + EventHandlerProfiler.WINDOW_TICKS + " ticks, in microseconds");
+            for(EventHandlerProfiler.Snapshot snapshot : snapshots) {
+                output.line("%s: p50 %s, p99 %s, %d calls (%d total)%s".formatted(snapshot.name(), micros(snapshot.p50Nanos()), micros(snapshot.p99Nanos()), snapshot.windowCalls(), snapshot.totalCalls(), snapshot.disabled() ? ", disabled" : ""));
+                
+                final JsonObject entry = new JsonObject();
+                entry.addProperty("handler", snapshot.name());
+                entry.addProperty("p50_nanos", snapshot.p50Nanos());
+                entry.addProperty("p99_nanos", snapshot.p99Nanos());
+                entry.addProperty("window_calls", snapshot.windowCalls());
+                entry.addProperty("total_calls", snapshot.totalCalls());
+                entry.addProperty("disabled", snapshot.disabled());
+                output.entry(entry);
+            }
+        })));
+        return Command.SINGLE_SUCCESS;
+    }
+    
+    private static String micros(long nanos) {
+        
+        return "%.1f".formatted(nanos / 1000.0);
+    }
+    
+}
@@ -9,8 +9,12 @@ import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.recipe.manager.base.IRecipeManager;
 import com.blamejared.crafttweaker.api.util.ItemStackUtil;
 import com.blamejared.crafttweaker.impl.command.CTCommands;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpEngine;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpOutput;
+import com.blamejared.crafttweaker.impl.command.type.dump.DumpSection;
 import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
 import com.blamejared.crafttweaker.platform.Services;
+import com.google.gson.JsonObject;
 import com.mojang.brigadier.Command;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.TranslatableComponent;
@@ -21,8 +25,10 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -44,17 +50,47 @@ public final class RecipeCommands {
         })));
     }
     
-    private static int dumpRecipes(final Player player) {
+    private static int dumpRecipes(final ServerPlayer player) {
         
-        CraftTweakerAPI.LOGGER.info("Dumping all recipes!");
+        final List<DumpSection> sections = new ArrayList<>();
+        ((AccessRecipeManager) player.level.getRecipeManager()).getRecipes().forEach((recipeType, map) -> {
+            final IRecipeManager<?> manager = RecipeTypeBracketHandler.getOrDefault(recipeType);
+            if(manager == null) {
+                // Scripts for example don't have a recipe manager
+                return;
+            }
+            
+            final List<Recipe<?>> recipes = List.copyOf(map.values());
+            sections.add(new DumpSection(recipeType.toString(), output -> dumpRecipes(manager, recipes, output)));
+        });
         
-        ((AccessRecipeManager) player.level.getRecipeManager()).getRecipes()
-                .forEach((recipeType, map) -> dumpRecipe(recipeType, map.values(), it -> true, false));
-    
-        CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.list.check.log", CommandUtilities.makeNoticeable(new TranslatableComponent("crafttweaker.command.misc.recipes.list")), CommandUtilities.getFormattedLogFile()).withStyle(ChatFormatting.GREEN)), player);
+        DumpEngine.dump(player, "recipes", new TranslatableComponent("crafttweaker.command.misc.recipes.list"), sections);
         return Command.SINGLE_SUCCESS;
     }
     
+    private static void dumpRecipes(final IRecipeManager<?> manager, final List<Recipe<?>> recipes, final DumpOutput output) {
+        
+        output.line("Recipe type: '" + manager.getCommandString() + "'");
+        if(recipes.isEmpty()) {
+            output.line("  No recipe found");
+            return;
+        }
+        
+        recipes.stream()
+                .sorted(Comparator.comparing(RecipeCommands::serializer).thenComparing(Recipe::getId))
+                .forEach(recipe -> {
+                    final String dumped = dump(manager, recipe);
+                    output.line("  " + dumped);
+                    
+                    final JsonObject entry = new JsonObject();
+                    entry.addProperty("type", manager.getCommandString());
+                    entry.addProperty("id", recipe.getId().toString());
+                    entry.addProperty("serializer", serializer(recipe).toString());
+                    entry.addProperty("script", dumped);
+                    output.entry(entry);
+                });
+    }
+    
     private static int dumpHand(final Player player, final ItemStack stack) {
         
         if(stack.isEmpty()) {
@@ -0,0 +1,158 @@
+package com.blamejared.crafttweaker.impl.command.type.dump;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.CraftTweakerConstants;
+import com.blamejared.crafttweaker.api.command.CommandUtilities;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.TranslatableComponent;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Writes dumps to the {@code ct_dumps} folder without blocking the server thread.
+ *
+ * Callers wrap the formatting of the data they want to dump in {@link DumpSection}s. Every section is formatted on the
+ * server thread, since recipes and tags must not be read while the server changes them, and its output is then written
+ * in parallel to its own {@code .txt} and {@code .jsonl} file. The player is notified on the server thread once every
+ * section has been written.
+ */
+public final class DumpEngine {
+    
+    private static final String ROOT = "ct_dumps";
+    
+    private static final ExecutorService OFF_THREAD_SERVICE = Executors.newFixedThreadPool(Math.max(1, Math.min(4, Runtime.getRuntime()
+            .availableProcessors() - 1)), new ThreadFactory() {
+            
+        private final AtomicInteger count = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable r) {
+            
+            final Thread t = new Thread(r, CraftTweakerConstants.MOD_ID + ":dump_thread_" + count.getAndIncrement());
+            t.setDaemon(true); // We don't want to prevent MC from shutting down if this thread is still processing
+            t.setContextClassLoader(DumpEngine.class.getClassLoader());
+            return t;
+        }
+    });
+    
+    private static final Set<String> RUNNING = ConcurrentHashMap.newKeySet();
+    
+    private DumpEngine() {}
+    
+    /**
+     * Writes the given sections to {@code ct_dumps/<name>}, replacing the files of any previous dump with the same name.
+     *
+     * @param player   The player to notify.
+     * @param name     The name of the dump, used as the name of its folder.
+     * @param title    The title of the dump shown to the player.
+     * @param sections The sections to write.
+     */
+    public static void dump(final ServerPlayer player, final String name, final MutableComponent title, final List<DumpSection> sections) {
+        
+        if(!RUNNING.add(name)) {
+            CommandUtilities.send(new TranslatableComponent("crafttweaker.command.dump.running", title).withStyle(ChatFormatting.RED), player);
+            return;
+        }
+        
+        final List<FormattedSection> formatted = new ArrayList<>(sections.size());
+        try {
+            for(final DumpSection section : sections) {
+                final DumpOutput output = new DumpOutput();
+                section.writer().accept(output);
+                formatted.add(new FormattedSection(fileName(section.name()), output.text(), output.json()));
+            }
+        } catch(final RuntimeException e) {
+            RUNNING.remove(name);
+            CraftTweakerAPI.LOGGER.error("Unable to format dump '{}'", name, e);
+            CommandUtilities.send(CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.dump.error", title).withStyle(ChatFormatting.RED)), player);
+            return;
+        }
+        
+        final MinecraftServer server = player.getServer();
+        final Path folder = Paths.get(ROOT, name);
+        final String folderName = ROOT + "/" + name;
+        CommandUtilities.send(new TranslatableComponent("crafttweaker.command.dump.started", title).withStyle(ChatFormatting.GREEN), player);
+        
+        CompletableFuture.runAsync(() -> prepare(folder), OFF_THREAD_SERVICE)
+                .thenCompose(ignored -> CompletableFuture.allOf(formatted.stream()
+                        .map(section -> CompletableFuture.runAsync(() -> write(folder, section), OFF_THREAD_SERVICE))
+                        .toArray(CompletableFuture[]::new)))
+                .whenComplete((ignored, exception) -> {
+                    RUNNING.remove(name);
+                    
+                    final Component message;
+                    if(exception == null) {
+                        message = CommandUtilities.openingFile(new TranslatableComponent("crafttweaker.command.dump.complete", title, folderName).withStyle(ChatFormatting.GREEN), folderName);
+                    } else {
+                        CraftTweakerAPI.LOGGER.error("Unable to write dump '{}'", name, exception);
+                        message = CommandUtilities.openingLogFile(new TranslatableComponent("crafttweaker.command.dump.error", title).withStyle(ChatFormatting.RED));
+                    }
+                    
+                    if(server == null) {
+                        return;
+                    }
+                    server.execute(() -> {
+                        if(!player.hasDisconnected()) {
+                            CommandUtilities.send(message, player);
+                        }
+                    });
+                });
+    }
+    
+    /**
+     * Creates the folder of a dump, removing files left over by the previous run.
+     */
+    private static void prepare(final Path folder) {
+        
+        try {
+            Files.createDirectories(folder);
+            try(final Stream<Path> files = Files.list(folder)) {
+                for(final Path file : (Iterable<Path>) files::iterator) {
+                    final String fileName = file.getFileName().toString();
+                    if(fileName.endsWith(".txt") || fileName.endsWith(".jsonl")) {
+                        Files.delete(file);
+                    }
+                }
+            }
+        } catch(final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void write(final Path folder, final FormattedSection section) {
+        
+        try {
+            Files.writeString(folder.resolve(section.fileName() + ".txt"), section.text(), StandardCharsets.UTF_8);
+            Files.writeString(folder.resolve(section.fileName() + ".jsonl"), section.json(), StandardCharsets.UTF_8);
+        } catch(final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static String fileName(final String sectionName) {
+        
+        return sectionName.replaceAll("[^a-zA-Z0-9_.-]", "_");
+    }
+    
+    private record FormattedSection(String fileName, String text, String json) {}
+    
+}
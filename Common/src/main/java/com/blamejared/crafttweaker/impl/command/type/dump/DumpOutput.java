@@ -0,0 +1,45 @@
+package com.blamejared.crafttweaker.impl.command.type.dump;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+/**
+ * Receives the output of a single {@link DumpSection}, collecting the contents of its text and JSON Lines files.
+ */
+public final class DumpOutput {
+    
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+    
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder json = new StringBuilder();
+    
+    DumpOutput() {}
+    
+    /**
+     * Writes a line to the human-readable text file.
+     */
+    public void line(String line) {
+        
+        this.text.append(line).append(System.lineSeparator());
+    }
+    
+    /**
+     * Writes an entry to the machine-readable JSON Lines file.
+     */
+    public void entry(JsonObject entry) {
+        
+        this.json.append(GSON.toJson(entry)).append(System.lineSeparator());
+    }
+    
+    String text() {
+        
+        return this.text.toString();
+    }
+    
+    String json() {
+        
+        return this.json.toString();
+    }
+    
+}
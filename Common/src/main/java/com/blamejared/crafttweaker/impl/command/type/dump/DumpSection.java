@@ -0,0 +1,13 @@
+package com.blamejared.crafttweaker.impl.command.type.dump;
+
+import java.util.function.Consumer;
+
+/**
+ * A part of a dump that is written to its own files.
+ *
+ * The writer is called on the server thread, only writing its output to disk is done off-thread.
+ *
+ * @param name   The name of the section, used as the name of its files.
+ * @param writer Formats the data of the section into the given output.
+ */
+public record DumpSection(String name, Consumer<DumpOutput> writer) {}
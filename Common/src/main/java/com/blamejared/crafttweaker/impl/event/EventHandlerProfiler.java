@@ -0,0 +1,177 @@
+package com.blamejared.crafttweaker.impl.event;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long script event handlers take per tick, enabled by the {@code #profileevents} preprocessor.
+ *
+ * The time and calls of every handler are added up during a tick and kept for the last {@link #WINDOW_TICKS} ticks.
+ * If a budget is set, handlers that take longer than the budget per tick on average over the whole window are reported
+ * once, and disabled if that was asked for.
+ */
+public final class EventHandlerProfiler {
+    
+    /**
+     * How many ticks are kept, 10 seconds at 20 ticks per second.
+     */
+    public static final int WINDOW_TICKS = 200;
+    
+    private static final List<Entry> ENTRIES = new CopyOnWriteArrayList<>();
+    
+    private EventHandlerProfiler() {}
+    
+    /**
+     * Starts profiling a handler.
+     *
+     * @param name The name of the handler, shown in the profile. Handlers with the same name are numbered.
+     *
+     * @return The entry to record the calls of the handler in.
+     */
+    public static synchronized Entry register(String name) {
+        
+        final long sameName = ENTRIES.stream().filter(it -> it.baseName.equals(name)).count();
+        final Entry entry = new Entry(name, sameName == 0 ? name : name + " #" + (sameName + 1));
+        ENTRIES.add(entry);
+        return entry;
+    }
+    
+    /**
+     * Stops profiling a handler, called when its script is unloaded.
+     *
+     * @param entry The entry of the handler.
+     */
+    public static void unregister(Entry entry) {
+        
+        ENTRIES.remove(entry);
+    }
+    
+    /**
+     * Moves the time measured in this tick into the window and checks the budget, called at the end of every server
+     * tick.
+     */
+    public static void endTick() {
+        
+        if(ENTRIES.isEmpty()) {
+            return;
+        }
+        
+        final long budget = CraftTweakerAPI.EVENT_HANDLER_BUDGET;
+        for(Entry entry : ENTRIES) {
+            entry.endTick();
+            if(budget > 0 && !entry.reported && entry.windowSize == WINDOW_TICKS && entry.windowNanos / WINDOW_TICKS > budget) {
+                entry.reported = true;
+                if(CraftTweakerAPI.DISABLE_SLOW_EVENT_HANDLERS) {
+                    entry.disabled = true;
+                    CraftTweakerAPI.LOGGER.error("Event handler '{}' took {} microseconds per tick over the last {} ticks, which is more than the budget of {} microseconds. It has been disabled until the next reload.", entry.name, entry.windowNanos / WINDOW_TICKS / 1000, WINDOW_TICKS, budget / 1000);
+                } else {
+                    CraftTweakerAPI.LOGGER.warn("Event handler '{}' took {} microseconds per tick over the last {} ticks, which is more than the budget of {} microseconds.", entry.name, entry.windowNanos / WINDOW_TICKS / 1000, WINDOW_TICKS, budget / 1000);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Takes a snapshot of the profile of every handler, sorted by the time they take per tick, the slowest first.
+     *
+     * @return The profile of every handler.
+     */
+    public static List<Snapshot> snapshot() {
+        
+        return ENTRIES.stream()
+                .map(Entry::snapshot)
+                .sorted(Comparator.comparingLong(Snapshot::p99Nanos)
+                        .thenComparingLong(Snapshot::p50Nanos)
+                        .reversed())
+                .toList();
+    }
+    
+    public static final class Entry {
+        
+        private final String baseName;
+        private final String name;
+        private final LongAdder tickNanos = new LongAdder();
+        private final LongAdder tickCalls = new LongAdder();
+        private final long[] windowTickNanos = new long[WINDOW_TICKS];
+        private final long[] windowTickCalls = new long[WINDOW_TICKS];
+        private int windowIndex;
+        private int windowSize;
+        private long windowNanos;
+        private long windowCalls;
+        private long totalCalls;
+        private boolean reported;
+        private volatile boolean disabled;
+        
+        private Entry(String baseName, String name) {
+            
+            this.baseName = baseName;
+            this.name = name;
+        }
+        
+        /**
+         * Records a call of the handler, handlers may be called from any thread.
+         *
+         * @param nanos How long the call took.
+         */
+        public void record(long nanos) {
+            
+            tickNanos.add(nanos);
+            tickCalls.increment();
+        }
+        
+        public boolean isDisabled() {
+            
+            return disabled;
+        }
+        
+        private synchronized void endTick() {
+            
+            final long nanos = tickNanos.sumThenReset();
+            final long calls = tickCalls.sumThenReset();
+            
+            windowNanos += nanos - windowTickNanos[windowIndex];
+            windowCalls += calls - windowTickCalls[windowIndex];
+            windowTickNanos[windowIndex] = nanos;
+            windowTickCalls[windowIndex] = calls;
+            windowIndex = (windowIndex + 1) % WINDOW_TICKS;
+            windowSize = Math.min(windowSize + 1, WINDOW_TICKS);
+            totalCalls += calls;
+        }
+        
+        private synchronized Snapshot snapshot() {
+            
+            if(windowSize == 0) {
+                return new Snapshot(name, 0, 0, 0, totalCalls, disabled);
+            }
+            
+            // The oldest ticks are at the start of the array until the window is full, so they can be sorted as is
+            final long[] sorted = Arrays.copyOf(windowTickNanos, windowSize);
+            Arrays.sort(sorted);
+            return new Snapshot(name, percentile(sorted, 50), percentile(sorted, 99), windowCalls, totalCalls, disabled);
+        }
+        
+        private static long percentile(long[] sorted, int percentile) {
+            
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile / 100.0) - 1)];
+        }
+        
+    }
+    
+    /**
+     * The profile of a handler.
+     *
+     * @param name        The name of the handler.
+     * @param p50Nanos    The median time the handler took per tick in the window.
+     * @param p99Nanos    The 99th percentile of the time the handler took per tick in the window.
+     * @param windowCalls How often the handler was called in the window.
+     * @param totalCalls  How often the handler was called since it was registered.
+     * @param disabled    Whether the handler was disabled for going over the budget.
+     */
+    public record Snapshot(String name, long p50Nanos, long p99Nanos, long windowCalls, long totalCalls, boolean disabled) {}
+    
+}
@@ -8,7 +8,8 @@ import java.util.function.Function;
 
 public enum ClientMessages {
     COPY(MessageCopy.class, "copy", buf -> new MessageCopy(buf.readUtf())),
-    OPEN(MessageOpen.class, "open", buf -> new MessageOpen(buf.readUtf()));
+    OPEN(MessageOpen.class, "open", buf -> new MessageOpen(buf.readUtf())),
+    RECIPE_DELTA(MessageRecipeDelta.class, "recipe_delta", MessageRecipeDelta::deserialize);
     
     private final Class<?> messageClass;
     private final ResourceLocation id;
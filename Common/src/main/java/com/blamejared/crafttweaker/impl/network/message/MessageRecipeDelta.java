@@ -0,0 +1,53 @@
+package com.blamejared.crafttweaker.impl.network.message;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundUpdateRecipesPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sent instead of all recipes on a reload, to players that already have the recipes from before the reload.
+ *
+ * @see com.blamejared.crafttweaker.impl.recipe.sync.RecipeSyncTracker
+ */
+public record MessageRecipeDelta(List<ResourceLocation> removed, List<Recipe<?>> recipes) implements IMessage<MessageRecipeDelta> {
+    
+    @Override
+    public void serialize(FriendlyByteBuf buf) {
+        
+        buf.writeCollection(removed(), FriendlyByteBuf::writeResourceLocation);
+        buf.writeCollection(recipes(), (buffer, recipe) -> ClientboundUpdateRecipesPacket.toNetwork(recipe, buffer));
+    }
+    
+    @Override
+    public void handle() {
+        
+        final ClientPacketListener connection = Minecraft.getInstance().getConnection();
+        if(connection == null) {
+            return;
+        }
+        
+        final Map<ResourceLocation, Recipe<?>> byId = new LinkedHashMap<>();
+        for(Recipe<?> recipe : connection.getRecipeManager().getRecipes()) {
+            byId.put(recipe.getId(), recipe);
+        }
+        removed().forEach(byId::remove);
+        for(Recipe<?> recipe : recipes()) {
+            byId.put(recipe.getId(), recipe);
+        }
+        // Handled like the recipes were sent by the server, so the recipe book and everything listening is updated
+        connection.handleUpdateRecipes(new ClientboundUpdateRecipesPacket(byId.values()));
+    }
+    
+    public static MessageRecipeDelta deserialize(FriendlyByteBuf buf) {
+        
+        return new MessageRecipeDelta(buf.readList(FriendlyByteBuf::readResourceLocation), buf.readList(ClientboundUpdateRecipesPacket::fromNetwork));
+    }
+    
+}
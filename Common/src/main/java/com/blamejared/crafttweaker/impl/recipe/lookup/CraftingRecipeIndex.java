@@ -0,0 +1,298 @@
+package com.blamejared.crafttweaker.impl.recipe.lookup;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.api.ingredient.IIngredient;
+import com.blamejared.crafttweaker.api.ingredient.type.IIngredientEmpty;
+import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.RecipeList;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapedRecipeBase;
+import com.blamejared.crafttweaker.api.recipe.type.CTShapelessRecipeBase;
+import com.blamejared.crafttweaker.api.tag.manager.TagManagerItem;
+import com.blamejared.crafttweaker.api.tag.registry.TagElementIndex;
+import com.blamejared.crafttweaker.api.util.IngredientUtil;
+import com.blamejared.crafttweaker.mixin.common.access.item.AccessIngredient;
+import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagCollection;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+import net.minecraft.world.level.Level;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index over the crafting table recipes of a {@link RecipeManager}, used to narrow down the recipes that have to be
+ * tested when looking up the recipe for a crafting grid.
+ *
+ * Recipes are indexed by the size of the grid they need and by the items they can accept. Recipes that cannot be
+ * analysed (special recipes, recipes added by other mods or using custom ingredients) are always tested.
+ *
+ * Candidates are tested in the same order as vanilla would test them, so the returned recipe is always the same as
+ * the one vanilla would have returned.
+ *
+ * The items of tag ingredients are read when the index is built, so the index is also outdated once the item tags are
+ * replaced (on reload, or when the client receives them after the recipes) or changed through CraftTweaker.
+ *
+ * The index is only enabled when a script uses the {@code #indexrecipes} preprocessor.
+ */
+public final class CraftingRecipeIndex {
+    
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    
+    private final Map<ResourceLocation, Recipe<?>> source;
+    private final int sourceSize;
+    private final int sourceModifications;
+    private final TagCollection<Item> itemTags;
+    private final int tagVersion;
+    
+    /**
+     * Recipes that accept the key item, sorted by their ordinal.
+     */
+    private final Map<Item, Entry[]> byItem;
+    
+    /**
+     * Recipes that cannot be filtered by item, sorted by their ordinal.
+     */
+    private final Entry[] unbound;
+    
+    private CraftingRecipeIndex(Map<ResourceLocation, Recipe<?>> source) {
+        
+        this.source = source;
+        this.sourceSize = source.size();
+        this.sourceModifications = RecipeList.getModificationCount();
+        // Read before the recipes are indexed, so tags that change while indexing make the index outdated right away
+        this.itemTags = TagManagerItem.INSTANCE.getTagCollection();
+        this.tagVersion = TagElementIndex.INSTANCE.getVersion();
+        
+        final Map<Item, List<Entry>> byItem = new HashMap<>();
+        final List<Entry> unbound = new ArrayList<>();
+        int ordinal = 0;
+        for(Recipe<?> recipe : source.values()) {
+            if(!(recipe instanceof CraftingRecipe craftingRecipe)) {
+                continue;
+            }
+            final Entry entry = Entry.of(ordinal++, craftingRecipe);
+            if(entry.items == null) {
+                unbound.add(entry);
+            } else {
+                entry.items.forEach(item -> byItem.computeIfAbsent(item, it -> new ArrayList<>()).add(entry));
+            }
+        }
+        
+        this.byItem = new HashMap<>(byItem.size());
+        byItem.forEach((item, entries) -> this.byItem.put(item, entries.toArray(Entry[]::new)));
+        this.unbound = unbound.toArray(Entry[]::new);
+    }
+    
+    /**
+     * Rebuilds the index of the given manager, should be called after the recipes of the manager have been changed.
+     *
+     * Clears the index if indexing is disabled.
+     */
+    public static void rebuild(RecipeManager manager) {
+        
+        final CraftingRecipeIndexHolder holder = (CraftingRecipeIndexHolder) manager;
+        if(!CraftTweakerAPI.INDEX_CRAFTING_RECIPES) {
+            holder.ct$setCraftingIndex(null);
+            return;
+        }
+        
+        final Map<ResourceLocation, Recipe<?>> recipes = ((AccessRecipeManager) manager).getRecipes()
+                .get(RecipeType.CRAFTING);
+        holder.ct$setCraftingIndex(recipes == null ? null : new CraftingRecipeIndex(recipes));
+    }
+    
+    /**
+     * Whether the index still represents the given recipes and the current item tags.
+     *
+     * Changes that replace the map or change its size are detected, as well as recipes being added or removed through
+     * a {@link RecipeList} and item tags being replaced or changed through CraftTweaker. Anything else requires a
+     * {@link #rebuild(RecipeManager)}.
+     */
+    public boolean isCurrent(@Nullable Map<ResourceLocation, Recipe<?>> recipes) {
+        
+        return recipes == this.source && recipes.size() == this.sourceSize && RecipeList.getModificationCount() == this.sourceModifications && TagManagerItem.INSTANCE.getTagCollection() == this.itemTags && TagElementIndex.INSTANCE.getVersion() == this.tagVersion;
+    }
+    
+    public Optional<CraftingRecipe> find(CraftingContainer container, Level level) {
+        
+        final int width = container.getWidth();
+        final int height = container.getHeight();
+        
+        int occupied = 0;
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+        final Set<Item> items = new HashSet<>();
+        for(int y = 0; y < height; y++) {
+            for(int x = 0; x < width; x++) {
+                final ItemStack stack = container.getItem(x + y * width);
+                if(stack.isEmpty()) {
+                    continue;
+                }
+                occupied++;
+                items.add(stack.getItem());
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        
+        final Grid grid = new Grid(width, height, occupied, maxX - minX + 1, maxY - minY + 1, items);
+        
+        // Every item in the grid has to be accepted by an indexed recipe, so the rarest item is the best filter
+        Entry[] bound = null;
+        for(Item item : items) {
+            final Entry[] entries = this.byItem.getOrDefault(item, NO_ENTRIES);
+            if(bound == null || entries.length < bound.length) {
+                bound = entries;
+            }
+            if(bound.length == 0) {
+                break;
+            }
+        }
+        if(bound == null) {
+            bound = NO_ENTRIES;
+        }
+        
+        // Merge both lists by ordinal to keep vanilla's order
+        int boundIndex = 0;
+        int unboundIndex = 0;
+        while(boundIndex < bound.length || unboundIndex < this.unbound.length) {
+            final Entry next;
+            if(unboundIndex >= this.unbound.length || boundIndex < bound.length && bound[boundIndex].ordinal < this.unbound[unboundIndex].ordinal) {
+                next = bound[boundIndex++];
+            } else {
+                next = this.unbound[unboundIndex++];
+            }
+            
+            if(next.accepts(grid) && next.recipe.matches(container, level)) {
+                return Optional.of(next.recipe);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private record Grid(int width, int height, int occupied, int usedWidth, int usedHeight, Set<Item> items) {}
+    
+    private static final class Entry {
+        
+        private static final int UNKNOWN = -1;
+        
+        private final int ordinal;
+        private final CraftingRecipe recipe;
+        private final int width;
+        private final int height;
+        private final int ingredientCount;
+        @Nullable
+        private final Set<Item> items;
+        
+        private Entry(int ordinal, CraftingRecipe recipe, int width, int height, int ingredientCount, @Nullable Set<Item> items) {
+            
+            this.ordinal = ordinal;
+            this.recipe = recipe;
+            this.width = width;
+            this.height = height;
+            this.ingredientCount = ingredientCount;
+            this.items = items;
+        }
+        
+        static Entry of(int ordinal, CraftingRecipe recipe) {
+            
+            if(recipe instanceof CTShapedRecipeBase shaped) {
+                final List<IIngredient> ingredients = new ArrayList<>();
+                for(IIngredient[] row : shaped.getCtIngredients()) {
+                    for(IIngredient ingredient : row) {
+                        ingredients.add(ingredient);
+                    }
+                }
+                return new Entry(ordinal, recipe, shaped.getRecipeWidth(), shaped.getRecipeHeight(), UNKNOWN, itemsOf(ingredients));
+            }
+            if(recipe instanceof CTShapelessRecipeBase shapeless) {
+                return new Entry(ordinal, recipe, UNKNOWN, UNKNOWN, shapeless.getCtIngredients().length, itemsOf(List.of(shapeless.getCtIngredients())));
+            }
+            // Subclasses are free to match however they want
+            if(recipe.getClass() == ShapedRecipe.class) {
+                final ShapedRecipe shaped = (ShapedRecipe) recipe;
+                return new Entry(ordinal, recipe, shaped.getWidth(), shaped.getHeight(), UNKNOWN, vanillaItemsOf(shaped.getIngredients()));
+            }
+            if(recipe.getClass() == ShapelessRecipe.class) {
+                return new Entry(ordinal, recipe, UNKNOWN, UNKNOWN, recipe.getIngredients()
+                        .size(), vanillaItemsOf(recipe.getIngredients()));
+            }
+            return new Entry(ordinal, recipe, UNKNOWN, UNKNOWN, UNKNOWN, null);
+        }
+        
+        boolean accepts(Grid grid) {
+            
+            if(this.ingredientCount != UNKNOWN && this.ingredientCount != grid.occupied()) {
+                return false;
+            }
+            if(this.width != UNKNOWN) {
+                if(this.width > grid.width() || this.height > grid.height()) {
+                    return false;
+                }
+                if(grid.usedWidth() > this.width || grid.usedHeight() > this.height) {
+                    return false;
+                }
+            }
+            return this.items == null || this.items.containsAll(grid.items());
+        }
+        
+        @Nullable
+        private static Set<Item> itemsOf(List<IIngredient> ingredients) {
+            
+            final Set<Item> items = new HashSet<>();
+            for(IIngredient ingredient : ingredients) {
+                if(ingredient == null || ingredient == IIngredientEmpty.INSTANCE || ingredient instanceof IItemStack stack && stack.isEmpty()) {
+                    continue;
+                }
+                final Set<Item> matchable = IngredientUtil.getMatchableItems(ingredient);
+                if(matchable == null) {
+                    return null;
+                }
+                items.addAll(matchable);
+            }
+            return items;
+        }
+        
+        @Nullable
+        private static Set<Item> vanillaItemsOf(List<Ingredient> ingredients) {
+            
+            final Set<Item> items = new HashSet<>();
+            for(Ingredient ingredient : ingredients) {
+                if(ingredient == Ingredient.EMPTY) {
+                    continue;
+                }
+                if(ingredient.getClass() != Ingredient.class) {
+                    return null;
+                }
+                // Read the values instead of Ingredient#getItems, which would cache the items of tags that may not be
+                // bound yet in the ingredient itself
+                for(Ingredient.Value value : ((AccessIngredient) (Object) ingredient).getValues()) {
+                    value.getItems().forEach(stack -> items.add(stack.getItem()));
+                }
+            }
+            return items;
+        }
+        
+    }
+    
+}
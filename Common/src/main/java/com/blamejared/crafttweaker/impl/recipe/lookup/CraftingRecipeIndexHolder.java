@@ -0,0 +1,15 @@
+package com.blamejared.crafttweaker.impl.recipe.lookup;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented on the RecipeManager through a mixin, holds the crafting recipe index of that manager.
+ */
+public interface CraftingRecipeIndexHolder {
+    
+    @Nullable
+    CraftingRecipeIndex ct$getCraftingIndex();
+    
+    void ct$setCraftingIndex(@Nullable CraftingRecipeIndex index);
+    
+}
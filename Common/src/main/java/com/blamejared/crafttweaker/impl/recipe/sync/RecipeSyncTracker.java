@@ -0,0 +1,217 @@
+package com.blamejared.crafttweaker.impl.recipe.sync;
+
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.impl.network.message.MessageRecipeDelta;
+import com.blamejared.crafttweaker.platform.Services;
+import com.google.common.hash.Hashing;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundUpdateRecipesPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps track of the recipes that scripts changed, so a reload only has to send the changed recipes to the players
+ * instead of every recipe.
+ *
+ * Every reload starts a new generation. While scripts run, the ids of the recipes that are added, removed or replaced
+ * through a {@link com.blamejared.crafttweaker.api.recipe.RecipeList} are recorded. When the recipes are sent to a
+ * player that has the previous generation, only the recipes with those ids (of this generation and the previous one)
+ * are sent.
+ *
+ * Every recipe is also hashed once per generation, the way it is sent to the client. If a recipe that scripts did not
+ * touch changed, for example because a datapack was edited, all recipes are sent like vanilla does.
+ */
+public final class RecipeSyncTracker {
+    
+    /**
+     * Deltas that are bigger than this are not sent, a custom payload cannot be bigger than 1MiB.
+     */
+    private static final int MAX_DELTA_SIZE = 1_000_000;
+    
+    private static final Map<UUID, Integer> SYNCED_GENERATIONS = new HashMap<>();
+    
+    private static int generation;
+    private static boolean recording;
+    private static Set<ResourceLocation> changedIds = new HashSet<>();
+    private static Set<ResourceLocation> previousChangedIds = new HashSet<>();
+    @Nullable
+    private static Object2LongMap<ResourceLocation> hashes;
+    @Nullable
+    private static Object2LongMap<ResourceLocation> previousHashes;
+    private static boolean deltaPrepared;
+    @Nullable
+    private static MessageRecipeDelta delta;
+    
+    private RecipeSyncTracker() {}
+    
+    /**
+     * Starts a new generation, called before scripts are run on a reload.
+     */
+    public static synchronized void beginReload() {
+        
+        generation++;
+        previousChangedIds = changedIds;
+        changedIds = new HashSet<>();
+        previousHashes = hashes;
+        hashes = null;
+        deltaPrepared = false;
+        delta = null;
+        recording = true;
+    }
+    
+    /**
+     * Stops recording changes, called after scripts ran on a reload.
+     */
+    public static synchronized void endReload() {
+        
+        recording = false;
+    }
+    
+    /**
+     * Records that the recipe with the given id was added, removed or replaced.
+     *
+     * @param id The id of the recipe.
+     */
+    public static synchronized void onRecipeChanged(ResourceLocation id) {
+        
+        if(recording) {
+            changedIds.add(id);
+        }
+    }
+    
+    /**
+     * Records that the given player was sent all recipes of the current generation.
+     *
+     * @param player  The player that was sent the recipes.
+     * @param manager The recipe manager the recipes were taken from.
+     */
+    public static synchronized void onFullSync(ServerPlayer player, RecipeManager manager) {
+        
+        // The hashes are only needed if a player has this generation, so they are computed here instead of on reload
+        getHashes(manager);
+        SYNCED_GENERATIONS.put(player.getUUID(), generation);
+    }
+    
+    /**
+     * Forgets the given player, called when they leave the server.
+     *
+     * @param player The player that left.
+     */
+    public static synchronized void forget(ServerPlayer player) {
+        
+        SYNCED_GENERATIONS.remove(player.getUUID());
+    }
+    
+    /**
+     * Sends only the changed recipes to the given player, if they have the previous generation.
+     *
+     * @param player  The player to send the recipes to.
+     * @param manager The recipe manager to take the recipes from.
+     *
+     * @return True if the changes were sent, false if all recipes have to be sent instead.
+     */
+    public static synchronized boolean trySendDelta(ServerPlayer player, RecipeManager manager) {
+        
+        final Integer synced = SYNCED_GENERATIONS.get(player.getUUID());
+        if(synced == null || synced != generation - 1 || !Services.NETWORK.canSendMessages(player)) {
+            return false;
+        }
+        
+        if(!deltaPrepared) {
+            delta = prepareDelta(manager);
+            deltaPrepared = true;
+        }
+        if(delta == null) {
+            return false;
+        }
+        
+        Services.NETWORK.sendRecipeDeltaMessage(player, delta);
+        SYNCED_GENERATIONS.put(player.getUUID(), generation);
+        return true;
+    }
+    
+    @Nullable
+    private static MessageRecipeDelta prepareDelta(RecipeManager manager) {
+        
+        if(previousHashes == null) {
+            return null;
+        }
+        final Object2LongMap<ResourceLocation> currentHashes = getHashes(manager);
+        final Set<ResourceLocation> expected = new HashSet<>(changedIds);
+        expected.addAll(previousChangedIds);
+        
+        final List<ResourceLocation> removed = new ArrayList<>();
+        for(ResourceLocation id : previousHashes.keySet()) {
+            if(!currentHashes.containsKey(id)) {
+                if(!expected.contains(id)) {
+                    return unexpectedChange(id);
+                }
+                removed.add(id);
+            }
+        }
+        
+        final List<Recipe<?>> recipes = new ArrayList<>();
+        for(Recipe<?> recipe : manager.getRecipes()) {
+            final ResourceLocation id = recipe.getId();
+            if(!previousHashes.containsKey(id) || previousHashes.getLong(id) != currentHashes.getLong(id)) {
+                if(!expected.contains(id)) {
+                    return unexpectedChange(id);
+                }
+                recipes.add(recipe);
+            }
+        }
+        
+        final MessageRecipeDelta message = new MessageRecipeDelta(removed, recipes);
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        message.serialize(buffer);
+        if(buffer.readableBytes() > MAX_DELTA_SIZE) {
+            CraftTweakerAPI.LOGGER.debug("Changed recipes are too big to be sent on their own, sending all recipes.");
+            return null;
+        }
+        CraftTweakerAPI.LOGGER.debug("Sending {} changed and {} removed recipes instead of all recipes.", recipes.size(), removed.size());
+        return message;
+    }
+    
+    @Nullable
+    private static MessageRecipeDelta unexpectedChange(ResourceLocation id) {
+        
+        CraftTweakerAPI.LOGGER.debug("Recipe '{}' was changed outside of scripts, sending all recipes.", id);
+        return null;
+    }
+    
+    private static Object2LongMap<ResourceLocation> getHashes(RecipeManager manager) {
+        
+        if(hashes == null) {
+            hashes = computeHashes(manager.getRecipes());
+        }
+        return hashes;
+    }
+    
+    private static Object2LongMap<ResourceLocation> computeHashes(Collection<Recipe<?>> recipes) {
+        
+        final Object2LongMap<ResourceLocation> result = new Object2LongOpenHashMap<>(recipes.size());
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        for(Recipe<?> recipe : recipes) {
+            buffer.clear();
+            ClientboundUpdateRecipesPacket.toNetwork(recipe, buffer);
+            result.put(recipe.getId(), Hashing.murmur3_128().hashBytes(buffer.nioBuffer()).asLong());
+        }
+        return result;
+    }
+    
+}
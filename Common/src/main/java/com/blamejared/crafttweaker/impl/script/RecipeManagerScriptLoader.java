@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.impl.script;
 import com.blamejared.crafttweaker.CraftTweakerRegistries;
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.impl.recipe.lookup.CraftingRecipeIndex;
 import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
 import com.blamejared.crafttweaker.platform.Services;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -34,6 +35,7 @@ public class RecipeManagerScriptLoader {
         final ScriptLoadingOptions scriptLoadingOptions = new ScriptLoadingOptions().setSource(ScriptLoadingOptions.CLIENT_RECIPES_UPDATED_SCRIPT_SOURCE)
                 .execute();
         CraftTweakerAPI.loadScriptsFromRecipeManager(manager, scriptLoadingOptions);
+        CraftingRecipeIndex.rebuild(manager);
     }
     
 }
@@ -5,6 +5,8 @@ import com.blamejared.crafttweaker.CraftTweakerRegistries;
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.CraftTweakerConstants;
 import com.blamejared.crafttweaker.api.ScriptLoadingOptions;
+import com.blamejared.crafttweaker.impl.recipe.lookup.CraftingRecipeIndex;
+import com.blamejared.crafttweaker.impl.recipe.sync.RecipeSyncTracker;
 import com.blamejared.crafttweaker.mixin.common.access.recipe.AccessRecipeManager;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.TranslatableComponent;
@@ -64,6 +66,7 @@ public class ScriptReloadListener extends SimplePreparableReloadListener<Void> {
         accessRecipeManager.setByName(new HashMap<>(accessRecipeManager.getByName()));
         CraftTweakerAPI.setRecipeManager(recipeManager);
         
+        RecipeSyncTracker.beginReload();
         CraftTweakerAPI.loadScripts(new ScriptLoadingOptions().setSource(ScriptLoadingOptions.RELOAD_LISTENER_SCRIPT_SOURCE)
                 .execute());
         List<File> scriptFiles = CraftTweakerAPI.getScriptFiles();
@@ -76,7 +79,10 @@ public class ScriptReloadListener extends SimplePreparableReloadListener<Void> {
                     Map<ResourceLocation, Recipe<?>> map = accessRecipeManager.getRecipes()
                             .computeIfAbsent(CraftTweakerRegistries.RECIPE_TYPE_SCRIPTS, iRecipeType -> new HashMap<>());
                     map.put(scriptRecipe.getId(), scriptRecipe);
+                    RecipeSyncTracker.onRecipeChanged(scriptRecipe.getId());
                 });
+        RecipeSyncTracker.endReload();
+        CraftingRecipeIndex.rebuild(recipeManager);
         feedbackConsumer.accept(MSG_RELOAD_COMPLETE);
         if(scriptFiles.size() > 0 && !CraftTweakerAPI.NO_BRAND) {
             Set<String> patronList = CraftTweakerCommon.getPatronList();
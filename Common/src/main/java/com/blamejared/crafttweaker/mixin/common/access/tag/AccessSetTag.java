@@ -26,6 +26,9 @@ public interface AccessSetTag {
     @Accessor("values")
     <T> void setValues(Set<T> valuesList);
     
+    @Accessor("closestCommonSuperType")
+    Class<?> getClosestCommonSuperType();
+    
     @Mutable
     @Accessor("closestCommonSuperType")
     <T> void setClosestCommonSuperType(Class<?> valuesList);
@@ -0,0 +1,71 @@
+package com.blamejared.crafttweaker.mixin.common.transform.recipe;
+
+import com.blamejared.crafttweaker.impl.recipe.lookup.CraftingRecipeIndex;
+import com.blamejared.crafttweaker.impl.recipe.lookup.CraftingRecipeIndexHolder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+
+@Mixin(RecipeManager.class)
+public abstract class MixinRecipeManager implements CraftingRecipeIndexHolder {
+    
+    @Shadow
+    private Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes;
+    
+    @Unique
+    @Nullable
+    private volatile CraftingRecipeIndex ct$craftingIndex;
+    
+    @SuppressWarnings("unchecked")
+    @Inject(method = "getRecipeFor(Lnet/minecraft/world/item/crafting/RecipeType;Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;)Ljava/util/Optional;", at = @At("HEAD"), cancellable = true)
+    private <C extends Container, T extends Recipe<C>> void ct$getRecipeFor$useCraftingIndex(RecipeType<T> type, C container, Level level, CallbackInfoReturnable<Optional<T>> cir) {
+        
+        if(type != RecipeType.CRAFTING || !(container instanceof CraftingContainer craftingContainer)) {
+            return;
+        }
+        
+        CraftingRecipeIndex index = this.ct$craftingIndex;
+        if(index == null) {
+            return;
+        }
+        
+        if(!index.isCurrent(this.recipes.get(RecipeType.CRAFTING))) {
+            // The recipes were changed by something else, catch up before using the index again
+            CraftingRecipeIndex.rebuild((RecipeManager) (Object) this);
+            index = this.ct$craftingIndex;
+            if(index == null) {
+                return;
+            }
+        }
+        
+        cir.setReturnValue((Optional<T>) (Optional<?>) index.find(craftingContainer, level));
+    }
+    
+    @Override
+    @Nullable
+    public CraftingRecipeIndex ct$getCraftingIndex() {
+        
+        return this.ct$craftingIndex;
+    }
+    
+    @Override
+    public void ct$setCraftingIndex(@Nullable CraftingRecipeIndex index) {
+        
+        this.ct$craftingIndex = index;
+    }
+    
+}
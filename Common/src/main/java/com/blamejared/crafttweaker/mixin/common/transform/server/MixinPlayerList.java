@@ -0,0 +1,52 @@
+package com.blamejared.crafttweaker.mixin.common.transform.server;
+
+import com.blamejared.crafttweaker.impl.recipe.sync.RecipeSyncTracker;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundUpdateRecipesPacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.server.players.PlayerList;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(PlayerList.class)
+public abstract class MixinPlayerList {
+    
+    @Shadow
+    @Final
+    private MinecraftServer server;
+    
+    @Redirect(method = "reloadResources", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;send(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void ct$reloadResources$sendRecipeDelta(ServerGamePacketListenerImpl listener, Packet<?> packet) {
+        
+        if(!(packet instanceof ClientboundUpdateRecipesPacket)) {
+            listener.send(packet);
+            return;
+        }
+        
+        if(!RecipeSyncTracker.trySendDelta(listener.player, this.server.getRecipeManager())) {
+            listener.send(packet);
+            RecipeSyncTracker.onFullSync(listener.player, this.server.getRecipeManager());
+        }
+    }
+    
+    @Inject(method = "placeNewPlayer", at = @At("TAIL"))
+    private void ct$placeNewPlayer$trackRecipeSync(Connection connection, ServerPlayer player, CallbackInfo ci) {
+        
+        RecipeSyncTracker.onFullSync(player, this.server.getRecipeManager());
+    }
+    
+    @Inject(method = "remove", at = @At("TAIL"))
+    private void ct$remove$forgetRecipeSync(ServerPlayer player, CallbackInfo ci) {
+        
+        RecipeSyncTracker.forget(player);
+    }
+    
+}
@@ -2,9 +2,12 @@ package com.blamejared.crafttweaker.natives.block.entity;
 
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.util.DataPathUtil;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -42,6 +45,46 @@ public class ExpandBlockEntity {
         internal.load(getData(internal).merge(data).getInternal());
     }
     
+    /**
+     * Gets the data at the given path of this BlockEntity, using the same path syntax as the {@code /data} command.
+     *
+     * @param path The path of the data to get.
+     *
+     * @return The data at the path, or null if there is no data at the path.
+     *
+     * @docParam path "Items[0].id"
+     */
+    @ZenCodeType.Method
+    @ZenCodeType.Nullable
+    public static IData getDataAt(BlockEntity internal, String path) {
+        
+        return DataPathUtil.getAt(internal.saveWithoutMetadata(), path);
+    }
+    
+    /**
+     * Sets the data at the given path of this BlockEntity, using the same path syntax as the {@code /data} command.
+     *
+     * @param path  The path of the data to set.
+     * @param value The new value.
+     *
+     * @docParam path "Lock"
+     * @docParam value "myKey"
+     */
+    @ZenCodeType.Method
+    public static void setDataAt(BlockEntity internal, String path, IData value) {
+        
+        final CompoundTag tag = internal.saveWithoutMetadata();
+        DataPathUtil.setAt(tag, path, value);
+        internal.load(tag);
+        internal.setChanged();
+        
+        final Level level = internal.getLevel();
+        if(level != null) {
+            final BlockState state = internal.getBlockState();
+            level.sendBlockUpdated(internal.getBlockPos(), state, state, 3);
+        }
+    }
+    
     @ZenCodeType.Method
     @ZenCodeType.Getter("blockPos")
     public static BlockPos getBlockPos(BlockEntity internal) {
@@ -3,6 +3,8 @@ package com.blamejared.crafttweaker.natives.entity;
 import com.blamejared.crafttweaker.api.CraftTweakerConstants;
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.base.IData;
+import com.blamejared.crafttweaker.api.util.DataPathUtil;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import net.minecraft.core.BlockPos;
@@ -26,6 +28,7 @@ import org.openzen.zencode.java.ZenCodeType;
 
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 @ZenRegister
@@ -1126,4 +1129,45 @@ public class ExpandEntity {
         return new MapData(internal.saveWithoutId(new CompoundTag()));
     }
     
+    /**
+     * Gets the NBT data at the given path of this Entity, using the same path syntax as the {@code /data} command.
+     *
+     * @param path The path of the data to get.
+     *
+     * @return The data at the path, or null if there is no data at the path.
+     *
+     * @docParam path "ForgeData.myMod.counter"
+     */
+    @ZenCodeType.Method
+    @ZenCodeType.Nullable
+    public static IData getDataAt(Entity internal, String path) {
+        
+        return DataPathUtil.getAt(internal.saveWithoutId(new CompoundTag()), path);
+    }
+    
+    /**
+     * Sets the NBT data at the given path of this Entity, using the same path syntax as the {@code /data} command.
+     *
+     * The data of players cannot be changed.
+     *
+     * @param path  The path of the data to set.
+     * @param value The new value.
+     *
+     * @docParam path "ForgeData.myMod.counter"
+     * @docParam value 5
+     */
+    @ZenCodeType.Method
+    public static void setDataAt(Entity internal, String path, IData value) {
+        
+        if(internal instanceof Player) {
+            throw new IllegalArgumentException("Cannot change the data of a player!");
+        }
+        
+        final CompoundTag tag = internal.saveWithoutId(new CompoundTag());
+        DataPathUtil.setAt(tag, path, value);
+        final UUID uuid = internal.getUUID();
+        internal.load(tag);
+        internal.setUUID(uuid);
+    }
+    
 }
@@ -2,7 +2,9 @@ package com.blamejared.crafttweaker.natives.world;
 
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
 import com.blamejared.crafttweaker.api.data.MapData;
+import com.blamejared.crafttweaker.api.data.base.IData;
 import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
+import com.blamejared.crafttweaker.natives.block.entity.ExpandBlockEntity;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import com.blamejared.crafttweaker_annotations.annotations.NativeTypeRegistration;
 import net.minecraft.core.BlockPos;
@@ -231,6 +233,26 @@ public class ExpandLevel {
         return te == null ? new MapData() : TagToDataConverter.convertCompound(te.saveWithoutMetadata());
     }
     
+    /**
+     * Gets the data at the given path of the block entity at a given position, using the same path syntax as the
+     * {@code /data} command.
+     *
+     * @param pos  The position of the block entity.
+     * @param path The path of the data to get.
+     *
+     * @return The data at the path, or null if there is no block entity or no data at the path.
+     *
+     * @docParam pos new BlockPos(0, 1, 2)
+     * @docParam path "Items[0].id"
+     */
+    @ZenCodeType.Method
+    @ZenCodeType.Nullable
+    public static IData getBlockEntityDataAt(Level internal, BlockPos pos, String path) {
+        
+        BlockEntity te = internal.getBlockEntity(pos);
+        return te == null ? null : ExpandBlockEntity.getDataAt(te, path);
+    }
+    
     /**
      * Sets the block and it's state at a given position.
      *
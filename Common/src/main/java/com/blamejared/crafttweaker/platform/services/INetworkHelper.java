@@ -3,12 +3,19 @@ package com.blamejared.crafttweaker.platform.services;
 import com.blamejared.crafttweaker.api.CraftTweakerConstants;
 import com.blamejared.crafttweaker.impl.network.message.MessageCopy;
 import com.blamejared.crafttweaker.impl.network.message.MessageOpen;
+import com.blamejared.crafttweaker.impl.network.message.MessageRecipeDelta;
 import net.minecraft.server.level.ServerPlayer;
 
 public interface INetworkHelper {
     
     void sendCopyMessage(ServerPlayer target, MessageCopy message);
     void sendOpenMessage(ServerPlayer target, MessageOpen message);
+    void sendRecipeDeltaMessage(ServerPlayer target, MessageRecipeDelta message);
+    
+    /**
+     * Checks if the given player has CraftTweaker installed and can be sent messages.
+     */
+    boolean canSendMessages(ServerPlayer target);
     
     default String getNetworkVersion(){
         return CraftTweakerConstants.NETWORK_VERSION;
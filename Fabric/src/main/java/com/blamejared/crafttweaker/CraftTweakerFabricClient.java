@@ -2,8 +2,10 @@ package com.blamejared.crafttweaker;
 
 import com.blamejared.crafttweaker.api.logger.CraftTweakerLogger;
 import com.blamejared.crafttweaker.impl.network.message.ClientMessages;
+import com.blamejared.crafttweaker.impl.network.message.IMessage;
 import com.blamejared.crafttweaker.platform.Services;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -23,10 +25,14 @@ public class CraftTweakerFabricClient implements ClientModInitializer {
             CraftTweakerLogger.removePlayer(client.player);
         });
         
+        ClientTickEvents.END_CLIENT_TICK.register(client -> CraftTweakerLogger.sendPendingMessages());
+        
         for(ClientMessages msg : ClientMessages.values()) {
-            ClientPlayNetworking.registerGlobalReceiver(msg.getId(), (client, handler, buf, responseSender) -> msg.getMessageFactory()
-                    .apply(buf)
-                    .handle());
+            ClientPlayNetworking.registerGlobalReceiver(msg.getId(), (client, handler, buf, responseSender) -> {
+                // Messages are read on the network thread, but have to be handled on the client thread
+                final IMessage message = msg.getMessageFactory().apply(buf);
+                client.execute(message::handle);
+            });
         }
         
         
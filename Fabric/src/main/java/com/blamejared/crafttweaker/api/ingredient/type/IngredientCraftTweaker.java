@@ -37,9 +37,8 @@ public abstract class IngredientCraftTweaker<T extends IIngredient> extends Ingr
     private static Stream<Value> getValues(IItemStack[] items) {
         
         // TODO This may cause issues since we have such a big value array, it needs more investigation
+        // The items are stacks already, expanding them again would only copy each of them once more
         return Arrays.stream(items)
-                .map(IIngredient::getItems)
-                .flatMap(Arrays::stream)
                 .map(IItemStack::getInternal)
                 .map(ItemValue::new);
     }
@@ -1,11 +1,9 @@
 package com.blamejared.crafttweaker.api.ingredient.type;
 
-import com.blamejared.crafttweaker.api.data.MapData;
-import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
 import com.blamejared.crafttweaker.api.ingredient.serializer.IngredientPartialTagSerializer;
+import com.blamejared.crafttweaker.api.util.PartialNbtPredicate;
 import com.faux.ingredientextension.api.ingredient.IngredientExtendable;
 import com.faux.ingredientextension.api.ingredient.serializer.IIngredientSerializer;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 
@@ -15,11 +13,18 @@ import java.util.stream.Stream;
 public class IngredientPartialTag extends IngredientExtendable {
     
     private final ItemStack stack;
+    private final PartialNbtPredicate nbt;
+    /**
+     * Whether the item alone decides if a stack matches, in which case the stacking ids can be used.
+     */
+    private final boolean simple;
     
     public IngredientPartialTag(ItemStack stack) {
         
         super(Stream.of(new Ingredient.ItemValue(stack)));
         this.stack = stack;
+        this.nbt = PartialNbtPredicate.of(stack.getTag());
+        this.simple = nbt.acceptsAny() && !stack.isDamageableItem();
     }
     
     @Override
@@ -28,29 +33,17 @@ public class IngredientPartialTag extends IngredientExtendable {
         if(input == null) {
             return false;
         }
-        CompoundTag stack1Tag = this.stack.getTag();
-        CompoundTag stack2Tag = input.getTag();
-        if(stack1Tag == null && stack2Tag == null) {
-            return true;
-        }
-        // Lets just use the partial nbt
-        MapData stack2Data = (MapData) TagToDataConverter.convert(stack2Tag);
-        MapData stack1Data = (MapData) TagToDataConverter.convert(stack1Tag);
-        boolean contains;
-        if(stack1Data == null) {
-            contains = true;
-        } else {
-            contains = stack2Data != null && stack2Data.contains(stack1Data);
+        // Checking the item first means the NBT only has to be looked at for stacks that could actually match
+        if(this.stack.getItem() != input.getItem() || this.stack.getDamageValue() != input.getDamageValue()) {
+            return false;
         }
-        
-        
-        return this.stack.getItem() == input.getItem() && this.stack.getDamageValue() == input.getDamageValue() && contains;
+        return nbt.test(input.getTag());
     }
     
     @Override
     public boolean requiresTesting() {
         
-        return false;
+        return !simple;
     }
     
     public ItemStack getStack() {
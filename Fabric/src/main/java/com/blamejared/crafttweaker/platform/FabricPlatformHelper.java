@@ -63,6 +63,12 @@ import java.util.stream.Stream;
 
 public class FabricPlatformHelper implements IPlatformHelper {
     
+    /**
+     * The empty stack never changes, so every immutable wrapper of it can be the same instance.
+     * Crafting grids are mostly empty slots, which makes this the most common stack to wrap.
+     */
+    private static final IItemStack EMPTY_STACK = new MCItemStack(ItemStack.EMPTY);
+    
     public Supplier<List<Mod>> modList = Suppliers.memoize(() -> FabricLoader.getInstance()
             .getAllMods()
             .stream()
@@ -112,6 +118,9 @@ public class FabricPlatformHelper implements IPlatformHelper {
     @Override
     public IItemStack createMCItemStack(ItemStack stack) {
         
+        if(stack == ItemStack.EMPTY) {
+            return EMPTY_STACK;
+        }
         return new MCItemStack(stack);
     }
     
@@ -124,7 +133,7 @@ public class FabricPlatformHelper implements IPlatformHelper {
     @Override
     public IItemStack getEmptyIItemStack() {
         
-        return MCItemStack.EMPTY.get();
+        return EMPTY_STACK;
     }
     
     @Override
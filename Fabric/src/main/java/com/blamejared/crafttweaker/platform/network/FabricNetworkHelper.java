@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.platform.network;
 import com.blamejared.crafttweaker.impl.network.message.ClientMessages;
 import com.blamejared.crafttweaker.impl.network.message.MessageCopy;
 import com.blamejared.crafttweaker.impl.network.message.MessageOpen;
+import com.blamejared.crafttweaker.impl.network.message.MessageRecipeDelta;
 import com.blamejared.crafttweaker.platform.services.INetworkHelper;
 import io.netty.buffer.Unpooled;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
@@ -27,4 +28,18 @@ public class FabricNetworkHelper implements INetworkHelper {
         ServerPlayNetworking.send(target, ClientMessages.OPEN.getId(), buf);
     }
     
+    @Override
+    public void sendRecipeDeltaMessage(ServerPlayer target, MessageRecipeDelta message) {
+        
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        message.serialize(buf);
+        ServerPlayNetworking.send(target, ClientMessages.RECIPE_DELTA.getId(), buf);
+    }
+    
+    @Override
+    public boolean canSendMessages(ServerPlayer target) {
+        
+        return ServerPlayNetworking.canSend(target, ClientMessages.RECIPE_DELTA.getId());
+    }
+    
 }
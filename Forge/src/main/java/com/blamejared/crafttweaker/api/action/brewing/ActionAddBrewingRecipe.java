@@ -2,8 +2,8 @@ package com.blamejared.crafttweaker.api.action.brewing;
 
 import com.blamejared.crafttweaker.api.ingredient.IIngredient;
 import com.blamejared.crafttweaker.api.item.MCItemStackMutable;
+import com.blamejared.crafttweaker.api.recipe.ScriptedBrewingRecipes;
 import net.minecraftforge.common.brewing.BrewingRecipe;
-import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
 
 import java.util.List;
@@ -11,6 +11,7 @@ import java.util.List;
 public class ActionAddBrewingRecipe extends ActionBrewingBase {
     
     private final BrewingRecipe recipe;
+    private ScriptedBrewingRecipes.Entry entry;
     
     public ActionAddBrewingRecipe(List<IBrewingRecipe> recipes, BrewingRecipe recipe) {
         
@@ -21,13 +22,16 @@ public class ActionAddBrewingRecipe extends ActionBrewingBase {
     @Override
     public void apply() {
         
-        BrewingRecipeRegistry.addRecipe(recipe);
+        entry = ScriptedBrewingRecipes.INSTANCE.add(recipe);
     }
     
     @Override
     public void undo() {
         
-        recipes.remove(recipe);
+        if(entry != null) {
+            ScriptedBrewingRecipes.INSTANCE.remove(List.of(entry));
+            entry = null;
+        }
     }
     
     @Override
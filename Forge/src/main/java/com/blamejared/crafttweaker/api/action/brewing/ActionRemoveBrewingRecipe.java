@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.api.action.brewing;
 
 import com.blamejared.crafttweaker.api.item.IItemStack;
 import com.blamejared.crafttweaker.api.item.MCItemStackMutable;
+import com.blamejared.crafttweaker.api.recipe.ScriptedBrewingRecipes;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
@@ -13,6 +14,7 @@ import java.util.List;
 public class ActionRemoveBrewingRecipe extends ActionBrewingBase {
     
     private final List<IBrewingRecipe> removedRecipes = new ArrayList<>();
+    private final List<ScriptedBrewingRecipes.Entry> removedScripted = new ArrayList<>();
     private final IItemStack input;
     private final IItemStack output;
     private final IItemStack reagentStack;
@@ -32,18 +34,35 @@ public class ActionRemoveBrewingRecipe extends ActionBrewingBase {
         Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
         while(registryIterator.hasNext()) {
             IBrewingRecipe next = registryIterator.next();
+            if(next == ScriptedBrewingRecipes.INSTANCE) {
+                continue;
+            }
             ItemStack recipeOutput = next.getOutput(input.getInternal(), this.reagentStack.getInternal());
             if(!recipeOutput.isEmpty() && output.matches(new MCItemStackMutable(recipeOutput))) {
                 removedRecipes.add(next);
                 registryIterator.remove();
             }
         }
+        
+        removedScripted.addAll(ScriptedBrewingRecipes.INSTANCE.remove(ScriptedBrewingRecipes.INSTANCE.getReagentCandidates(this.reagentStack.getInternal())
+                .stream()
+                .filter(this::matches)
+                .toList()));
+    }
+    
+    private boolean matches(ScriptedBrewingRecipes.Entry entry) {
+        
+        ItemStack recipeOutput = entry.recipe().getOutput(input.getInternal(), this.reagentStack.getInternal());
+        return !recipeOutput.isEmpty() && output.matches(new MCItemStackMutable(recipeOutput));
     }
     
     @Override
     public void undo() {
         
         removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        ScriptedBrewingRecipes.INSTANCE.restore(removedScripted);
+        removedRecipes.clear();
+        removedScripted.clear();
     }
     
     @Override
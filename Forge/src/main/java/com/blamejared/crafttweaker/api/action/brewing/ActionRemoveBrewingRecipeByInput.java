@@ -1,6 +1,7 @@
 package com.blamejared.crafttweaker.api.action.brewing;
 
 import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.ScriptedBrewingRecipes;
 import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
 import net.minecraftforge.common.brewing.IBrewingRecipe;
 
@@ -12,6 +13,7 @@ public class ActionRemoveBrewingRecipeByInput extends ActionBrewingBase {
     
     private final IItemStack input;
     private final List<IBrewingRecipe> removedRecipes = new ArrayList<>();
+    private final List<ScriptedBrewingRecipes.Entry> removedScripted = new ArrayList<>();
     
     public ActionRemoveBrewingRecipeByInput(List<IBrewingRecipe> recipes, IItemStack input) {
         
@@ -25,17 +27,28 @@ public class ActionRemoveBrewingRecipeByInput extends ActionBrewingBase {
         Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
         while(registryIterator.hasNext()) {
             IBrewingRecipe next = registryIterator.next();
+            if(next == ScriptedBrewingRecipes.INSTANCE) {
+                continue;
+            }
             if(next.isInput(input.getInternal())) {
                 removedRecipes.add(next);
                 registryIterator.remove();
             }
         }
+        
+        removedScripted.addAll(ScriptedBrewingRecipes.INSTANCE.remove(ScriptedBrewingRecipes.INSTANCE.getInputCandidates(input.getInternal())
+                .stream()
+                .filter(entry -> entry.recipe().isInput(input.getInternal()))
+                .toList()));
     }
     
     @Override
     public void undo() {
         
         removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        ScriptedBrewingRecipes.INSTANCE.restore(removedScripted);
+        removedRecipes.clear();
+        removedScripted.clear();
     }
     
     @Override
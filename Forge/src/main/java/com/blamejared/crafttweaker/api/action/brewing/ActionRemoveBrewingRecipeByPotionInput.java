@@ -54,6 +54,7 @@ public class ActionRemoveBrewingRecipeByPotionInput extends ActionBrewingBase {
             }
             AccessPotionBrewing.callAddMix(potion.from.get(), itemReagent.getItems()[0].getItem(), potionOutput.get());
         }
+        removed.clear();
     }
     
     @Override
@@ -57,6 +57,7 @@ public class ActionRemoveBrewingRecipeByPotionOutput extends ActionBrewingBase {
             
             AccessPotionBrewing.callAddMix(potionInput.get(), itemReagent.getItems()[0].getItem(), potionOutput.get());
         }
+        removed.clear();
     }
     
     @Override
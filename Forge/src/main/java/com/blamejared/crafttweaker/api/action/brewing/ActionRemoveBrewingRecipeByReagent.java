@@ -2,6 +2,7 @@ package com.blamejared.crafttweaker.api.action.brewing;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.item.IItemStack;
+import com.blamejared.crafttweaker.api.recipe.ScriptedBrewingRecipes;
 import com.blamejared.crafttweaker.mixin.common.access.brewing.AccessPotionBrewing;
 import net.minecraft.world.item.alchemy.Potion;
 import net.minecraft.world.item.alchemy.PotionBrewing;
@@ -19,6 +20,7 @@ public class ActionRemoveBrewingRecipeByReagent extends ActionBrewingBase {
     private final IItemStack reagent;
     private final List<PotionBrewing.Mix<Potion>> removed = new ArrayList<>();
     private final List<IBrewingRecipe> removedRecipes = new ArrayList<>();
+    private final List<ScriptedBrewingRecipes.Entry> removedScripted = new ArrayList<>();
     
     public ActionRemoveBrewingRecipeByReagent(List<IBrewingRecipe> recipes, IItemStack reagent) {
         
@@ -47,11 +49,19 @@ public class ActionRemoveBrewingRecipeByReagent extends ActionBrewingBase {
         Iterator<IBrewingRecipe> registryIterator = recipes.iterator();
         while(registryIterator.hasNext()) {
             IBrewingRecipe next = registryIterator.next();
+            if(next == ScriptedBrewingRecipes.INSTANCE) {
+                continue;
+            }
             if(next.isIngredient(reagent.getInternal())) {
                 removedRecipes.add(next);
                 registryIterator.remove();
             }
         }
+        
+        removedScripted.addAll(ScriptedBrewingRecipes.INSTANCE.remove(ScriptedBrewingRecipes.INSTANCE.getReagentCandidates(reagent.getInternal())
+                .stream()
+                .filter(entry -> entry.recipe().isIngredient(reagent.getInternal()))
+                .toList()));
     }
     
     @Override
@@ -68,6 +78,10 @@ public class ActionRemoveBrewingRecipeByReagent extends ActionBrewingBase {
             AccessPotionBrewing.callAddMix(potionInput.get(), itemReagent.getItems()[0].getItem(), potionOutput.get());
         }
         removedRecipes.forEach(BrewingRecipeRegistry::addRecipe);
+        ScriptedBrewingRecipes.INSTANCE.restore(removedScripted);
+        removed.clear();
+        removedRecipes.clear();
+        removedScripted.clear();
     }
     
     @Override
@@ -68,6 +68,7 @@ public class ActionRemovePotionBrewingRecipe extends ActionBrewingBase {
             
             AccessPotionBrewing.callAddMix(potionInput.get(), itemReagent.getItems()[0].getItem(), potionOutput.get());
         }
+        removed.clear();
     }
     
     @Override
@@ -1,5 +1,6 @@
 package com.blamejared.crafttweaker.api.action.event;
 
+import com.blamejared.crafttweaker.api.CraftTweakerAPI;
 import com.blamejared.crafttweaker.api.action.base.IUndoableAction;
 import com.blamejared.crafttweaker.api.event.EventHandlerWrapper;
 import net.minecraftforge.common.MinecraftForge;
@@ -11,7 +12,7 @@ import java.util.function.Consumer;
 public class ActionRegisterEvent<T extends Event> implements IUndoableAction {
     
     private final Class<T> typeOfT;
-    private final Consumer<T> consumer;
+    private final EventHandlerWrapper<T> consumer;
     private final EventPriority priority;
     
     public ActionRegisterEvent(Class<T> typeOfT, Consumer<T> consumer, EventPriority priority) {
@@ -23,6 +24,10 @@ public class ActionRegisterEvent<T extends Event> implements IUndoableAction {
     
     @Override
     public void apply() {
+        
+        if(CraftTweakerAPI.PROFILE_EVENT_HANDLERS) {
+            consumer.startProfiling(typeOfT.getSimpleName() + " (" + priority + ")");
+        }
         //Let's go completely safe and use the type
         MinecraftForge.EVENT_BUS.addListener(priority, false, typeOfT, consumer);
     }
@@ -37,6 +42,7 @@ public class ActionRegisterEvent<T extends Event> implements IUndoableAction {
     public void undo() {
         
         MinecraftForge.EVENT_BUS.unregister(consumer);
+        consumer.stopProfiling();
     }
     
     @Override
@@ -1,8 +1,10 @@
 package com.blamejared.crafttweaker.api.event;
 
 import com.blamejared.crafttweaker.api.CraftTweakerAPI;
+import com.blamejared.crafttweaker.impl.event.EventHandlerProfiler;
 import net.minecraftforge.eventbus.api.Event;
 
+import javax.annotation.Nullable;
 import java.util.function.Consumer;
 
 public class EventHandlerWrapper<T extends Event> implements Consumer<T> {
@@ -14,9 +16,51 @@ public class EventHandlerWrapper<T extends Event> implements Consumer<T> {
     
     private final Consumer<T> consumer;
     
+    @Nullable
+    private volatile EventHandlerProfiler.Entry profile;
+    
     @Override
     public void accept(T t) {
         
+        final EventHandlerProfiler.Entry profile = this.profile;
+        if(profile == null) {
+            acceptSafely(t);
+            return;
+        }
+        
+        if(profile.isDisabled()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        acceptSafely(t);
+        profile.record(System.nanoTime() - start);
+    }
+    
+    /**
+     * Starts measuring the time this handler takes.
+     *
+     * @param name The name of the handler, shown in the profile.
+     */
+    public void startProfiling(String name) {
+        
+        stopProfiling();
+        this.profile = EventHandlerProfiler.register(name);
+    }
+    
+    /**
+     * Stops measuring the time this handler takes.
+     */
+    public void stopProfiling() {
+        
+        final EventHandlerProfiler.Entry profile = this.profile;
+        if(profile != null) {
+            EventHandlerProfiler.unregister(profile);
+            this.profile = null;
+        }
+    }
+    
+    private void acceptSafely(T t) {
+        
         try {
             consumer.accept(t);
         } catch(Throwable throwable) {
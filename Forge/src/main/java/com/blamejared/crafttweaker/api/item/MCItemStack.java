@@ -5,8 +5,10 @@ import com.blamejared.crafttweaker.api.data.MapData;
 import com.blamejared.crafttweaker.api.data.base.converter.tag.TagToDataConverter;
 import com.blamejared.crafttweaker_annotations.annotations.Document;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import org.openzen.zencode.java.ZenCodeType;
 
+import javax.annotation.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -19,6 +21,14 @@ public class MCItemStack implements ForgeItemStack {
     // TODO move this somewhere else
     public static Supplier<MCItemStack> EMPTY = () -> new MCItemStack(ItemStack.EMPTY);
     private final ItemStack internal;
+    /**
+     * The vanilla ingredient built last, together with a copy of the stack it was built from.
+     *
+     * The internal stack is not copied when it is wrapped, so it may still be changed by whoever else holds it. The
+     * ingredient is only reused while the stack matches the copy.
+     */
+    @Nullable
+    private volatile VanillaIngredient vanillaIngredient;
     
     public MCItemStack(ItemStack internal) {
         
@@ -91,6 +101,17 @@ public class MCItemStack implements ForgeItemStack {
         return true;
     }
     
+    @Override
+    public Ingredient asVanillaIngredient() {
+        
+        VanillaIngredient cached = vanillaIngredient;
+        if(cached == null || !ItemStack.matches(cached.stack(), getInternal())) {
+            cached = new VanillaIngredient(getInternal().copy(), ForgeItemStack.super.asVanillaIngredient());
+            vanillaIngredient = cached;
+        }
+        return cached.ingredient();
+    }
+    
     @Override
     public ItemStack getInternal() {
         
@@ -147,4 +168,6 @@ public class MCItemStack implements ForgeItemStack {
         return Objects.hash(getInternal().getCount(), getInternal().getItem(), getInternal().getTag());
     }
     
+    private record VanillaIngredient(ItemStack stack, Ingredient ingredient) {}
+    
 }
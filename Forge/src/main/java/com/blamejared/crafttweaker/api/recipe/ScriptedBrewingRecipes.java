@@ -0,0 +1,282 @@
+package com.blamejared.crafttweaker.api.recipe;
+
+import com.blamejared.crafttweaker.api.util.IngredientUtil;
+import com.blamejared.crafttweaker.mixin.common.access.brewing.AccessBrewingRecipeRegistry;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.brewing.BrewingRecipe;
+import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
+import net.minecraftforge.common.brewing.IBrewingRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Holds all the brewing recipes added by scripts and is registered to Forge as the {@link IBrewingRecipe} that brews
+ * them.
+ *
+ * Forge asks every registered brewing recipe whether it accepts a stack each time a Brewing Stand ticks or checks a
+ * slot. Instead of testing every scripted recipe on its own, the recipes are indexed by the items their input and
+ * reagent can match, so only the recipes that could possibly accept a stack are tested. Recipes whose ingredients
+ * cannot be narrowed down to items (e.g. ingredients with NBT or conditions) are always tested, in the order they
+ * were added.
+ *
+ * Every scripted recipe is still registered as a {@link View}, so anything that lists the registered
+ * {@link BrewingRecipe}s (like recipe viewers) sees it as before.
+ */
+public final class ScriptedBrewingRecipes implements IBrewingRecipe {
+    
+    public static final ScriptedBrewingRecipes INSTANCE = new ScriptedBrewingRecipes();
+    
+    private static final Comparator<Entry> BY_ORDER = Comparator.comparingInt(Entry::order);
+    
+    private final List<Entry> entries = new ArrayList<>();
+    private int nextOrder;
+    /**
+     * Rebuilt on the first query after the recipes changed, as recipes only change while scripts are loaded.
+     */
+    @Nullable
+    private volatile Index index;
+    
+    private ScriptedBrewingRecipes() {}
+    
+    /**
+     * Adds a recipe after all the recipes that were already added.
+     */
+    public synchronized Entry add(BrewingRecipe recipe) {
+        
+        final Entry entry = new Entry(nextOrder++, recipe, new View(recipe));
+        entries.add(entry);
+        changed();
+        AccessBrewingRecipeRegistry.getRecipes().add(entry.view());
+        return entry;
+    }
+    
+    /**
+     * Removes the given entries.
+     *
+     * @return The entries that were actually removed.
+     */
+    public synchronized List<Entry> remove(Collection<Entry> toRemove) {
+        
+        final List<Entry> removed = new ArrayList<>(toRemove.size());
+        for(Entry entry : toRemove) {
+            if(entries.remove(entry)) {
+                removed.add(entry);
+            }
+        }
+        if(!removed.isEmpty()) {
+            changed();
+            AccessBrewingRecipeRegistry.getRecipes().removeAll(removed.stream().map(Entry::view).toList());
+        }
+        return removed;
+    }
+    
+    /**
+     * Adds previously removed entries back, at the position they had before they were removed.
+     */
+    public synchronized void restore(Collection<Entry> toRestore) {
+        
+        for(Entry entry : toRestore) {
+            final int position = Collections.binarySearch(entries, entry, BY_ORDER);
+            if(position < 0) {
+                entries.add(-position - 1, entry);
+            }
+        }
+        changed();
+        // Restored entries have to keep their position among the views as well
+        final List<IBrewingRecipe> registered = AccessBrewingRecipeRegistry.getRecipes();
+        registered.removeIf(View.class::isInstance);
+        entries.forEach(entry -> registered.add(entry.view()));
+    }
+    
+    /**
+     * Gets the entries whose input could match the given stack, in the order they were added.
+     * The entries still have to be tested, this only narrows them down.
+     */
+    public List<Entry> getInputCandidates(ItemStack stack) {
+        
+        return getIndex().input().candidates(stack.getItem());
+    }
+    
+    /**
+     * Gets the entries whose reagent could match the given stack, in the order they were added.
+     * The entries still have to be tested, this only narrows them down.
+     */
+    public List<Entry> getReagentCandidates(ItemStack stack) {
+        
+        return getIndex().reagent().candidates(stack.getItem());
+    }
+    
+    /**
+     * Gets all the entries, in the order they were added.
+     */
+    public List<Entry> getEntries() {
+        
+        return getIndex().entries();
+    }
+    
+    @Override
+    public boolean isInput(ItemStack input) {
+        
+        for(Entry entry : getInputCandidates(input)) {
+            if(entry.recipe().isInput(input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean isIngredient(ItemStack ingredient) {
+        
+        for(Entry entry : getReagentCandidates(ingredient)) {
+            if(entry.recipe().isIngredient(ingredient)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public ItemStack getOutput(ItemStack input, ItemStack ingredient) {
+        
+        if(input.isEmpty() || ingredient.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+        for(Entry entry : getReagentCandidates(ingredient)) {
+            final ItemStack output = entry.recipe().getOutput(input, ingredient);
+            if(!output.isEmpty()) {
+                return output;
+            }
+        }
+        return ItemStack.EMPTY;
+    }
+    
+    private void changed() {
+        
+        index = null;
+        final List<IBrewingRecipe> registered = AccessBrewingRecipeRegistry.getRecipes();
+        if(!registered.contains(this)) {
+            BrewingRecipeRegistry.addRecipe(this);
+        }
+    }
+    
+    private Index getIndex() {
+        
+        Index index = this.index;
+        if(index == null) {
+            synchronized(this) {
+                index = this.index;
+                if(index == null) {
+                    index = Index.of(List.copyOf(entries));
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * A scripted brewing recipe, the order is used to keep the recipes in the order they were added.
+     */
+    public record Entry(int order, BrewingRecipe recipe, View view) {}
+    
+    /**
+     * Stands in for a scripted recipe in Forge's brewing registry, with the same input, reagent and output.
+     *
+     * Brewing goes through {@link ScriptedBrewingRecipes}, so a view never accepts anything itself, otherwise every
+     * scripted recipe would be tested twice.
+     */
+    public static final class View extends BrewingRecipe {
+        
+        private View(BrewingRecipe recipe) {
+            
+            super(recipe.getInput(), recipe.getIngredient(), recipe.getOutput());
+        }
+        
+        @Override
+        public boolean isInput(ItemStack stack) {
+            
+            return false;
+        }
+        
+        @Override
+        public boolean isIngredient(ItemStack ingredient) {
+            
+            return false;
+        }
+        
+        @Override
+        public ItemStack getOutput(ItemStack input, ItemStack ingredient) {
+            
+            return ItemStack.EMPTY;
+        }
+        
+    }
+    
+    private record Index(List<Entry> entries, ItemIndex input, ItemIndex reagent) {
+        
+        static Index of(List<Entry> entries) {
+            
+            return new Index(entries, ItemIndex.of(entries, recipe -> IngredientUtil.getMatchableItems(recipe.getInput())), ItemIndex.of(entries, recipe -> IngredientUtil.getMatchableItems(recipe.getIngredient())));
+        }
+        
+    }
+    
+    /**
+     * Maps items to the entries that could match them, every list is sorted by order.
+     *
+     * @param fallback The entries whose ingredient could not be narrowed down to items.
+     */
+    private record ItemIndex(Map<Item, List<Entry>> byItem, List<Entry> fallback) {
+        
+        static ItemIndex of(List<Entry> entries, Function<BrewingRecipe, Set<Item>> itemsGetter) {
+            
+            final Map<Item, List<Entry>> byItem = new HashMap<>();
+            final List<Entry> fallback = new ArrayList<>();
+            for(Entry entry : entries) {
+                final Set<Item> items = itemsGetter.apply(entry.recipe());
+                if(items == null) {
+                    fallback.add(entry);
+                } else {
+                    items.forEach(item -> byItem.computeIfAbsent(item, it -> new ArrayList<>()).add(entry));
+                }
+            }
+            // Merge the fallback into each list once here, so queries never have to
+            byItem.replaceAll((item, list) -> merge(list, fallback));
+            return new ItemIndex(byItem, List.copyOf(fallback));
+        }
+        
+        List<Entry> candidates(Item item) {
+            
+            return byItem.getOrDefault(item, fallback);
+        }
+        
+        private static List<Entry> merge(List<Entry> first, List<Entry> second) {
+            
+            if(second.isEmpty()) {
+                return List.copyOf(first);
+            }
+            final List<Entry> merged = new ArrayList<>(first.size() + second.size());
+            int i = 0;
+            int j = 0;
+            while(i < first.size() && j < second.size()) {
+                merged.add(first.get(i).order() <= second.get(j).order() ? first.get(i++) : second.get(j++));
+            }
+            merged.addAll(first.subList(i, first.size()));
+            merged.addAll(second.subList(j, second.size()));
+            return List.copyOf(merged);
+        }
+        
+    }
+    
+}
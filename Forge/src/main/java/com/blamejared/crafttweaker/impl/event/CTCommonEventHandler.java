@@ -17,6 +17,7 @@ import net.minecraft.world.entity.npc.VillagerTrades;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.ItemAttributeModifierEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.furnace.FurnaceFuelBurnTimeEvent;
@@ -117,6 +118,15 @@ public class CTCommonEventHandler {
         CraftTweakerLogger.removePlayer(event.getPlayer());
     }
     
+    @SubscribeEvent
+    public static void serverTick(TickEvent.ServerTickEvent event) {
+        
+        if(event.phase == TickEvent.Phase.END) {
+            CraftTweakerLogger.sendPendingMessages();
+            EventHandlerProfiler.endTick();
+        }
+    }
+    
     @SubscribeEvent
     public static void registerCommands(RegisterCommandsEvent event) {
         
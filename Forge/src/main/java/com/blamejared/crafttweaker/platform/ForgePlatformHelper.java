@@ -72,6 +72,12 @@ import java.util.stream.Stream;
 
 public class ForgePlatformHelper implements IPlatformHelper {
     
+    /**
+     * The empty stack never changes, so every immutable wrapper of it can be the same instance.
+     * Crafting grids are mostly empty slots, which makes this the most common stack to wrap.
+     */
+    private static final IItemStack EMPTY_STACK = new MCItemStack(ItemStack.EMPTY);
+    
     private static final class Handles {
         
         private static final MethodHandle LMM_GETTER = HandleHelper.linkMethod(ForgeInternalHandler.class, "getLootModifierManager", LootModifierManager.class);
@@ -131,6 +137,9 @@ public class ForgePlatformHelper implements IPlatformHelper {
     @Override
     public IItemStack createMCItemStack(ItemStack stack) {
         
+        if(stack == ItemStack.EMPTY) {
+            return EMPTY_STACK;
+        }
         return new MCItemStack(stack);
     }
     
@@ -143,7 +152,7 @@ public class ForgePlatformHelper implements IPlatformHelper {
     @Override
     public IItemStack getEmptyIItemStack() {
         
-        return MCItemStack.EMPTY.get();
+        return EMPTY_STACK;
     }
     
     @Override
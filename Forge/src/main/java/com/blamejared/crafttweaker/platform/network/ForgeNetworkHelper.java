@@ -3,6 +3,7 @@ package com.blamejared.crafttweaker.platform.network;
 import com.blamejared.crafttweaker.impl.network.PacketHandler;
 import com.blamejared.crafttweaker.impl.network.message.MessageCopy;
 import com.blamejared.crafttweaker.impl.network.message.MessageOpen;
+import com.blamejared.crafttweaker.impl.network.message.MessageRecipeDelta;
 import com.blamejared.crafttweaker.platform.services.INetworkHelper;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.PacketDistributor;
@@ -21,4 +22,16 @@ public class ForgeNetworkHelper implements INetworkHelper {
         PacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> target), message);
     }
     
+    @Override
+    public void sendRecipeDeltaMessage(ServerPlayer target, MessageRecipeDelta message) {
+        
+        PacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> target), message);
+    }
+    
+    @Override
+    public boolean canSendMessages(ServerPlayer target) {
+        
+        return PacketHandler.CHANNEL.isRemotePresent(target.connection.getConnection());
+    }
+    
 }